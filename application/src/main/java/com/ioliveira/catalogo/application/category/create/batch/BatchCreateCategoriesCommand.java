@@ -0,0 +1,18 @@
+package com.ioliveira.catalogo.application.category.create.batch;
+
+import com.ioliveira.catalogo.application.category.create.CreateCategoryCommand;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Iterator;
+
+/**
+ * The categories to create, in request order, read lazily so the request body is never held in memory. An item that
+ * could not be read is a {@code Left} with the reason.
+ */
+public record BatchCreateCategoriesCommand(Iterator<Either<Notification, CreateCategoryCommand>> categories) {
+
+    public static BatchCreateCategoriesCommand with(final Iterator<Either<Notification, CreateCategoryCommand>> categories) {
+        return new BatchCreateCategoriesCommand(categories);
+    }
+}
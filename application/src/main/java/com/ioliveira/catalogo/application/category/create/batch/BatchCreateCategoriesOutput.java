@@ -0,0 +1,11 @@
+package com.ioliveira.catalogo.application.category.create.batch;
+
+import java.util.List;
+
+public record BatchCreateCategoriesOutput(int created, int failed, List<BatchCreateCategoryItem> items) {
+
+    public static BatchCreateCategoriesOutput from(final List<BatchCreateCategoryItem> items) {
+        final int created = (int) items.stream().filter(BatchCreateCategoryItem::isCreated).count();
+        return new BatchCreateCategoriesOutput(created, items.size() - created, items);
+    }
+}
@@ -0,0 +1,6 @@
+package com.ioliveira.catalogo.application.category.create.batch;
+
+import com.ioliveira.catalogo.application.UseCase;
+
+public abstract class BatchCreateCategoriesUseCase extends UseCase<BatchCreateCategoriesCommand, BatchCreateCategoriesOutput> {
+}
@@ -0,0 +1,21 @@
+package com.ioliveira.catalogo.application.category.create.batch;
+
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record BatchCreateCategoryItem(int index, String id, List<Error> errors) {
+
+    public static BatchCreateCategoryItem created(final int index, final String id) {
+        return new BatchCreateCategoryItem(index, id, List.of());
+    }
+
+    public static BatchCreateCategoryItem failed(final int index, final Notification notification) {
+        return new BatchCreateCategoryItem(index, null, List.copyOf(notification.getErrors()));
+    }
+
+    public boolean isCreated() {
+        return this.id != null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ioliveira.catalogo.application.category.create.batch;
+
+import com.ioliveira.catalogo.application.category.create.CreateCategoryCommand;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.Try;
+
+/**
+ * Validates every command on its own and inserts the valid ones in chunks of {@code chunkSize}, one transaction each.
+ * A chunk that fails to insert reports the failure on each of its items; the other chunks are kept. The commands are
+ * read one at a time, so only the current chunk and the result of each item are held in memory, whatever the size of
+ * the batch.
+ */
+public class DefaultBatchCreateCategoriesUseCase extends BatchCreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public DefaultBatchCreateCategoriesUseCase(final CategoryGateway categoryGateway, final int chunkSize) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public BatchCreateCategoriesOutput execute(final BatchCreateCategoriesCommand command) {
+        final List<BatchCreateCategoryItem> items = new ArrayList<>();
+        final List<Category> chunk = new ArrayList<>(this.chunkSize);
+        final List<Integer> positions = new ArrayList<>(this.chunkSize);
+        final Iterator<Either<Notification, CreateCategoryCommand>> categories = command.categories();
+
+        while (categories.hasNext()) {
+            final int index = items.size();
+            final Either<Notification, CreateCategoryCommand> next = categories.next();
+
+            if (next.isLeft()) {
+                items.add(BatchCreateCategoryItem.failed(index, next.getLeft()));
+                continue;
+            }
+
+            final CreateCategoryCommand categoryCommand = next.get();
+            final Notification notification = Notification.create();
+
+            final Category category = Category.newCategory(
+                    categoryCommand.name(), categoryCommand.description(), categoryCommand.isActive());
+            category.validate(notification);
+
+            if (notification.hasErrors()) {
+                items.add(BatchCreateCategoryItem.failed(index, notification));
+                continue;
+            }
+
+            // Filled in once its chunk is inserted.
+            items.add(null);
+            chunk.add(category);
+            positions.add(index);
+            if (chunk.size() == this.chunkSize) {
+                insert(chunk, positions, items);
+            }
+        }
+        insert(chunk, positions, items);
+
+        return BatchCreateCategoriesOutput.from(items);
+    }
+
+    private void insert(final List<Category> chunk, final List<Integer> positions,
+                        final List<BatchCreateCategoryItem> items) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Try(() -> this.categoryGateway.createAll(List.copyOf(chunk)))
+                .onSuccess(created -> {
+                    for (int j = 0; j < created.size(); j++) {
+                        final int index = positions.get(j);
+                        items.set(index, BatchCreateCategoryItem.created(index, created.get(j).getId().getValue()));
+                    }
+                })
+                .onFailure(throwable -> positions.forEach(index ->
+                        items.set(index, BatchCreateCategoryItem.failed(index, Notification.create(throwable)))));
+
+        chunk.clear();
+        positions.clear();
+    }
+}
@@ -0,0 +1,8 @@
+package com.ioliveira.catalogo.application.category.delete.batch;
+
+import com.ioliveira.catalogo.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class BatchDeleteCategoriesUseCase extends UnitUseCase<List<String>> {
+}
@@ -0,0 +1,28 @@
+package com.ioliveira.catalogo.application.category.delete.batch;
+
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBatchDeleteCategoriesUseCase extends BatchDeleteCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBatchDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        this.categoryGateway.deleteByIds(ids.stream()
+                .distinct()
+                .map(CategoryID::from)
+                .toList());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ioliveira.catalogo.application.category.export;
+
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GetCategoryByIdOutput> sink) {
+        this.categoryGateway.exportAll(category -> sink.accept(GetCategoryByIdOutput.with(category)));
+    }
+}
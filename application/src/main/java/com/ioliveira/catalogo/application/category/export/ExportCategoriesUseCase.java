@@ -0,0 +1,9 @@
+package com.ioliveira.catalogo.application.category.export;
+
+import com.ioliveira.catalogo.application.UnitUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase extends UnitUseCase<Consumer<GetCategoryByIdOutput>> {
+}
@@ -0,0 +1,41 @@
+package com.ioliveira.catalogo.application.category.retrieve.get;
+
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads up to {@value MAX_IDS} categories with one gateway call; IDs that do not exist are left out of the result.
+ */
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<GetCategoryByIdOutput> execute(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        final List<CategoryID> categoryIds = ids.stream()
+                .distinct()
+                .map(CategoryID::from)
+                .toList();
+
+        if (categoryIds.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' must have at most %d IDs".formatted(MAX_IDS)));
+        }
+
+        return this.categoryGateway.findByIds(categoryIds).stream()
+                .map(GetCategoryByIdOutput::with)
+                .toList();
+    }
+}
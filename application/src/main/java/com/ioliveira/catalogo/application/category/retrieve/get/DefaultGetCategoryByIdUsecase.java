@@ -19,7 +19,7 @@ public class DefaultGetCategoryByIdUsecase extends GetCategoryByIdUsecase {
     public GetCategoryByIdOutput execute(final String id) {
 
         return this.categoryGateway
-                .findById(CategoryID.from(id))
+                .findSnapshotById(CategoryID.from(id))
                 .map(GetCategoryByIdOutput::with)
                 .orElseThrow(() -> DomainException.with(new Error("Category with ID %s not found".formatted(id))));
     }
@@ -0,0 +1,10 @@
+package com.ioliveira.catalogo.application.category.retrieve.get;
+
+import com.ioliveira.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetCategoriesByIdsUseCase extends UseCase<List<String>, List<GetCategoryByIdOutput>> {
+
+    public static final int MAX_IDS = 100;
+}
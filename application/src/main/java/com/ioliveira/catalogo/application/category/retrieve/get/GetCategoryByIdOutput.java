@@ -2,14 +2,22 @@ package com.ioliveira.catalogo.application.category.retrieve.get;
 
 import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.category.CategorySnapshot;
 
 import java.time.Instant;
 
 public record GetCategoryByIdOutput(CategoryID id, String name, String description, boolean isActive,
-                                    Instant createdAt, Instant updatedAt, Instant deletedAt) {
+                                    Instant createdAt, Instant updatedAt, Instant deletedAt, Long version) {
 
     public static GetCategoryByIdOutput with(Category category) {
         return new GetCategoryByIdOutput(category.getId(), category.getName(), category.getDescription(),
-                category.isActive(), category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt());
+                category.isActive(), category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt(),
+                category.getVersion());
+    }
+
+    public static GetCategoryByIdOutput with(CategorySnapshot category) {
+        return new GetCategoryByIdOutput(category.id(), category.name(), category.description(),
+                category.active(), category.createdAt(), category.updatedAt(), category.deletedAt(),
+                category.version());
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.ioliveira.catalogo.application.category.retrieve.suggest;
+
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+
+public record CategorySuggestionOutput(CategoryID id, String name) {
+
+    public static CategorySuggestionOutput from(final Suggestion suggestion) {
+        return new CategorySuggestionOutput(CategoryID.from(suggestion.id()), suggestion.name());
+    }
+}
@@ -0,0 +1,27 @@
+package com.ioliveira.catalogo.application.category.retrieve.suggest;
+
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestCategoriesUseCase extends SuggestCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultSuggestCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<CategorySuggestionOutput> execute(final SuggestQuery query) {
+        if (query.prefix().isBlank()) {
+            return List.of();
+        }
+
+        return this.categoryGateway.suggest(query).stream()
+                .map(CategorySuggestionOutput::from)
+                .toList();
+    }
+}
@@ -4,6 +4,7 @@ import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import com.ioliveira.catalogo.domain.validation.Error;
 import com.ioliveira.catalogo.domain.validation.handler.Notification;
 import io.vavr.API;
@@ -31,6 +32,10 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
                 .findById(id)
                 .orElseThrow(() -> DomainException.with(new Error("Category with ID %s not found".formatted(id.getValue()))));
 
+        if (command.version() != null && !command.version().equals(category.getVersion())) {
+            throw VersionMismatchException.with(Category.class, id.getValue(), command.version());
+        }
+
         category.update(command.name(), command.description(), command.isActive()).validate(notification);
 
         return notification.hasErrors() ? Left(notification) : update(category);
@@ -38,6 +43,9 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     private Either<Notification, UpdateCategoryOutput> update(final Category category) {
         return API.Try(() -> this.categoryGateway.update(category))
+                .onFailure(VersionMismatchException.class, e -> {
+                    throw e;
+                })
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
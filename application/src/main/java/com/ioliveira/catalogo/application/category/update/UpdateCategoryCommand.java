@@ -1,11 +1,21 @@
 package com.ioliveira.catalogo.application.category.update;
 
-public record UpdateCategoryCommand(String id, String name, String description, boolean isActive) {
+/**
+ * {@code version} is the version the caller last read; when present the update only happens while the category is
+ * still at it.
+ */
+public record UpdateCategoryCommand(String id, String name, String description, boolean isActive, Long version) {
 
     public static UpdateCategoryCommand with(final String id, final String name,
                                              final String description, final boolean isActive) {
 
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return with(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(final String id, final String name,
+                                             final String description, final boolean isActive, final Long version) {
+
+        return new UpdateCategoryCommand(id, name, description, isActive, version);
     }
 
 }
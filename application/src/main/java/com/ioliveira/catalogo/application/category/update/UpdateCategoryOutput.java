@@ -2,14 +2,14 @@ package com.ioliveira.catalogo.application.category.update;
 
 import com.ioliveira.catalogo.domain.category.Category;
 
-public record UpdateCategoryOutput(String id) {
+public record UpdateCategoryOutput(String id, Long version) {
 
     public static UpdateCategoryOutput from(final String id) {
-        return new UpdateCategoryOutput(id);
+        return new UpdateCategoryOutput(id, null);
     }
 
     public static UpdateCategoryOutput from(final Category category) {
-        return new UpdateCategoryOutput(category.getId().getValue());
+        return new UpdateCategoryOutput(category.getId().getValue(), category.getVersion());
     }
 
 }
@@ -0,0 +1,10 @@
+package com.ioliveira.catalogo.application.genre.categories.add;
+
+import java.util.List;
+
+public record AddGenreCategoriesCommand(String genreId, List<String> categories) {
+
+    public static AddGenreCategoriesCommand with(final String genreId, final List<String> categories) {
+        return new AddGenreCategoriesCommand(genreId, categories != null ? categories : List.of());
+    }
+}
@@ -0,0 +1,6 @@
+package com.ioliveira.catalogo.application.genre.categories.add;
+
+import com.ioliveira.catalogo.application.UnitUseCase;
+
+public abstract class AddGenreCategoriesUseCase extends UnitUseCase<AddGenreCategoriesCommand> {
+}
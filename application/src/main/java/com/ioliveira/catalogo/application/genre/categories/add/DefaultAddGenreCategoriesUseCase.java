@@ -0,0 +1,65 @@
+package com.ioliveira.catalogo.application.genre.categories.add;
+
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
+import com.ioliveira.catalogo.domain.exceptions.NotificationException;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class DefaultAddGenreCategoriesUseCase extends AddGenreCategoriesUseCase {
+
+    private final GenreGateway genreGateway;
+    private final CategoryGateway categoryGateway;
+
+    public DefaultAddGenreCategoriesUseCase(final GenreGateway genreGateway,
+                                            final CategoryGateway categoryGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final AddGenreCategoriesCommand command) {
+        final List<CategoryID> categories = command.categories()
+                .stream()
+                .map(CategoryID::from)
+                .distinct()
+                .toList();
+
+        final Genre genre = this.genreGateway
+                .findByIdWithCategoriesIn(GenreID.from(command.genreId()), categories)
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Genre with ID %s not found".formatted(command.genreId())))
+                );
+
+        genre.addCategories(categories);
+
+        final List<CategoryID> added = new ArrayList<>(genre.getAddedCategories());
+        if (added.isEmpty()) {
+            return;
+        }
+
+        final List<CategoryID> found = this.categoryGateway.existsByIds(added);
+        if (found.size() != added.size()) {
+            added.removeAll(found);
+
+            final String missingIdsMessage = added.stream()
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+
+            final Notification notification = Notification.create();
+            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+            throw new NotificationException(notification);
+        }
+
+        this.genreGateway.update(genre);
+    }
+}
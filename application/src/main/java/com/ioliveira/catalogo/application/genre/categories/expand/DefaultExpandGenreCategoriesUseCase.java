@@ -0,0 +1,86 @@
+package com.ioliveira.catalogo.application.genre.categories.expand;
+
+import com.ioliveira.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the categories of every genre at once: one gateway call for the genres whose category IDs are not known
+ * yet and one for the distinct categories of all of them, instead of a lookup per genre and per category. Only the
+ * first {@code categoriesLimit} categories of the genres read here are resolved. Categories deleted in between are
+ * left out, and so are the genres themselves, which expand to no categories.
+ */
+public class DefaultExpandGenreCategoriesUseCase extends ExpandGenreCategoriesUseCase {
+
+    private final GenreGateway genreGateway;
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExpandGenreCategoriesUseCase(final GenreGateway genreGateway, final CategoryGateway categoryGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Map<String, ExpandGenreCategoriesOutput> execute(final ExpandGenreCategoriesCommand command) {
+        final Map<String, List<CategoryID>> categoryIds = new LinkedHashMap<>();
+        final List<GenreID> unknown = new ArrayList<>();
+
+        for (final String genreId : command.genreIds()) {
+            final List<String> known = command.knownCategories().get(genreId);
+            if (known != null) {
+                categoryIds.put(genreId, known.stream().map(CategoryID::from).toList());
+            } else {
+                unknown.add(GenreID.from(genreId));
+            }
+        }
+
+        final int limit = command.categoriesLimit();
+        final Set<String> truncated = new HashSet<>();
+        if (!unknown.isEmpty()) {
+            this.genreGateway.findByIds(unknown).forEach(genre -> {
+                final List<CategoryID> all = genre.getCategories();
+                if (limit >= 0 && all.size() > limit) {
+                    truncated.add(genre.getId().getValue());
+                    categoryIds.put(genre.getId().getValue(), all.subList(0, limit));
+                } else {
+                    categoryIds.put(genre.getId().getValue(), all);
+                }
+            });
+        }
+
+        final List<CategoryID> distinct = categoryIds.values().stream()
+                .flatMap(List::stream)
+                .distinct()
+                .toList();
+
+        final Map<CategoryID, CategoryListOutput> categories = distinct.isEmpty()
+                ? Map.of()
+                : this.categoryGateway.findByIds(distinct).stream()
+                        .collect(Collectors.toMap(Category::getId, CategoryListOutput::from));
+
+        final Map<String, ExpandGenreCategoriesOutput> expanded = new HashMap<>();
+        for (final String genreId : command.genreIds()) {
+            expanded.put(genreId, new ExpandGenreCategoriesOutput(
+                    categoryIds.getOrDefault(genreId, List.of()).stream()
+                            .map(categories::get)
+                            .filter(Objects::nonNull)
+                            .toList(),
+                    truncated.contains(genreId)
+            ));
+        }
+        return expanded;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ioliveira.catalogo.application.genre.categories.expand;
+
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @param genreIds        the genres whose categories are expanded
+ * @param knownCategories the category IDs of the genres that were already read, which are not read again
+ * @param categoriesLimit how many categories to expand per genre read here, or {@value #ALL_CATEGORIES} for all
+ */
+public record ExpandGenreCategoriesCommand(List<String> genreIds,
+                                           Map<String, List<String>> knownCategories,
+                                           int categoriesLimit) {
+
+    public static final String CATEGORIES = "categories";
+    public static final int ALL_CATEGORIES = -1;
+    public static final int DEFAULT_PAGE_CATEGORIES = 20;
+    public static final int MAX_PAGE_CATEGORIES = 100;
+
+    public static ExpandGenreCategoriesCommand with(final List<String> genreIds, final int categoriesLimit) {
+        return new ExpandGenreCategoriesCommand(genreIds, Map.of(), categoriesLimit);
+    }
+
+    /**
+     * Expands the categories of a genre that was already read; none when it was read without them.
+     */
+    public static ExpandGenreCategoriesCommand with(final String genreId, final List<String> categoryIds) {
+        return new ExpandGenreCategoriesCommand(
+                List.of(genreId),
+                Map.of(genreId, categoryIds == null ? List.of() : categoryIds),
+                ALL_CATEGORIES
+        );
+    }
+
+    /**
+     * Reads the expand option of the request: nothing, or {@code categories}.
+     */
+    public static boolean requested(final String expand) {
+        if (expand == null || expand.isBlank()) {
+            return false;
+        }
+        if (CATEGORIES.equalsIgnoreCase(expand.trim())) {
+            return true;
+        }
+        throw DomainException.with(new Error("'expand' must be categories"));
+    }
+
+    /**
+     * Reads how many categories to expand per genre of a page: {@code none} or a number, at most
+     * {@value #MAX_PAGE_CATEGORIES}; {@value #DEFAULT_PAGE_CATEGORIES} when not given.
+     */
+    public static int pageLimit(final String categories) {
+        if (categories == null || categories.isBlank()) {
+            return DEFAULT_PAGE_CATEGORIES;
+        }
+        if ("none".equalsIgnoreCase(categories.trim())) {
+            return 0;
+        }
+        if (categories.trim().matches("\\d{1,9}")) {
+            return Math.min(Integer.parseInt(categories.trim()), MAX_PAGE_CATEGORIES);
+        }
+        throw DomainException.with(new Error("'categories' must be none or a positive number"));
+    }
+}
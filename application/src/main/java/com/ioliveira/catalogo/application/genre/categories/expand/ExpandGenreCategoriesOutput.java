@@ -0,0 +1,12 @@
+package com.ioliveira.catalogo.application.genre.categories.expand;
+
+import com.ioliveira.catalogo.application.category.retrieve.list.CategoryListOutput;
+
+import java.util.List;
+
+/**
+ * @param categories     the categories of one genre, in the order of its links
+ * @param moreCategories whether the genre has more categories than the limit of the command let through
+ */
+public record ExpandGenreCategoriesOutput(List<CategoryListOutput> categories, boolean moreCategories) {
+}
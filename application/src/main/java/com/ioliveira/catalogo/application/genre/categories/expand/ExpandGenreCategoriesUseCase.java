@@ -0,0 +1,9 @@
+package com.ioliveira.catalogo.application.genre.categories.expand;
+
+import com.ioliveira.catalogo.application.UseCase;
+
+import java.util.Map;
+
+public abstract class ExpandGenreCategoriesUseCase
+        extends UseCase<ExpandGenreCategoriesCommand, Map<String, ExpandGenreCategoriesOutput>> {
+}
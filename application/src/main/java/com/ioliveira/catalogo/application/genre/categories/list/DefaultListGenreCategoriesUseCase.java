@@ -0,0 +1,27 @@
+package com.ioliveira.catalogo.application.genre.categories.list;
+
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+
+public class DefaultListGenreCategoriesUseCase extends ListGenreCategoriesUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultListGenreCategoriesUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public Pagination<String> execute(final ListGenreCategoriesCommand command) {
+        return this.genreGateway
+                .findCategories(GenreID.from(command.genreId()), command.cursor(), command.perPage())
+                .map(page -> page.map(CategoryID::getValue))
+                .orElseThrow(() -> NotFoundException.with(Genre.class, command.genreId()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.ioliveira.catalogo.application.genre.categories.list;
+
+public record ListGenreCategoriesCommand(String genreId, String cursor, int perPage) {
+
+    public static final int MAX_PER_PAGE = 1_000;
+
+    public ListGenreCategoriesCommand {
+        perPage = Math.max(1, Math.min(perPage, MAX_PER_PAGE));
+    }
+
+    public static ListGenreCategoriesCommand with(final String genreId, final String cursor, final int perPage) {
+        return new ListGenreCategoriesCommand(genreId, cursor, perPage);
+    }
+}
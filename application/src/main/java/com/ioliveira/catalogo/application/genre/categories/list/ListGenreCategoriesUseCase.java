@@ -0,0 +1,7 @@
+package com.ioliveira.catalogo.application.genre.categories.list;
+
+import com.ioliveira.catalogo.application.UseCase;
+import com.ioliveira.catalogo.domain.pagination.Pagination;
+
+public abstract class ListGenreCategoriesUseCase extends UseCase<ListGenreCategoriesCommand, Pagination<String>> {
+}
@@ -0,0 +1,41 @@
+package com.ioliveira.catalogo.application.genre.categories.remove;
+
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultRemoveGenreCategoriesUseCase extends RemoveGenreCategoriesUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultRemoveGenreCategoriesUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final RemoveGenreCategoriesCommand command) {
+        final List<CategoryID> categories = command.categories()
+                .stream()
+                .map(CategoryID::from)
+                .distinct()
+                .toList();
+
+        final Genre genre = this.genreGateway
+                .findByIdWithCategoriesIn(GenreID.from(command.genreId()), categories)
+                .orElseThrow(() -> NotFoundException.with(
+                        new Error("Genre with ID %s not found".formatted(command.genreId())))
+                );
+
+        categories.forEach(genre::removeCategory);
+
+        if (!genre.getRemovedCategories().isEmpty()) {
+            this.genreGateway.update(genre);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.ioliveira.catalogo.application.genre.categories.remove;
+
+import java.util.List;
+
+public record RemoveGenreCategoriesCommand(String genreId, List<String> categories) {
+
+    public static RemoveGenreCategoriesCommand with(final String genreId, final List<String> categories) {
+        return new RemoveGenreCategoriesCommand(genreId, categories != null ? categories : List.of());
+    }
+}
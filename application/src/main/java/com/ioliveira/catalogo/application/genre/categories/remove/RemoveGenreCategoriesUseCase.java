@@ -0,0 +1,6 @@
+package com.ioliveira.catalogo.application.genre.categories.remove;
+
+import com.ioliveira.catalogo.application.UnitUseCase;
+
+public abstract class RemoveGenreCategoriesUseCase extends UnitUseCase<RemoveGenreCategoriesCommand> {
+}
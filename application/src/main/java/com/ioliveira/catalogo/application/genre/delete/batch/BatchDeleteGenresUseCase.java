@@ -0,0 +1,8 @@
+package com.ioliveira.catalogo.application.genre.delete.batch;
+
+import com.ioliveira.catalogo.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class BatchDeleteGenresUseCase extends UnitUseCase<List<String>> {
+}
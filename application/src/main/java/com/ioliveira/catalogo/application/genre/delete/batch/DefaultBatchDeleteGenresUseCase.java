@@ -0,0 +1,28 @@
+package com.ioliveira.catalogo.application.genre.delete.batch;
+
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultBatchDeleteGenresUseCase extends BatchDeleteGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultBatchDeleteGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        this.genreGateway.deleteByIds(ids.stream()
+                .distinct()
+                .map(GenreID::from)
+                .toList());
+    }
+}
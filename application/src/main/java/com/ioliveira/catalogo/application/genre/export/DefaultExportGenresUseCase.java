@@ -0,0 +1,21 @@
+package com.ioliveira.catalogo.application.genre.export;
+
+import com.ioliveira.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultExportGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GenreOutput> sink) {
+        this.genreGateway.exportAll(genre -> sink.accept(GenreOutput.from(genre)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.ioliveira.catalogo.application.genre.export;
+
+import com.ioliveira.catalogo.application.UnitUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.get.GenreOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportGenresUseCase extends UnitUseCase<Consumer<GenreOutput>> {
+}
@@ -0,0 +1,146 @@
+package com.ioliveira.catalogo.application.genre.imports;
+
+import com.ioliveira.catalogo.application.genre.create.CreateGenreCommand;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static io.vavr.API.Try;
+
+/**
+ * Reads the genres one line at a time and writes them in chunks of {@code chunkSize}: one existsByIds for all the
+ * categories of a chunk and one batched transaction for its genres and links. Only the current chunk is kept in
+ * memory, whatever the number of lines.
+ */
+public class DefaultImportGenresUseCase extends ImportGenresUseCase {
+
+    private final GenreGateway genreGateway;
+    private final CategoryGateway categoryGateway;
+    private final int chunkSize;
+
+    public DefaultImportGenresUseCase(final GenreGateway genreGateway,
+                                      final CategoryGateway categoryGateway,
+                                      final int chunkSize) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public ImportGenresOutput execute(final ImportGenresCommand command) {
+        final Progress progress = new Progress(command.listener());
+        final List<Line> chunk = new ArrayList<>(this.chunkSize);
+        final Iterator<Either<Notification, CreateGenreCommand>> genres = command.genres();
+
+        while (genres.hasNext()) {
+            final long line = ++progress.processed;
+            final Either<Notification, CreateGenreCommand> next = genres.next();
+
+            if (next.isLeft()) {
+                progress.fail(line, next.getLeft());
+                continue;
+            }
+
+            final Notification notification = Notification.create();
+            final CreateGenreCommand genreCommand = next.get();
+            final Genre genre = notification.validate(() -> Genre.newGenre(genreCommand.name(), genreCommand.active()));
+
+            if (notification.hasErrors()) {
+                progress.fail(line, notification);
+                continue;
+            }
+
+            chunk.add(new Line(line, genre, genreCommand.categories().stream()
+                    .map(CategoryID::from)
+                    .collect(Collectors.toCollection(LinkedHashSet::new))));
+
+            if (chunk.size() == this.chunkSize) {
+                write(chunk, progress);
+            }
+        }
+        write(chunk, progress);
+
+        return progress.snapshot();
+    }
+
+    private void write(final List<Line> chunk, final Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        final Set<CategoryID> requested = new LinkedHashSet<>();
+        chunk.forEach(line -> requested.addAll(line.categories()));
+
+        final Set<CategoryID> found = requested.isEmpty()
+                ? Set.of()
+                : new HashSet<>(this.categoryGateway.existsByIds(requested));
+
+        final List<Line> valid = new ArrayList<>(chunk.size());
+        for (final Line line : chunk) {
+            final String missing = line.categories().stream()
+                    .filter(id -> !found.contains(id))
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+
+            if (!missing.isEmpty()) {
+                progress.fail(line.number(), Notification.create(
+                        new Error("Some categories could not be found: %s".formatted(missing))));
+                continue;
+            }
+
+            line.genre().addCategories(List.copyOf(line.categories()));
+            valid.add(line);
+        }
+
+        if (!valid.isEmpty()) {
+            Try(() -> this.genreGateway.createAll(valid.stream().map(Line::genre).toList()))
+                    .onSuccess(created -> progress.created += created.size())
+                    .onFailure(throwable -> valid.forEach(line ->
+                            progress.fail(line.number(), Notification.create(throwable))));
+        }
+
+        chunk.clear();
+        progress.report();
+    }
+
+    private record Line(long number, Genre genre, Set<CategoryID> categories) {
+    }
+
+    private static final class Progress {
+
+        private final ImportGenresListener listener;
+        private long processed;
+        private long created;
+        private long failed;
+
+        private Progress(final ImportGenresListener listener) {
+            this.listener = Objects.requireNonNull(listener);
+        }
+
+        private void fail(final long line, final Notification notification) {
+            this.failed++;
+            this.listener.onFailure(ImportGenreFailure.from(line, notification));
+        }
+
+        private void report() {
+            this.listener.onProgress(snapshot());
+        }
+
+        private ImportGenresOutput snapshot() {
+            return new ImportGenresOutput(this.processed, this.created, this.failed);
+        }
+    }
+}
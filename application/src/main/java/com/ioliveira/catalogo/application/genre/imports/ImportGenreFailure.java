@@ -0,0 +1,13 @@
+package com.ioliveira.catalogo.application.genre.imports;
+
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+
+public record ImportGenreFailure(long line, List<Error> errors) {
+
+    public static ImportGenreFailure from(final long line, final Notification notification) {
+        return new ImportGenreFailure(line, List.copyOf(notification.getErrors()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.ioliveira.catalogo.application.genre.imports;
+
+import com.ioliveira.catalogo.application.genre.create.CreateGenreCommand;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Iterator;
+
+/**
+ * The genres to import, one per line, read lazily so the source is never held in memory. A line that could not
+ * be read is a {@code Left} with the reason.
+ */
+public record ImportGenresCommand(
+        Iterator<Either<Notification, CreateGenreCommand>> genres,
+        ImportGenresListener listener
+) {
+
+    public static ImportGenresCommand with(final Iterator<Either<Notification, CreateGenreCommand>> genres,
+                                           final ImportGenresListener listener) {
+        return new ImportGenresCommand(genres, listener);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ioliveira.catalogo.application.genre.imports;
+
+/**
+ * Receives the outcome of an import while it runs: each rejected line as soon as it is known and the counters
+ * after every chunk.
+ */
+public interface ImportGenresListener {
+
+    void onFailure(ImportGenreFailure failure);
+
+    void onProgress(ImportGenresOutput progress);
+}
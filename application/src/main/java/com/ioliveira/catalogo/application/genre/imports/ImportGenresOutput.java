@@ -0,0 +1,4 @@
+package com.ioliveira.catalogo.application.genre.imports;
+
+public record ImportGenresOutput(long processed, long created, long failed) {
+}
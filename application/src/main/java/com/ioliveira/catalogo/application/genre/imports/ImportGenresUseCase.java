@@ -0,0 +1,6 @@
+package com.ioliveira.catalogo.application.genre.imports;
+
+import com.ioliveira.catalogo.application.UseCase;
+
+public abstract class ImportGenresUseCase extends UseCase<ImportGenresCommand, ImportGenresOutput> {
+}
@@ -16,11 +16,21 @@ public class DefaultGetGenreByIdUseCase extends GetGenreByIdUseCase {
     }
 
     @Override
-    public GenreOutput execute(final String id) {
+    public GenreOutput execute(final GetGenreByIdCommand command) {
+        final GenreID id = GenreID.from(command.id());
 
+        if (command.allCategories()) {
+            return this.genreGateway
+                    .findSnapshotById(id)
+                    .map(GenreOutput::from)
+                    .orElseThrow(() -> NotFoundException.with(Genre.class, command.id()));
+        }
+
+        // One link past the limit tells whether the inlined categories are all of them.
+        final int limit = command.categoriesLimit();
         return this.genreGateway
-                .findById(GenreID.from(id))
-                .map(GenreOutput::from)
-                .orElseThrow(() -> NotFoundException.with(Genre.class, id));
+                .findByIdWithFirstCategories(id, limit == 0 ? 0 : limit + 1)
+                .map(genre -> GenreOutput.from(genre, limit))
+                .orElseThrow(() -> NotFoundException.with(Genre.class, command.id()));
     }
 }
@@ -0,0 +1,42 @@
+package com.ioliveira.catalogo.application.genre.retrieve.get;
+
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads up to {@value MAX_IDS} genres with all of their categories in one gateway call; IDs that do not exist are
+ * left out of the result.
+ */
+public class DefaultGetGenresByIdsUseCase extends GetGenresByIdsUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultGetGenresByIdsUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<GenreOutput> execute(final List<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        final List<GenreID> genreIds = ids.stream()
+                .distinct()
+                .map(GenreID::from)
+                .toList();
+
+        if (genreIds.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' must have at most %d IDs".formatted(MAX_IDS)));
+        }
+
+        return this.genreGateway.findByIds(genreIds).stream()
+                .map(GenreOutput::from)
+                .toList();
+    }
+}
@@ -2,6 +2,7 @@ package com.ioliveira.catalogo.application.genre.retrieve.get;
 
 import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreSnapshot;
 
 import java.time.Instant;
 import java.util.List;
@@ -10,9 +11,11 @@ public record GenreOutput(String id,
                           String name,
                           boolean active,
                           List<String> categories,
+                          Boolean moreCategories,
                           Instant createdAt,
                           Instant updatedAt,
-                          Instant deletedAt
+                          Instant deletedAt,
+                          Long version
 ) {
 
     public static GenreOutput from(final Genre genre) {
@@ -21,9 +24,48 @@ public record GenreOutput(String id,
                 genre.getName(),
                 genre.isActive(),
                 genre.getCategories().stream().map(CategoryID::getValue).toList(),
+                null,
                 genre.getCreatedAt(),
                 genre.getUpdatedAt(),
-                genre.getDeletedAt()
+                genre.getDeletedAt(),
+                genre.getVersion()
+        );
+    }
+
+    public static GenreOutput from(final GenreSnapshot genre) {
+        return new GenreOutput(
+                genre.id().getValue(),
+                genre.name(),
+                genre.active(),
+                genre.categories().stream().map(CategoryID::getValue).toList(),
+                null,
+                genre.createdAt(),
+                genre.updatedAt(),
+                genre.deletedAt(),
+                genre.version()
+        );
+    }
+
+    /**
+     * Inlines at most {@code limit} categories of a genre loaded with one more than that, flagging whether more exist;
+     * a limit of zero omits them.
+     */
+    public static GenreOutput from(final Genre genre, final int limit) {
+        final List<String> categories = genre.getCategories().stream()
+                .limit(limit)
+                .map(CategoryID::getValue)
+                .toList();
+
+        return new GenreOutput(
+                genre.getId().getValue(),
+                genre.getName(),
+                genre.isActive(),
+                limit == 0 ? null : categories,
+                limit == 0 ? null : genre.getCategories().size() > limit,
+                genre.getCreatedAt(),
+                genre.getUpdatedAt(),
+                genre.getDeletedAt(),
+                genre.getVersion()
         );
     }
 }
@@ -0,0 +1,38 @@
+package com.ioliveira.catalogo.application.genre.retrieve.get;
+
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+public record GetGenreByIdCommand(String id, int categoriesLimit) {
+
+    public static final int ALL_CATEGORIES = -1;
+    public static final int MAX_CATEGORIES_LIMIT = 1_000;
+
+    public GetGenreByIdCommand {
+        categoriesLimit = categoriesLimit < 0 ? ALL_CATEGORIES : Math.min(categoriesLimit, MAX_CATEGORIES_LIMIT);
+    }
+
+    public static GetGenreByIdCommand with(final String id) {
+        return new GetGenreByIdCommand(id, ALL_CATEGORIES);
+    }
+
+    /**
+     * Reads the categories mode of the request: {@code all}, {@code none} or how many category IDs to inline.
+     */
+    public static GetGenreByIdCommand with(final String id, final String categories) {
+        if (categories == null || categories.isBlank() || "all".equalsIgnoreCase(categories)) {
+            return with(id);
+        }
+        if ("none".equalsIgnoreCase(categories)) {
+            return new GetGenreByIdCommand(id, 0);
+        }
+        if (categories.trim().matches("\\d{1,9}")) {
+            return new GetGenreByIdCommand(id, Integer.parseInt(categories.trim()));
+        }
+        throw DomainException.with(new Error("'categories' must be all, none or a positive number"));
+    }
+
+    public boolean allCategories() {
+        return this.categoriesLimit == ALL_CATEGORIES;
+    }
+}
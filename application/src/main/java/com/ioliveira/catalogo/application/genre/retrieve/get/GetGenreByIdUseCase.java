@@ -2,5 +2,5 @@ package com.ioliveira.catalogo.application.genre.retrieve.get;
 
 import com.ioliveira.catalogo.application.UseCase;
 
-public abstract class GetGenreByIdUseCase extends UseCase<String, GenreOutput> {
+public abstract class GetGenreByIdUseCase extends UseCase<GetGenreByIdCommand, GenreOutput> {
 }
@@ -0,0 +1,10 @@
+package com.ioliveira.catalogo.application.genre.retrieve.get;
+
+import com.ioliveira.catalogo.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetGenresByIdsUseCase extends UseCase<List<String>, List<GenreOutput>> {
+
+    public static final int MAX_IDS = 100;
+}
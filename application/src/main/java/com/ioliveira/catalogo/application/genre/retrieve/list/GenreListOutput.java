@@ -1,16 +1,13 @@
 package com.ioliveira.catalogo.application.genre.retrieve.list;
 
-import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.genre.Genre;
 
 import java.time.Instant;
-import java.util.List;
 
 public record GenreListOutput(
         String id,
         String name,
         boolean active,
-        List<String> categories,
         Instant createdAt,
         Instant deletedAt
 ) {
@@ -20,7 +17,6 @@ public record GenreListOutput(
                 genre.getId().getValue(),
                 genre.getName(),
                 genre.isActive(),
-                genre.getCategories().stream().map(CategoryID::getValue).toList(),
                 genre.getCreatedAt(),
                 genre.getDeletedAt());
     }
@@ -0,0 +1,27 @@
+package com.ioliveira.catalogo.application.genre.retrieve.suggest;
+
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultSuggestGenresUseCase extends SuggestGenresUseCase {
+
+    private final GenreGateway genreGateway;
+
+    public DefaultSuggestGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<GenreSuggestionOutput> execute(final SuggestQuery query) {
+        if (query.prefix().isBlank()) {
+            return List.of();
+        }
+
+        return this.genreGateway.suggest(query).stream()
+                .map(GenreSuggestionOutput::from)
+                .toList();
+    }
+}
@@ -0,0 +1,10 @@
+package com.ioliveira.catalogo.application.genre.retrieve.suggest;
+
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+
+public record GenreSuggestionOutput(String id, String name) {
+
+    public static GenreSuggestionOutput from(final Suggestion suggestion) {
+        return new GenreSuggestionOutput(suggestion.id(), suggestion.name());
+    }
+}
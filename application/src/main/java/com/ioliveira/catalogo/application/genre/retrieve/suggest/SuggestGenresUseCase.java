@@ -0,0 +1,9 @@
+package com.ioliveira.catalogo.application.genre.retrieve.suggest;
+
+import com.ioliveira.catalogo.application.UseCase;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+
+import java.util.List;
+
+public abstract class SuggestGenresUseCase extends UseCase<SuggestQuery, List<GenreSuggestionOutput>> {
+}
@@ -4,6 +4,7 @@ import com.ioliveira.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
 import com.ioliveira.catalogo.domain.exceptions.NotificationException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import com.ioliveira.catalogo.domain.genre.Genre;
 import com.ioliveira.catalogo.domain.genre.GenreGateway;
 import com.ioliveira.catalogo.domain.genre.GenreID;
@@ -40,6 +41,10 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
                         new Error("Genre with ID %s not found".formatted(updateGenreCommand.id())))
                 );
 
+        if (updateGenreCommand.version() != null && !updateGenreCommand.version().equals(genre.getVersion())) {
+            throw VersionMismatchException.with(Genre.class, updateGenreCommand.id(), updateGenreCommand.version());
+        }
+
         final Notification notification = Notification.create();
         validateCategories(categoryIDS, notification);
 
@@ -2,10 +2,20 @@ package com.ioliveira.catalogo.application.genre.update;
 
 import java.util.List;
 
-public record UpdateGenreCommand(String id, String name, boolean active, List<String> categories) {
+/**
+ * {@code version} is the version the caller last read; when present the update only happens while the genre is
+ * still at it.
+ */
+public record UpdateGenreCommand(String id, String name, boolean active, List<String> categories, Long version) {
 
     public static UpdateGenreCommand with(final String id, final String name, final Boolean active, final List<String> categories) {
 
-        return new UpdateGenreCommand(id, name, active != null ? active : true, categories);
+        return with(id, name, active, categories, null);
+    }
+
+    public static UpdateGenreCommand with(final String id, final String name, final Boolean active,
+                                          final List<String> categories, final Long version) {
+
+        return new UpdateGenreCommand(id, name, active != null ? active : true, categories, version);
     }
 }
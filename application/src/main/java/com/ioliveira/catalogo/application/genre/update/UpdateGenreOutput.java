@@ -2,9 +2,9 @@ package com.ioliveira.catalogo.application.genre.update;
 
 import com.ioliveira.catalogo.domain.genre.Genre;
 
-public record UpdateGenreOutput(String id) {
+public record UpdateGenreOutput(String id, Long version) {
 
     public static UpdateGenreOutput from(final Genre genre) {
-        return new UpdateGenreOutput(genre.getId().getValue());
+        return new UpdateGenreOutput(genre.getId().getValue(), genre.getVersion());
     }
 }
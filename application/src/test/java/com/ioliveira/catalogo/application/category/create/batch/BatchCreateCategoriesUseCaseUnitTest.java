@@ -0,0 +1,170 @@
+package com.ioliveira.catalogo.application.category.create.batch;
+
+import com.ioliveira.catalogo.application.category.create.CreateCategoryCommand;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchCreateCategoriesUseCaseUnitTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsBatchCreate_shouldInsertThemInChunks() {
+        final var useCase = new DefaultBatchCreateCategoriesUseCase(categoryGateway, 2);
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true),
+                CreateCategoryCommand.with("Documentários", null, false)
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commandOf(commands));
+
+        assertEquals(3, output.created());
+        assertEquals(0, output.failed());
+        output.items().forEach(item -> assertNotNull(item.id()));
+
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 2));
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 1));
+    }
+
+    @Test
+    public void givenAnInvalidCommand_whenCallsBatchCreate_shouldReportItAndInsertTheOthers() {
+        final var useCase = new DefaultBatchCreateCategoriesUseCase(categoryGateway, 10);
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commandOf(commands));
+
+        assertEquals(2, output.created());
+        assertEquals(1, output.failed());
+
+        final var failed = output.items().get(1);
+        assertEquals(1, failed.index());
+        assertNull(failed.id());
+        assertEquals(expectedErrorMessage, failed.errors().get(0).message());
+
+        verify(categoryGateway, times(1)).createAll(argThat(chunk ->
+                chunk.stream().map(Category::getName).toList().equals(List.of("Filmes", "Séries"))
+        ));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsBatchCreate_shouldFailOnlyThatChunk() {
+        final var useCase = new DefaultBatchCreateCategoriesUseCase(categoryGateway, 1);
+        final var expectedErrorMessage = "Gateway error";
+
+        final var commands = List.of(
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Séries", null, true)
+        );
+
+        when(categoryGateway.createAll(any()))
+                .thenThrow(new IllegalStateException(expectedErrorMessage))
+                .thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commandOf(commands));
+
+        assertEquals(1, output.created());
+        assertEquals(1, output.failed());
+        assertEquals(expectedErrorMessage, output.items().get(0).errors().get(0).message());
+        assertTrue(output.items().get(1).isCreated());
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsBatchCreate_shouldNotCallTheGateway() {
+        final var useCase = new DefaultBatchCreateCategoriesUseCase(categoryGateway, 10);
+
+        final var output = useCase.execute(commandOf(List.of(CreateCategoryCommand.with(" ", null, true))));
+
+        assertEquals(0, output.created());
+        assertEquals(1, output.failed());
+
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenMoreCommandsThanSomeChunks_whenCallsBatchCreate_shouldInsertEveryChunk() {
+        final var useCase = new DefaultBatchCreateCategoriesUseCase(categoryGateway, 500);
+        final var commands = IntStream.range(0, 2_250)
+                .mapToObj(i -> CreateCategoryCommand.with("Categoria " + i, null, true))
+                .toList();
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(commandOf(commands));
+
+        assertEquals(2_250, output.created());
+        assertEquals(2_249, output.items().get(2_249).index());
+        verify(categoryGateway, times(4)).createAll(argThat(chunk -> chunk.size() == 500));
+        verify(categoryGateway, times(1)).createAll(argThat(chunk -> chunk.size() == 250));
+    }
+
+    @Test
+    public void givenAnUnreadableItem_whenCallsBatchCreate_shouldReportItAtItsIndex() {
+        final var expectedErrorMessage = "Item is not valid JSON";
+        final var useCase = new DefaultBatchCreateCategoriesUseCase(categoryGateway, 10);
+
+        final List<Either<Notification, CreateCategoryCommand>> categories = List.of(
+                Right(CreateCategoryCommand.with("Filmes", null, true)),
+                Left(Notification.create(new Error(expectedErrorMessage)))
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(BatchCreateCategoriesCommand.with(categories.iterator()));
+
+        assertEquals(1, output.created());
+        assertEquals(1, output.failed());
+        assertEquals(1, output.items().get(1).index());
+        assertEquals(expectedErrorMessage, output.items().get(1).errors().get(0).message());
+    }
+
+    private static BatchCreateCategoriesCommand commandOf(final List<CreateCategoryCommand> commands) {
+        return BatchCreateCategoriesCommand.with(commands.stream()
+                .map(command -> Either.<Notification, CreateCategoryCommand>right(command))
+                .iterator());
+    }
+}
@@ -0,0 +1,50 @@
+package com.ioliveira.catalogo.application.category.delete.batch;
+
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchDeleteCategoriesUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultBatchDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    public void givenSeveralIds_whenCallsBatchDelete_thenShouldDeleteEachIdOnce() {
+        doNothing().when(categoryGateway).deleteByIds(any());
+
+        useCase.execute(List.of("123", "456", "123"));
+
+        verify(categoryGateway, times(1)).deleteByIds(List.of(CategoryID.from("123"), CategoryID.from("456")));
+    }
+
+    @Test
+    public void givenNoIds_whenCallsBatchDelete_thenShouldNotCallTheGateway() {
+        useCase.execute(List.of());
+
+        verify(categoryGateway, never()).deleteByIds(any());
+    }
+}
@@ -0,0 +1,54 @@
+package com.ioliveira.catalogo.application.category.export;
+
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    public void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    public void givenCategories_whenCallsExportCategories_thenShouldHandEachOneToTheSinkInOrder() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Séries", null, false)
+        );
+
+        doAnswer(invocation -> {
+            final Consumer<Category> action = invocation.getArgument(0);
+            categories.forEach(action);
+            return null;
+        }).when(categoryGateway).exportAll(any());
+
+        final var exported = new ArrayList<GetCategoryByIdOutput>();
+        useCase.execute(exported::add);
+
+        assertEquals(categories.stream().map(GetCategoryByIdOutput::with).toList(), exported);
+    }
+}
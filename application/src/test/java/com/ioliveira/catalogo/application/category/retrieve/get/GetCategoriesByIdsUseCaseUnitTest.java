@@ -0,0 +1,73 @@
+package com.ioliveira.catalogo.application.category.retrieve.get;
+
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoriesByIdsUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    public void givenSeveralIds_whenCallsGetCategoriesByIds_thenShouldReadThemOnceWithOneCall() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var expectedIds = List.of(series.getId(), filmes.getId());
+
+        when(categoryGateway.findByIds(expectedIds)).thenReturn(List.of(series, filmes));
+
+        final var output = useCase.execute(List.of(
+                series.getId().getValue(), filmes.getId().getValue(), series.getId().getValue()));
+
+        assertEquals(expectedIds, output.stream().map(GetCategoryByIdOutput::id).toList());
+        assertEquals("Séries", output.get(0).name());
+    }
+
+    @Test
+    public void givenNoIds_whenCallsGetCategoriesByIds_thenShouldReturnEmptyWithoutReading() {
+        final var output = useCase.execute(List.of());
+
+        assertTrue(output.isEmpty());
+        verify(categoryGateway, never()).findByIds(any());
+    }
+
+    @Test
+    public void givenMoreThanTheMaximumIds_whenCallsGetCategoriesByIds_thenShouldReturnDomainException() {
+        final var expectedErrorMessage = "'ids' must have at most 100 IDs";
+        final var ids = IntStream.range(0, 101).mapToObj(i -> CategoryID.unique().getValue()).toList();
+
+        final var exception = assertThrows(DomainException.class, () -> useCase.execute(ids));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(categoryGateway, never()).findByIds(any());
+    }
+}
@@ -3,6 +3,7 @@ package com.ioliveira.catalogo.application.category.retrieve.get;
 import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.category.CategorySnapshot;
 import com.ioliveira.catalogo.domain.exceptions.DomainException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,7 +43,7 @@ public class GetCategoryByIdUsecaseUnitTest {
         final var category = Category.newCategory(expectedName, expectedDescription, expectedIsActive);
         final var expectedId = category.getId();
 
-        when(categoryGateway.findById(expectedId)).thenReturn(Optional.of(category.clone()));
+        when(categoryGateway.findSnapshotById(expectedId)).thenReturn(Optional.of(CategorySnapshot.from(category)));
 
         final var output = useCase.execute(expectedId.getValue());
 
@@ -56,7 +57,7 @@ public class GetCategoryByIdUsecaseUnitTest {
         final var expectedErrorMessage = "Category with ID 123 not found";
         final var expectedId = CategoryID.from("123");
 
-        when(categoryGateway.findById(expectedId)).thenReturn(Optional.empty());
+        when(categoryGateway.findSnapshotById(expectedId)).thenReturn(Optional.empty());
 
         final var exception = assertThrows(DomainException.class, () -> useCase.execute(expectedId.getValue()));
 
@@ -68,7 +69,7 @@ public class GetCategoryByIdUsecaseUnitTest {
         final var expectedErrorMessage = "Gateway error";
         final var expectedId = CategoryID.from("123");
 
-        when(categoryGateway.findById(expectedId)).thenThrow(new RuntimeException(expectedErrorMessage));
+        when(categoryGateway.findSnapshotById(expectedId)).thenThrow(new RuntimeException(expectedErrorMessage));
 
         final var exception = assertThrows(RuntimeException.class, () -> useCase.execute(expectedId.getValue()));
 
@@ -0,0 +1,66 @@
+package com.ioliveira.catalogo.application.category.retrieve.suggest;
+
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestCategoriesUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultSuggestCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestCategories_thenShouldReturnSuggestions() {
+        final var query = new SuggestQuery("fil", 5);
+        final var suggestions = List.of(new Suggestion("123", "Filmes"), new Suggestion("456", "Filmes de ação"));
+
+        when(categoryGateway.suggest(eq(query))).thenReturn(suggestions);
+
+        final var result = useCase.execute(query);
+
+        assertEquals(2, result.size());
+        assertEquals(CategoryID.from("123"), result.get(0).id());
+        assertEquals("Filmes de ação", result.get(1).name());
+    }
+
+    @Test
+    public void givenABlankPrefix_whenCallsSuggestCategories_thenShouldNotCallGateway() {
+        final var result = useCase.execute(new SuggestQuery(" ", 5));
+
+        assertTrue(result.isEmpty());
+        verify(categoryGateway, never()).suggest(any());
+    }
+
+    @Test
+    public void givenALimitAboveTheMaximum_whenCreatingQuery_thenShouldCapIt() {
+        assertEquals(SuggestQuery.MAX_LIMIT, new SuggestQuery("fil", 1_000).limit());
+        assertEquals(1, new SuggestQuery("fil", 0).limit());
+    }
+}
@@ -2,6 +2,7 @@ package com.ioliveira.catalogo.application.category.update;
 
 import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import com.ioliveira.catalogo.domain.validation.handler.Notification;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,11 +17,13 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -136,4 +139,38 @@ public class UpdateCategoryUsecaseUnitTest {
                         && Objects.nonNull(updatedCategory.getDeletedAt())
         ));
     }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateCategory_thenShouldThrowVersionMismatchWithoutWriting() {
+        final var stored = Category.newCategory("Film", null, true);
+        final var category = Category.with(stored.getId(), stored.getName(), stored.getDescription(), true,
+                stored.getCreatedAt(), stored.getUpdatedAt(), null, 4L);
+
+        final var expectedErrorMessage = "Category ID %s is not at version 3".formatted(category.getId().getValue());
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true, 3L);
+
+        when(categoryGateway.findById(eq(category.getId())))
+                .thenReturn(Optional.of(category));
+
+        final var exception = assertThrows(VersionMismatchException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAConcurrentWrite_whenCallsUpdateCategory_thenShouldThrowVersionMismatch() {
+        final var stored = Category.newCategory("Film", null, true);
+        final var category = Category.with(stored.getId(), stored.getName(), stored.getDescription(), true,
+                stored.getCreatedAt(), stored.getUpdatedAt(), null, 3L);
+
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true, 3L);
+
+        when(categoryGateway.findById(eq(category.getId())))
+                .thenReturn(Optional.of(category));
+        when(categoryGateway.update(any()))
+                .thenThrow(VersionMismatchException.with(Category.class, category.getId().getValue()));
+
+        assertThrows(VersionMismatchException.class, () -> useCase.execute(command));
+    }
 }
@@ -0,0 +1,119 @@
+package com.ioliveira.catalogo.application.genre.categories.add;
+
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
+import com.ioliveira.catalogo.domain.exceptions.NotificationException;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AddGenreCategoriesUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultAddGenreCategoriesUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(genreGateway);
+        reset(categoryGateway);
+    }
+
+    @Test
+    public void givenNewCategories_whenCallsAddGenreCategories_shouldValidateAndUpdateOnlyTheNewOnes() {
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var genre = Genre.with(Genre.newGenre("Ação", true).addCategory(filmes));
+        final var genreId = genre.getId();
+
+        final var command = AddGenreCategoriesCommand.with(genreId.getValue(), List.of("123", "456", "456"));
+
+        when(genreGateway.findByIdWithCategoriesIn(any(), any())).thenReturn(Optional.of(genre));
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(series));
+        when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        useCase.execute(command);
+
+        verify(genreGateway, times(1)).findByIdWithCategoriesIn(eq(genreId), eq(List.of(filmes, series)));
+        verify(categoryGateway, times(1)).existsByIds(eq(List.of(series)));
+        verify(genreGateway, times(1)).update(argThat(updatedGenre ->
+                Set.of(series).equals(updatedGenre.getAddedCategories())
+                        && updatedGenre.getRemovedCategories().isEmpty()
+        ));
+    }
+
+    @Test
+    public void givenOnlyLinkedCategories_whenCallsAddGenreCategories_shouldNotUpdate() {
+        final var filmes = CategoryID.from("123");
+        final var genre = Genre.with(Genre.newGenre("Ação", true).addCategory(filmes));
+
+        final var command = AddGenreCategoriesCommand.with(genre.getId().getValue(), List.of("123"));
+
+        when(genreGateway.findByIdWithCategoriesIn(any(), any())).thenReturn(Optional.of(genre));
+
+        useCase.execute(command);
+
+        verify(categoryGateway, never()).existsByIds(any());
+        verify(genreGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsAddGenreCategories_shouldReturnNotificationException() {
+        final var genre = Genre.newGenre("Ação", true);
+        final var expectedErrorMessage = "Some categories could not be found: 789";
+
+        final var command = AddGenreCategoriesCommand.with(genre.getId().getValue(), List.of("456", "789"));
+
+        when(genreGateway.findByIdWithCategoriesIn(any(), any())).thenReturn(Optional.of(genre));
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(CategoryID.from("456")));
+
+        final var exception = assertThrows(NotificationException.class, () -> useCase.execute(command));
+
+        assertEquals(1, exception.getErrors().size());
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(genreGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAnInvalidGenreId_whenCallsAddGenreCategories_shouldReturnNotFoundException() {
+        final var expectedErrorMessage = "Genre with ID 123 not found";
+
+        final var command = AddGenreCategoriesCommand.with("123", List.of("456"));
+
+        when(genreGateway.findByIdWithCategoriesIn(any(), any())).thenReturn(Optional.empty());
+
+        final var exception = assertThrows(NotFoundException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(categoryGateway, never()).existsByIds(any());
+        verify(genreGateway, never()).update(any());
+    }
+}
@@ -0,0 +1,146 @@
+package com.ioliveira.catalogo.application.genre.categories.expand;
+
+import com.ioliveira.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExpandGenreCategoriesUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultExpandGenreCategoriesUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(genreGateway, categoryGateway);
+    }
+
+    @Test
+    public void givenAPageOfGenres_whenCallsExpandGenreCategories_thenShouldReadEachCategoryOnceInOneCall() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var deleted = CategoryID.unique();
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(series.getId(), filmes.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(filmes.getId(), deleted));
+        final var missing = GenreID.unique();
+
+        final var genreIds = List.of(acao.getId(), drama.getId(), missing);
+        when(genreGateway.findByIds(genreIds)).thenReturn(List.of(acao, drama));
+        when(categoryGateway.findByIds(List.of(series.getId(), filmes.getId(), deleted)))
+                .thenReturn(List.of(series, filmes));
+
+        final var output = useCase.execute(ExpandGenreCategoriesCommand.with(
+                genreIds.stream().map(GenreID::getValue).toList(), ExpandGenreCategoriesCommand.ALL_CATEGORIES));
+
+        assertEquals(List.of(series.getId(), filmes.getId()), ids(output.get(acao.getId().getValue())));
+        assertEquals(List.of(filmes.getId()), ids(output.get(drama.getId().getValue())));
+        assertTrue(output.get(missing.getValue()).categories().isEmpty());
+    }
+
+    @Test
+    public void givenTheCategoryIdsOfAGenre_whenCallsExpandGenreCategories_thenShouldNotReadTheGenreAgain() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var genreId = GenreID.unique().getValue();
+
+        when(categoryGateway.findByIds(List.of(filmes.getId()))).thenReturn(List.of(filmes));
+
+        final var output = useCase.execute(ExpandGenreCategoriesCommand.with(genreId, List.of(filmes.getId().getValue())));
+
+        assertEquals("Filmes", output.get(genreId).categories().get(0).name());
+        verify(genreGateway, never()).findByIds(any());
+    }
+
+    @Test
+    public void givenGenresWithoutCategories_whenCallsExpandGenreCategories_thenShouldNotReadCategories() {
+        final var genreId = GenreID.unique().getValue();
+
+        final var output = useCase.execute(ExpandGenreCategoriesCommand.with(genreId, List.of()));
+        final var withoutIds = useCase.execute(ExpandGenreCategoriesCommand.with(genreId, null));
+
+        assertTrue(output.get(genreId).categories().isEmpty());
+        assertTrue(withoutIds.get(genreId).categories().isEmpty());
+        verify(categoryGateway, never()).findByIds(any());
+    }
+
+    @Test
+    public void givenAGenreWithMoreCategoriesThanTheLimit_whenCallsExpandGenreCategories_thenShouldResolveOnlyTheFirstOnes() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(filmes.getId()));
+
+        when(genreGateway.findByIds(List.of(acao.getId(), drama.getId()))).thenReturn(List.of(acao, drama));
+        when(categoryGateway.findByIds(List.of(filmes.getId()))).thenReturn(List.of(filmes));
+
+        final var output = useCase.execute(ExpandGenreCategoriesCommand.with(
+                List.of(acao.getId().getValue(), drama.getId().getValue()), 1));
+
+        assertEquals(List.of(filmes.getId()), ids(output.get(acao.getId().getValue())));
+        assertTrue(output.get(acao.getId().getValue()).moreCategories());
+        assertEquals(List.of(filmes.getId()), ids(output.get(drama.getId().getValue())));
+        assertFalse(output.get(drama.getId().getValue()).moreCategories());
+    }
+
+    @Test
+    public void givenACategoriesOption_whenCallsPageLimit_thenShouldCapIt() {
+        assertEquals(ExpandGenreCategoriesCommand.DEFAULT_PAGE_CATEGORIES, ExpandGenreCategoriesCommand.pageLimit(null));
+        assertEquals(0, ExpandGenreCategoriesCommand.pageLimit("none"));
+        assertEquals(5, ExpandGenreCategoriesCommand.pageLimit("5"));
+        assertEquals(ExpandGenreCategoriesCommand.MAX_PAGE_CATEGORIES, ExpandGenreCategoriesCommand.pageLimit("5000"));
+
+        final var exception = assertThrows(DomainException.class,
+                () -> ExpandGenreCategoriesCommand.pageLimit("all"));
+
+        assertEquals("'categories' must be none or a positive number", exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnExpandOption_whenCallsRequested_thenShouldAcceptOnlyCategories() {
+        assertFalse(ExpandGenreCategoriesCommand.requested(null));
+        assertFalse(ExpandGenreCategoriesCommand.requested(""));
+        assertTrue(ExpandGenreCategoriesCommand.requested("categories"));
+
+        final var exception = assertThrows(DomainException.class,
+                () -> ExpandGenreCategoriesCommand.requested("videos"));
+
+        assertEquals("'expand' must be categories", exception.getErrors().get(0).message());
+    }
+
+    private static List<CategoryID> ids(final ExpandGenreCategoriesOutput expanded) {
+        return expanded.categories().stream().map(CategoryListOutput::id).toList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ioliveira.catalogo.application.genre.categories.list;
+
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ListGenreCategoriesUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultListGenreCategoriesUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(genreGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsListGenreCategories_shouldReturnCategoryIds() {
+        final var expectedPage = new Pagination<>(0, 2, Pagination.UNKNOWN_TOTAL,
+                List.of(CategoryID.from("1"), CategoryID.from("2")), "next", true);
+
+        when(genreGateway.findCategories(any(), any(), anyInt())).thenReturn(Optional.of(expectedPage));
+
+        final var output = useCase.execute(ListGenreCategoriesCommand.with("123", "cursor", 2));
+
+        assertEquals(List.of("1", "2"), output.items());
+        assertEquals("next", output.nextCursor());
+        assertTrue(output.hasNext());
+
+        verify(genreGateway, times(1)).findCategories(eq(GenreID.from("123")), eq("cursor"), eq(2));
+    }
+
+    @Test
+    public void givenAPerPageAboveTheMaximum_whenCallsListGenreCategories_shouldClampIt() {
+        when(genreGateway.findCategories(any(), any(), anyInt()))
+                .thenReturn(Optional.of(new Pagination<>(0, 0, Pagination.UNKNOWN_TOTAL, List.of(), null, false)));
+
+        useCase.execute(ListGenreCategoriesCommand.with("123", null, 50_000));
+
+        verify(genreGateway, times(1))
+                .findCategories(eq(GenreID.from("123")), isNull(), eq(ListGenreCategoriesCommand.MAX_PER_PAGE));
+    }
+
+    @Test
+    public void givenAnInvalidGenreId_whenCallsListGenreCategories_shouldReturnNotFound() {
+        final var expectedErrorMessage = "Genre ID 123 was not found";
+
+        when(genreGateway.findCategories(any(), any(), anyInt())).thenReturn(Optional.empty());
+
+        final var exception = assertThrows(NotFoundException.class,
+                () -> useCase.execute(ListGenreCategoriesCommand.with("123", null, 10)));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+}
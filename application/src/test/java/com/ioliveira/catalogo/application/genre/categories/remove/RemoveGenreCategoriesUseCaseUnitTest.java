@@ -0,0 +1,88 @@
+package com.ioliveira.catalogo.application.genre.categories.remove;
+
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RemoveGenreCategoriesUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultRemoveGenreCategoriesUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(genreGateway);
+    }
+
+    @Test
+    public void givenLinkedCategories_whenCallsRemoveGenreCategories_shouldUpdateOnlyTheRemovedOnes() {
+        final var filmes = CategoryID.from("123");
+        final var genre = Genre.with(Genre.newGenre("Ação", true).addCategory(filmes));
+
+        final var command = RemoveGenreCategoriesCommand.with(genre.getId().getValue(), List.of("123", "456"));
+
+        when(genreGateway.findByIdWithCategoriesIn(any(), any())).thenReturn(Optional.of(genre));
+        when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        useCase.execute(command);
+
+        verify(genreGateway, times(1)).update(argThat(updatedGenre ->
+                Set.of(filmes).equals(updatedGenre.getRemovedCategories())
+                        && updatedGenre.getAddedCategories().isEmpty()
+                        && updatedGenre.getCategories().isEmpty()
+        ));
+    }
+
+    @Test
+    public void givenUnlinkedCategories_whenCallsRemoveGenreCategories_shouldNotUpdate() {
+        final var genre = Genre.newGenre("Ação", true);
+
+        final var command = RemoveGenreCategoriesCommand.with(genre.getId().getValue(), List.of("456"));
+
+        when(genreGateway.findByIdWithCategoriesIn(any(), any())).thenReturn(Optional.of(genre));
+
+        useCase.execute(command);
+
+        verify(genreGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAnInvalidGenreId_whenCallsRemoveGenreCategories_shouldReturnNotFoundException() {
+        final var expectedErrorMessage = "Genre with ID 123 not found";
+
+        final var command = RemoveGenreCategoriesCommand.with("123", List.of("456"));
+
+        when(genreGateway.findByIdWithCategoriesIn(any(), any())).thenReturn(Optional.empty());
+
+        final var exception = assertThrows(NotFoundException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(genreGateway, never()).update(any());
+    }
+}
@@ -0,0 +1,50 @@
+package com.ioliveira.catalogo.application.genre.delete.batch;
+
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class BatchDeleteGenresUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultBatchDeleteGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    public void cleanUp() {
+        reset(genreGateway);
+    }
+
+    @Test
+    public void givenSeveralIds_whenCallsBatchDelete_thenShouldDeleteEachIdOnce() {
+        doNothing().when(genreGateway).deleteByIds(any());
+
+        useCase.execute(List.of("123", "456", "123"));
+
+        verify(genreGateway, times(1)).deleteByIds(List.of(GenreID.from("123"), GenreID.from("456")));
+    }
+
+    @Test
+    public void givenNoIds_whenCallsBatchDelete_thenShouldNotCallTheGateway() {
+        useCase.execute(List.of());
+
+        verify(genreGateway, never()).deleteByIds(any());
+    }
+}
@@ -0,0 +1,60 @@
+package com.ioliveira.catalogo.application.genre.export;
+
+import com.ioliveira.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.reset;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportGenresUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultExportGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    public void cleanUp() {
+        reset(genreGateway);
+    }
+
+    @Test
+    public void givenGenres_whenCallsExportGenres_thenShouldHandEachOneWithAllCategoriesToTheSink() {
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(CategoryID.from("123"), CategoryID.from("456")));
+        final var drama = Genre.newGenre("Drama", false);
+
+        doAnswer(invocation -> {
+            final Consumer<Genre> action = invocation.getArgument(0);
+            List.of(acao, drama).forEach(action);
+            return null;
+        }).when(genreGateway).exportAll(any());
+
+        final var exported = new ArrayList<GenreOutput>();
+        useCase.execute(exported::add);
+
+        assertEquals(2, exported.size());
+        assertEquals(acao.getId().getValue(), exported.get(0).id());
+        assertEquals(List.of("123", "456"), exported.get(0).categories());
+        assertNull(exported.get(0).moreCategories());
+        assertEquals(drama.getId().getValue(), exported.get(1).id());
+        assertEquals(List.of(), exported.get(1).categories());
+    }
+}
@@ -0,0 +1,135 @@
+package com.ioliveira.catalogo.application.genre.imports;
+
+import com.ioliveira.catalogo.application.genre.create.CreateGenreCommand;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ImportGenresUseCaseUnitTest {
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private final List<ImportGenreFailure> failures = new ArrayList<>();
+    private final List<ImportGenresOutput> progress = new ArrayList<>();
+
+    private final ImportGenresListener listener = new ImportGenresListener() {
+        @Override
+        public void onFailure(final ImportGenreFailure failure) {
+            failures.add(failure);
+        }
+
+        @Override
+        public void onProgress(final ImportGenresOutput output) {
+            progress.add(output);
+        }
+    };
+
+    @BeforeEach
+    void cleanUp() {
+        reset(genreGateway);
+        reset(categoryGateway);
+        failures.clear();
+        progress.clear();
+    }
+
+    @Test
+    public void givenValidLines_whenCallsImportGenres_shouldWriteThemInChunks() {
+        final var useCase = new DefaultImportGenresUseCase(genreGateway, categoryGateway, 2);
+
+        final List<Either<Notification, CreateGenreCommand>> lines = List.of(
+                Right(CreateGenreCommand.with("Ação", true, List.of("1"))),
+                Right(CreateGenreCommand.with("Drama", true, List.of("1", "2"))),
+                Right(CreateGenreCommand.with("Terror", false, List.of()))
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(CategoryID.from("1"), CategoryID.from("2")));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(ImportGenresCommand.with(lines.iterator(), listener));
+
+        assertEquals(new ImportGenresOutput(3, 3, 0), output);
+        assertEquals(List.of(new ImportGenresOutput(2, 2, 0), new ImportGenresOutput(3, 3, 0)), progress);
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> ids instanceof Collection<CategoryID> requested
+                && Set.copyOf(requested).equals(Set.of(CategoryID.from("1"), CategoryID.from("2")))));
+        verify(genreGateway, times(1)).createAll(argThat(genres ->
+                genres.size() == 2 && genres.get(1).getCategories().equals(List.of(CategoryID.from("1"), CategoryID.from("2")))));
+        verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 1));
+    }
+
+    @Test
+    public void givenInvalidLines_whenCallsImportGenres_shouldReportThemByLineAndWriteTheOthers() {
+        final var useCase = new DefaultImportGenresUseCase(genreGateway, categoryGateway, 10);
+
+        final List<Either<Notification, CreateGenreCommand>> lines = List.of(
+                Left(Notification.create(new Error("Line is not valid JSON"))),
+                Right(CreateGenreCommand.with(null, true, List.of())),
+                Right(CreateGenreCommand.with("Drama", true, List.of("1", "404"))),
+                Right(CreateGenreCommand.with("Ação", true, List.of("1")))
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(CategoryID.from("1")));
+        when(genreGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var output = useCase.execute(ImportGenresCommand.with(lines.iterator(), listener));
+
+        assertEquals(new ImportGenresOutput(4, 1, 3), output);
+        assertEquals(List.of(1L, 2L, 3L), failures.stream().map(ImportGenreFailure::line).toList());
+        assertEquals("Line is not valid JSON", failures.get(0).errors().get(0).message());
+        assertEquals("'name' should not be null", failures.get(1).errors().get(0).message());
+        assertEquals("Some categories could not be found: 404", failures.get(2).errors().get(0).message());
+
+        verify(genreGateway, times(1)).createAll(argThat(genres ->
+                genres.size() == 1 && "Ação".equals(genres.get(0).getName())));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsImportGenres_shouldFailTheWholeChunk() {
+        final var useCase = new DefaultImportGenresUseCase(genreGateway, categoryGateway, 10);
+
+        final List<Either<Notification, CreateGenreCommand>> lines = List.of(
+                Right(CreateGenreCommand.with("Ação", true, List.of())),
+                Right(CreateGenreCommand.with("Drama", true, List.of()))
+        );
+
+        when(genreGateway.createAll(any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        final var output = useCase.execute(ImportGenresCommand.with(lines.iterator(), listener));
+
+        assertEquals(new ImportGenresOutput(2, 0, 2), output);
+        assertEquals(List.of(1L, 2L), failures.stream().map(ImportGenreFailure::line).toList());
+        assertEquals("Gateway error", failures.get(0).errors().get(0).message());
+
+        verify(categoryGateway, never()).existsByIds(any());
+    }
+}
@@ -1,9 +1,12 @@
 package com.ioliveira.catalogo.application.genre.retrieve.get;
 
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
 import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
 import com.ioliveira.catalogo.domain.genre.Genre;
 import com.ioliveira.catalogo.domain.genre.GenreGateway;
 import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.genre.GenreSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,13 +14,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -42,14 +50,14 @@ public class GetGenreByIdUseCaseUnitTest {
         final var genre = Genre.newGenre("Ação", true);
         final var expectedId = genre.getId();
 
-        when(genreGateway.findById(any())).thenReturn(Optional.of(genre));
+        when(genreGateway.findSnapshotById(any())).thenReturn(Optional.of(GenreSnapshot.from(genre)));
 
-        final var output = useCase.execute(expectedId.getValue());
+        final var output = useCase.execute(GetGenreByIdCommand.with(expectedId.getValue()));
 
         assertNotNull(output);
         assertEquals(expectedId.getValue(), output.id());
 
-        verify(genreGateway, times(1)).findById(eq(expectedId));
+        verify(genreGateway, times(1)).findSnapshotById(eq(expectedId));
     }
 
     @Test
@@ -57,14 +65,55 @@ public class GetGenreByIdUseCaseUnitTest {
         final var expectedId = GenreID.from("123");
         final var expectedErrorMessage = "Genre ID 123 was not found";
 
-        when(genreGateway.findById(eq(expectedId))).thenReturn(Optional.empty());
+        when(genreGateway.findSnapshotById(eq(expectedId))).thenReturn(Optional.empty());
 
         final var exception =
-                assertThrows(NotFoundException.class, () -> useCase.execute(expectedId.getValue()));
+                assertThrows(NotFoundException.class, () -> useCase.execute(GetGenreByIdCommand.with(expectedId.getValue())));
 
         assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
 
-        verify(genreGateway, times(1)).findById(eq(expectedId));
+        verify(genreGateway, times(1)).findSnapshotById(eq(expectedId));
     }
 
+    @Test
+    public void givenACategoriesLimit_whenCallsGetGenreById_shouldInlineOnlyTheFirstCategories() {
+        final var categories = List.of(CategoryID.from("1"), CategoryID.from("2"), CategoryID.from("3"));
+        final var genre = Genre.newGenre("Ação", true).addCategories(categories);
+        final var expectedId = genre.getId();
+
+        when(genreGateway.findByIdWithFirstCategories(any(), anyInt())).thenReturn(Optional.of(genre));
+
+        final var output = useCase.execute(GetGenreByIdCommand.with(expectedId.getValue(), "2"));
+
+        assertEquals(List.of("1", "2"), output.categories());
+        assertTrue(output.moreCategories());
+
+        verify(genreGateway, times(1)).findByIdWithFirstCategories(eq(expectedId), eq(3));
+        verify(genreGateway, never()).findById(any());
+    }
+
+    @Test
+    public void givenNoCategories_whenCallsGetGenreById_shouldOmitCategories() {
+        final var genre = Genre.newGenre("Ação", true);
+        final var expectedId = genre.getId();
+
+        when(genreGateway.findByIdWithFirstCategories(any(), anyInt())).thenReturn(Optional.of(genre));
+
+        final var output = useCase.execute(GetGenreByIdCommand.with(expectedId.getValue(), "none"));
+
+        assertNull(output.categories());
+        assertNull(output.moreCategories());
+
+        verify(genreGateway, times(1)).findByIdWithFirstCategories(eq(expectedId), eq(0));
+    }
+
+    @Test
+    public void givenAnInvalidCategoriesMode_whenCallsGetGenreById_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'categories' must be all, none or a positive number";
+
+        final var exception =
+                assertThrows(DomainException.class, () -> GetGenreByIdCommand.with("123", "-1"));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
 }
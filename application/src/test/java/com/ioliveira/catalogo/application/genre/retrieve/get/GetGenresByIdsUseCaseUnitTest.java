@@ -0,0 +1,67 @@
+package com.ioliveira.catalogo.application.genre.retrieve.get;
+
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GetGenresByIdsUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultGetGenresByIdsUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(genreGateway);
+    }
+
+    @Test
+    public void givenSeveralIds_whenCallsGetGenresByIds_thenShouldReturnThemWithAllTheirCategories() {
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(CategoryID.from("123"), CategoryID.from("456")));
+        final var drama = Genre.newGenre("Drama", true);
+        final var expectedIds = List.of(acao.getId(), drama.getId());
+
+        when(genreGateway.findByIds(expectedIds)).thenReturn(List.of(acao, drama));
+
+        final var output = useCase.execute(List.of(acao.getId().getValue(), drama.getId().getValue()));
+
+        assertEquals(List.of(acao.getId().getValue(), drama.getId().getValue()),
+                output.stream().map(GenreOutput::id).toList());
+        assertEquals(List.of("123", "456"), output.get(0).categories());
+        assertEquals(List.of(), output.get(1).categories());
+    }
+
+    @Test
+    public void givenMoreThanTheMaximumIds_whenCallsGetGenresByIds_thenShouldReturnDomainException() {
+        final var expectedErrorMessage = "'ids' must have at most 100 IDs";
+        final var ids = IntStream.range(0, 101).mapToObj(i -> GenreID.unique().getValue()).toList();
+
+        final var exception = assertThrows(DomainException.class, () -> useCase.execute(ids));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(genreGateway, never()).findByIds(any());
+    }
+}
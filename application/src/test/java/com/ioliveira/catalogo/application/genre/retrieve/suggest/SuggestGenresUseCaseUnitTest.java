@@ -0,0 +1,59 @@
+package com.ioliveira.catalogo.application.genre.retrieve.suggest;
+
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SuggestGenresUseCaseUnitTest {
+
+    @InjectMocks
+    private DefaultSuggestGenresUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        reset(genreGateway);
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestGenres_thenShouldReturnSuggestions() {
+        final var query = new SuggestQuery("dra", 10);
+        final var suggestions = List.of(new Suggestion("123", "Drama"));
+
+        when(genreGateway.suggest(eq(query))).thenReturn(suggestions);
+
+        final var result = useCase.execute(query);
+
+        assertEquals(1, result.size());
+        assertEquals("123", result.get(0).id());
+        assertEquals("Drama", result.get(0).name());
+    }
+
+    @Test
+    public void givenABlankPrefix_whenCallsSuggestGenres_thenShouldNotCallGateway() {
+        final var result = useCase.execute(new SuggestQuery("", 10));
+
+        assertTrue(result.isEmpty());
+        verify(genreGateway, never()).suggest(any());
+    }
+}
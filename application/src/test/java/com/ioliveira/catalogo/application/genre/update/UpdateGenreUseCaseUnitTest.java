@@ -3,6 +3,7 @@ package com.ioliveira.catalogo.application.genre.update;
 import com.ioliveira.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.exceptions.NotificationException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import com.ioliveira.catalogo.domain.genre.Genre;
 import com.ioliveira.catalogo.domain.genre.GenreGateway;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -201,4 +203,21 @@ public class UpdateGenreUseCaseUnitTest {
                 .toList();
     }
 
+    @Test
+    public void givenAStaleVersion_whenCallsUpdateGenre_shouldThrowVersionMismatchWithoutWriting() {
+        final Genre stored = Genre.newGenre("accao", true);
+        final Genre genre = Genre.with(stored.getId(), stored.getName(), true, List.of(),
+                stored.getCreatedAt(), stored.getUpdatedAt(), null, 4L);
+
+        final var expectedErrorMessage = "Genre ID %s is not at version 3".formatted(genre.getId().getValue());
+        final var command = UpdateGenreCommand.with(genre.getId().getValue(), "Ação", true, List.of(), 3L);
+
+        when(genreGateway.findById(any()))
+                .thenReturn(Optional.of(genre));
+
+        final var exception = assertThrows(VersionMismatchException.class, () -> useCase.execute(command));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+        verify(genreGateway, never()).update(any());
+    }
 }
@@ -2,7 +2,22 @@ package com.ioliveira.catalogo.domain;
 
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    private final Long version;
+
     protected AggregateRoot(final ID id) {
+        this(id, null);
+    }
+
+    protected AggregateRoot(final ID id, final Long version) {
         super(id);
+        this.version = version;
+    }
+
+    /**
+     * Version of the stored state this instance was read from, or null when it was not read from storage.
+     * Gateways only write it back while the stored version is still the same.
+     */
+    public Long getVersion() {
+        return version;
     }
 }
@@ -16,9 +16,9 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant deletedAt;
 
     private Category(final CategoryID id, final String name, final String description, final boolean active,
-                     final Instant createdAt, final Instant updatedAt, final Instant deletedAt) {
+                     final Instant createdAt, final Instant updatedAt, final Instant deletedAt, final Long version) {
 
-        super(id);
+        super(id, version);
         this.name = name;
         this.description = description;
         this.active = active;
@@ -37,7 +37,18 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
 
     public static Category with(final CategoryID id, final String name, final String description, final boolean isActive,
                                 final Instant createdAt, final Instant updatedAt, final Instant deletedAt) {
-        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt);
+        return with(id, name, description, isActive, createdAt, updatedAt, deletedAt, null);
+    }
+
+    public static Category with(final CategoryID id, final String name, final String description, final boolean isActive,
+                                final Instant createdAt, final Instant updatedAt, final Instant deletedAt,
+                                final Long version) {
+        return new Category(id, name, description, isActive, createdAt, updatedAt, deletedAt, version);
+    }
+
+    public static Category with(final CategorySnapshot snapshot) {
+        return with(snapshot.id(), snapshot.name(), snapshot.description(), snapshot.active(),
+                snapshot.createdAt(), snapshot.updatedAt(), snapshot.deletedAt(), snapshot.version());
     }
 
     @Override
@@ -2,21 +2,55 @@ package com.ioliveira.catalogo.domain.category;
 
 import com.ioliveira.catalogo.domain.pagination.Pagination;
 import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category category);
 
+    /**
+     * Inserts every category in one transaction, batching the statements; either all of them are created or none.
+     */
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID id);
 
+    /**
+     * Deletes every category with one of the IDs in one transaction; IDs that do not exist are ignored.
+     */
+    void deleteByIds(List<CategoryID> ids);
+
+    /**
+     * The category as it is stored, to be changed and updated; implementations must not serve it from a cache.
+     */
     Optional<Category> findById(CategoryID id);
 
+    /**
+     * The category as an immutable snapshot, for reads that do not change it; implementations may share the
+     * returned instance between callers.
+     */
+    Optional<CategorySnapshot> findSnapshotById(CategoryID id);
+
+    /**
+     * The categories with the given IDs in the order of their first occurrence; IDs that do not exist are skipped.
+     */
+    List<Category> findByIds(Iterable<CategoryID> ids);
+
     Category update(Category category);
 
     Pagination<Category> findAll(SearchQuery query);
 
+    List<Suggestion> suggest(SuggestQuery query);
+
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
+
+    /**
+     * Hands every category to the action in ID order, reading them one at a time instead of loading them all.
+     */
+    void exportAll(Consumer<Category> action);
 }
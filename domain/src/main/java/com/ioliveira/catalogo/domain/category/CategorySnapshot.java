@@ -0,0 +1,17 @@
+package com.ioliveira.catalogo.domain.category;
+
+import java.time.Instant;
+
+/**
+ * Immutable copy of a category as it was read, for read-only use: it can be shared between threads and callers
+ * without being copied. Use {@link Category#with(CategorySnapshot)} to get an aggregate that can be changed.
+ */
+public record CategorySnapshot(CategoryID id, String name, String description, boolean active,
+                               Instant createdAt, Instant updatedAt, Instant deletedAt, Long version) {
+
+    public static CategorySnapshot from(final Category category) {
+        return new CategorySnapshot(category.getId(), category.getName(), category.getDescription(),
+                category.isActive(), category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt(),
+                category.getVersion());
+    }
+}
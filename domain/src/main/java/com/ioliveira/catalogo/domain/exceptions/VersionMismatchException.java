@@ -0,0 +1,27 @@
+package com.ioliveira.catalogo.domain.exceptions;
+
+import com.ioliveira.catalogo.domain.AggregateRoot;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public class VersionMismatchException extends DomainException {
+
+    protected VersionMismatchException(final List<Error> errors) {
+        super(errors);
+    }
+
+    public static VersionMismatchException with(final Class<? extends AggregateRoot<?>> aggregate, final String id,
+                                                final Long expected) {
+        final String message = "%s ID %s is not at version %s".formatted(aggregate.getSimpleName(), id, expected);
+        return new VersionMismatchException(List.of(new Error(message)));
+    }
+
+    /**
+     * For writes that lost a race: the version was right when read but changed before the write.
+     */
+    public static VersionMismatchException with(final Class<? extends AggregateRoot<?>> aggregate, final String id) {
+        final String message = "%s ID %s was changed concurrently".formatted(aggregate.getSimpleName(), id);
+        return new VersionMismatchException(List.of(new Error(message)));
+    }
+}
@@ -11,12 +11,16 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 public class Genre extends AggregateRoot<GenreID> {
     private String name;
     private boolean active;
-    private List<CategoryID> categories;
+    private final Set<CategoryID> categories = new LinkedHashSet<>();
+    private final Set<CategoryID> addedCategories = new LinkedHashSet<>();
+    private final Set<CategoryID> removedCategories = new LinkedHashSet<>();
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
@@ -28,10 +32,23 @@ public class Genre extends AggregateRoot<GenreID> {
                  final Instant createdAt,
                  final Instant updatedAt,
                  final Instant deletedAt) {
-        super(genreID);
+        this(genreID, name, active, categories, createdAt, updatedAt, deletedAt, null);
+    }
+
+    public Genre(final GenreID genreID,
+                 final String name,
+                 final boolean active,
+                 final List<CategoryID> categories,
+                 final Instant createdAt,
+                 final Instant updatedAt,
+                 final Instant deletedAt,
+                 final Long version) {
+        super(genreID, version);
         this.name = name;
         this.active = active;
-        this.categories = categories;
+        if (categories != null) {
+            this.categories.addAll(categories);
+        }
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
@@ -58,6 +75,18 @@ public class Genre extends AggregateRoot<GenreID> {
         return new Genre(genreID, name, active, categories, createdAt, updatedAt, deletedAt);
     }
 
+    public static Genre with(final GenreID genreID,
+                             final String name,
+                             final boolean active,
+                             final List<CategoryID> categories,
+                             final Instant createdAt,
+                             final Instant updatedAt,
+                             final Instant deletedAt,
+                             final Long version) {
+
+        return new Genre(genreID, name, active, categories, createdAt, updatedAt, deletedAt, version);
+    }
+
     public static Genre with(final Genre genre) {
         return new Genre(
                 genre.id,
@@ -66,7 +95,21 @@ public class Genre extends AggregateRoot<GenreID> {
                 new ArrayList<>(genre.categories),
                 genre.createdAt,
                 genre.updatedAt,
-                genre.deletedAt
+                genre.deletedAt,
+                genre.getVersion()
+        );
+    }
+
+    public static Genre with(final GenreSnapshot snapshot) {
+        return new Genre(
+                snapshot.id(),
+                snapshot.name(),
+                snapshot.active(),
+                snapshot.categories(),
+                snapshot.createdAt(),
+                snapshot.updatedAt(),
+                snapshot.deletedAt(),
+                snapshot.version()
         );
     }
 
@@ -93,7 +136,7 @@ public class Genre extends AggregateRoot<GenreID> {
             deactivate();
         }
         this.name = name;
-        this.categories = new ArrayList<>(isNullOrEmpty(categories) ? Collections.emptyList() : categories);
+        replaceCategories(isNullOrEmpty(categories) ? Collections.emptyList() : categories);
         this.updatedAt = InstantUtils.now();
         selfValidate();
         return this;
@@ -103,7 +146,7 @@ public class Genre extends AggregateRoot<GenreID> {
         if (categoryID == null) {
             return this;
         }
-        this.categories.add(categoryID);
+        link(categoryID);
         this.updatedAt = InstantUtils.now();
         return this;
     }
@@ -112,7 +155,7 @@ public class Genre extends AggregateRoot<GenreID> {
         if (categories == null || categories.isEmpty()) {
             return this;
         }
-        this.categories.addAll(categories);
+        categories.forEach(this::link);
         this.updatedAt = InstantUtils.now();
         return this;
     }
@@ -121,11 +164,51 @@ public class Genre extends AggregateRoot<GenreID> {
         if (categoryID == null) {
             return this;
         }
-        this.categories.remove(categoryID);
+        unlink(categoryID);
         this.updatedAt = InstantUtils.now();
         return this;
     }
 
+    /**
+     * Categories linked since this instance was built by {@link #with}, which gateways use to write only the delta.
+     */
+    public Set<CategoryID> getAddedCategories() {
+        return Collections.unmodifiableSet(addedCategories);
+    }
+
+    /**
+     * Categories unlinked since this instance was built by {@link #with}.
+     */
+    public Set<CategoryID> getRemovedCategories() {
+        return Collections.unmodifiableSet(removedCategories);
+    }
+
+    private void replaceCategories(final List<CategoryID> categories) {
+        final Set<CategoryID> target = new LinkedHashSet<>(categories);
+        new ArrayList<>(this.categories).stream()
+                .filter(id -> !target.contains(id))
+                .forEach(this::unlink);
+        target.forEach(this::link);
+    }
+
+    private void link(final CategoryID categoryID) {
+        if (!this.categories.add(categoryID)) {
+            return;
+        }
+        if (!this.removedCategories.remove(categoryID)) {
+            this.addedCategories.add(categoryID);
+        }
+    }
+
+    private void unlink(final CategoryID categoryID) {
+        if (!this.categories.remove(categoryID)) {
+            return;
+        }
+        if (!this.addedCategories.remove(categoryID)) {
+            this.removedCategories.add(categoryID);
+        }
+    }
+
     private boolean isNullOrEmpty(final Collection<?> collections) {
         return collections == null || collections.isEmpty();
     }
@@ -148,8 +231,12 @@ public class Genre extends AggregateRoot<GenreID> {
         return name;
     }
 
+    /**
+     * The linked categories in the order they were linked, as a copy: membership is kept in a set so linking and
+     * unlinking stay constant time however many categories the genre has.
+     */
     public List<CategoryID> getCategories() {
-        return Collections.unmodifiableList(categories);
+        return Collections.unmodifiableList(new ArrayList<>(categories));
     }
 
     public Instant getCreatedAt() {
@@ -1,19 +1,77 @@
 package com.ioliveira.catalogo.domain.genre;
 
+import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.pagination.Pagination;
 import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
 
     Genre create(Genre genre);
 
+    /**
+     * Inserts the genres and their category links in one transaction, batching the statements; all or none.
+     */
+    List<Genre> createAll(List<Genre> genres);
+
     void deleteById(GenreID id);
 
+    /**
+     * Deletes every genre with one of the IDs, and their links, in one transaction; IDs that do not exist are ignored.
+     */
+    void deleteByIds(List<GenreID> ids);
+
+    /**
+     * The genre as it is stored, to be changed and updated; implementations must not serve it from a cache.
+     */
     Optional<Genre> findById(GenreID id);
 
+    /**
+     * The genre with all of its categories as an immutable snapshot, for reads that do not change it;
+     * implementations may share the returned instance between callers.
+     */
+    Optional<GenreSnapshot> findSnapshotById(GenreID id);
+
+    /**
+     * The genres with the given IDs and all of their categories, in the order of their first occurrence; IDs that
+     * do not exist are skipped.
+     */
+    List<Genre> findByIds(Iterable<GenreID> ids);
+
+    /**
+     * The genre holding only those of the given categories it is already linked to, enough to add or remove them
+     * through the aggregate without loading every link.
+     */
+    Optional<Genre> findByIdWithCategoriesIn(GenreID id, List<CategoryID> categories);
+
+    /**
+     * The genre holding at most {@code limit} of its categories in category ID order; a limit of zero reads only the genre row.
+     */
+    Optional<Genre> findByIdWithFirstCategories(GenreID id, int limit);
+
+    /**
+     * One keyset page of the genre's categories in ID order, seeking past the cursor of the previous page.
+     * The total is not counted. Empty when the genre does not exist.
+     */
+    Optional<Pagination<CategoryID>> findCategories(GenreID id, String cursor, int perPage);
+
     Genre update(Genre aGenre);
 
+    /**
+     * Listed genres carry only their own columns, categories are left empty; use findById for the full aggregate.
+     */
     Pagination<Genre> findAll(SearchQuery query);
+
+    List<Suggestion> suggest(SuggestQuery query);
+
+    /**
+     * Hands every genre with all of its categories to the action in ID order, reading them one at a time instead of
+     * loading them all.
+     */
+    void exportAll(Consumer<Genre> action);
 }
@@ -0,0 +1,24 @@
+package com.ioliveira.catalogo.domain.genre;
+
+import com.ioliveira.catalogo.domain.category.CategoryID;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable copy of a genre as it was read, for read-only use: it can be shared between threads and callers
+ * without being copied. The categories are held in an unmodifiable list, which copies of the snapshot reuse.
+ * Use {@link Genre#with(GenreSnapshot)} to get an aggregate that can be changed.
+ */
+public record GenreSnapshot(GenreID id, String name, boolean active, List<CategoryID> categories,
+                            Instant createdAt, Instant updatedAt, Instant deletedAt, Long version) {
+
+    public GenreSnapshot {
+        categories = categories == null ? List.of() : List.copyOf(categories);
+    }
+
+    public static GenreSnapshot from(final Genre genre) {
+        return new GenreSnapshot(genre.getId(), genre.getName(), genre.isActive(), genre.getCategories(),
+                genre.getCreatedAt(), genre.getUpdatedAt(), genre.getDeletedAt(), genre.getVersion());
+    }
+}
@@ -0,0 +1,19 @@
+package com.ioliveira.catalogo.domain.pagination;
+
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static CountMode of(final String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'count' must be one of exact, estimated or none")));
+    }
+}
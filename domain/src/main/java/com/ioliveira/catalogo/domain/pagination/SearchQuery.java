@@ -5,6 +5,16 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        CountMode countMode
 ) {
+
+    public SearchQuery {
+        countMode = countMode != null ? countMode : CountMode.EXACT;
+    }
+
+    public SearchQuery(final int page, final int perPage, final String terms, final String sort, final String direction) {
+        this(page, perPage, terms, sort, direction, null, CountMode.EXACT);
+    }
 }
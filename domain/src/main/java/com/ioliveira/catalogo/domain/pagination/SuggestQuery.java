@@ -0,0 +1,11 @@
+package com.ioliveira.catalogo.domain.pagination;
+
+public record SuggestQuery(String prefix, int limit) {
+
+    public static final int MAX_LIMIT = 50;
+
+    public SuggestQuery {
+        prefix = prefix != null ? prefix : "";
+        limit = Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,4 @@
+package com.ioliveira.catalogo.domain.pagination;
+
+public record Suggestion(String id, String name) {
+}
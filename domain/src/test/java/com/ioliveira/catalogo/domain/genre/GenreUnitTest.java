@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -279,4 +281,83 @@ public class GenreUnitTest {
         assertTrue(updatedAt.isBefore(genre.getUpdatedAt()));
         assertNull(genre.getDeletedAt());
     }
+
+    @Test
+    public void givenALoadedGenre_whenCallsUpdate_thenShouldTrackOnlyTheChangedCategories() {
+        final var seriesID = CategoryID.from("132");
+        final var moviesID = CategoryID.from("456");
+        final var docsID = CategoryID.from("789");
+
+        final var loaded = Genre.newGenre("Ação", true);
+        loaded.addCategories(List.of(seriesID, moviesID));
+
+        final var genre = Genre.with(loaded);
+
+        assertTrue(genre.getAddedCategories().isEmpty());
+        assertTrue(genre.getRemovedCategories().isEmpty());
+
+        genre.update("Ação", true, List.of(moviesID, docsID));
+
+        assertEquals(List.of(moviesID, docsID), genre.getCategories());
+        assertEquals(Set.of(docsID), genre.getAddedCategories());
+        assertEquals(Set.of(seriesID), genre.getRemovedCategories());
+    }
+
+    @Test
+    public void givenALoadedGenreWithManyCategories_whenCallsUpdate_thenShouldKeepTheOrderAndTrackTheDelta() {
+        final var loadedIDs = IntStream.range(0, 20_000).mapToObj(i -> CategoryID.from("c" + i)).toList();
+        final var expectedIDs = IntStream.range(10_000, 30_000).mapToObj(i -> CategoryID.from("c" + i)).toList();
+
+        final var loaded = Genre.newGenre("Ação", true);
+        loaded.addCategories(loadedIDs);
+
+        final var genre = Genre.with(loaded);
+        genre.update("Ação", true, expectedIDs);
+
+        assertEquals(expectedIDs, genre.getCategories());
+        assertEquals(10_000, genre.getAddedCategories().size());
+        assertEquals(10_000, genre.getRemovedCategories().size());
+        assertTrue(genre.getRemovedCategories().contains(loadedIDs.get(0)));
+    }
+
+    @Test
+    public void givenALoadedGenre_whenAddsAndRemovesTheSameCategory_thenShouldTrackNothing() {
+        final var seriesID = CategoryID.from("132");
+        final var moviesID = CategoryID.from("456");
+
+        final var loaded = Genre.newGenre("Ação", true);
+        loaded.addCategory(seriesID);
+
+        final var genre = Genre.with(loaded);
+        genre.addCategory(moviesID);
+        genre.addCategory(moviesID);
+        genre.removeCategory(moviesID);
+        genre.removeCategory(seriesID);
+        genre.addCategory(seriesID);
+
+        assertEquals(List.of(seriesID), genre.getCategories());
+        assertTrue(genre.getAddedCategories().isEmpty());
+        assertTrue(genre.getRemovedCategories().isEmpty());
+    }
+
+    @Test
+    public void givenAGenre_whenTakesASnapshot_thenLaterChangesShouldNotReachIt() {
+        final var seriesID = CategoryID.from("132");
+        final var moviesID = CategoryID.from("456");
+
+        final var genre = Genre.newGenre("Ação", true);
+        genre.addCategory(seriesID);
+
+        final var snapshot = GenreSnapshot.from(genre);
+        genre.addCategory(moviesID);
+
+        assertEquals(List.of(seriesID), snapshot.categories());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.categories().add(moviesID));
+
+        final var copy = Genre.with(snapshot);
+        copy.removeCategory(seriesID);
+
+        assertEquals(List.of(seriesID), snapshot.categories());
+        assertEquals(genre.getVersion(), copy.getVersion());
+    }
 }
@@ -0,0 +1,23 @@
+package com.ioliveira.catalogo.infrastructure.api;
+
+import com.ioliveira.catalogo.infrastructure.cache.models.GatewayCachesResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@RequestMapping(value = "cache")
+@Tag(name = "Cache")
+public interface CacheApi {
+
+    @GetMapping(value = "stats", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Counters of the local category and genre caches of this instance since it started")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Counters read successfully"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    GatewayCachesResponse stats();
+}
@@ -1,17 +1,19 @@
 package com.ioliveira.catalogo.infrastructure.api;
 
 import com.ioliveira.catalogo.domain.pagination.Pagination;
+import com.ioliveira.catalogo.infrastructure.category.models.BatchCreateCategoriesResponse;
 import com.ioliveira.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.ioliveira.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.ioliveira.catalogo.infrastructure.category.models.CategoryResponse;
+import com.ioliveira.catalogo.infrastructure.category.models.CategorySuggestionResponse;
 import com.ioliveira.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +22,15 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
@@ -40,41 +48,103 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create many categories at once, reporting the result of each one")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Every category was created"),
+            @ApiResponse(responseCode = "207", description = "Some categories were not created, see the errors of each item"),
+            @ApiResponse(responseCode = "422", description = "The body is not a JSON array"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<BatchCreateCategoriesResponse> createCategories(InputStream input);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Listed successfuly"),
+            @ApiResponse(responseCode = "304", description = "No category changed since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     @Parameters(value = {
-            @Parameter(name = "search", description = "A String to search", allowEmptyValue = true, example = "series")
+            @Parameter(name = "search", description = "A String to search", allowEmptyValue = true, example = "series"),
+            @Parameter(name = "cursor", description = "The next_cursor of a previous page, seeks past it instead of skipping rows", allowEmptyValue = true),
+            @Parameter(name = "count", description = "How the total is computed: exact, estimated or none", example = "none")
     })
     Pagination<CategoryListResponse> listCategories(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+            WebRequest request
+    );
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get several categories by ID at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The categories found, in the order of the IDs; unknown IDs are left out"),
+            @ApiResponse(responseCode = "422", description = "More IDs than allowed were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @Parameters(value = {
+            @Parameter(name = "ids", description = "Comma separated category IDs, at most 100", example = "123,456")
+    })
+    List<CategoryResponse> findByIds(@RequestParam(name = "ids") List<String> ids);
+
+    @GetMapping(value = "suggest")
+    @Operation(summary = "Suggest categories whose name starts with a prefix")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfuly"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @Parameters(value = {
+            @Parameter(name = "q", description = "The typed prefix, compared ignoring case and accents", example = "fil"),
+            @Parameter(name = "limit", description = "How many names to return, at most 50", example = "10")
+    })
+    List<CategorySuggestionResponse> suggest(
+            @RequestParam(name = "q", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
     );
 
     @GetMapping(value = "{id}")
     @Operation(summary = "Get a category by ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Category retrieved successfuly"),
+            @ApiResponse(responseCode = "200", description = "Category retrieved successfuly, its version in the ETag"),
+            @ApiResponse(responseCode = "304", description = "The category is still at the version in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    CategoryResponse findById(@PathVariable(name = "id") String id);
+    @Parameters(value = {
+            @Parameter(name = HttpHeaders.IF_NONE_MATCH, description = "ETag of the copy the client already has", example = "\"3\"")
+    })
+    ResponseEntity<CategoryResponse> findById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(value = "{id}")
     @Operation(summary = "Update a category by ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Category updated successfuly"),
+            @ApiResponse(responseCode = "200", description = "Category updated successfuly, its new version in the ETag"),
             @ApiResponse(responseCode = "404", description = "Category not found"),
+            @ApiResponse(responseCode = "412", description = "The category is no longer at the version in If-Match"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    @Parameters(value = {
+            @Parameter(name = HttpHeaders.IF_MATCH, description = "ETag of the category as last read", example = "\"3\"")
+    })
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateCategoryRequest input
+    );
 
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping(value = "{id}")
@@ -85,4 +155,16 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     void deleteById(@PathVariable(name = "id") String id);
+
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @DeleteMapping
+    @Operation(summary = "Delete several categories by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories deleted successfuly"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @Parameters(value = {
+            @Parameter(name = "ids", description = "Comma separated category IDs", example = "123,456")
+    })
+    void deleteByIds(@RequestParam(name = "ids") List<String> ids);
 }
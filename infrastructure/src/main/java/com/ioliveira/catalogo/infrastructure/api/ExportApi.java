@@ -0,0 +1,33 @@
+package com.ioliveira.catalogo.infrastructure.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletResponse;
+
+@RequestMapping(value = "export")
+@Tag(name = "Export")
+public interface ExportApi {
+
+    @GetMapping(value = "categories", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export every category as newline delimited JSON, ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export started, one category per line follows"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    WebAsyncTask<Void> exportCategories(HttpServletResponse response);
+
+    @GetMapping(value = "genres", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export every genre with its categories as newline delimited JSON, ordered by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export started, one genre per line follows"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    WebAsyncTask<Void> exportGenres(HttpServletResponse response);
+}
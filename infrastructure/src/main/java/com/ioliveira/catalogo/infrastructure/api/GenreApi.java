@@ -2,16 +2,18 @@ package com.ioliveira.catalogo.infrastructure.api;
 
 import com.ioliveira.catalogo.domain.pagination.Pagination;
 import com.ioliveira.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.ioliveira.catalogo.infrastructure.genre.models.GenreCategoriesRequest;
 import com.ioliveira.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.ioliveira.catalogo.infrastructure.genre.models.GenreResponse;
+import com.ioliveira.catalogo.infrastructure.genre.models.GenreSuggestionResponse;
 import com.ioliveira.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
-import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +22,17 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
+import java.util.List;
 
 @RequestMapping(value = "genres")
 @Tag(name = "Genres")
@@ -40,41 +50,162 @@ public interface GenreApi {
     })
     ResponseEntity<?> create(@RequestBody CreateGenreRequest input);
 
+    @PostMapping(
+            value = "import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Import genres from newline delimited JSON, streaming back failures and progress")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import started, one event per line follows"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    WebAsyncTask<Void> importGenres(InputStream input, HttpServletResponse response);
+
     @GetMapping
     @Operation(summary = "List all genres paginated")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Listed successfuly"),
+            @ApiResponse(responseCode = "304", description = "No genre changed since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     @Parameters(value = {
-            @Parameter(name = "search", description = "A String to search", allowEmptyValue = true, example = "series")
+            @Parameter(name = "search", description = "A String to search", allowEmptyValue = true, example = "series"),
+            @Parameter(name = "cursor", description = "The next_cursor of a previous page, seeks past it instead of skipping rows", allowEmptyValue = true),
+            @Parameter(name = "count", description = "How the total is computed: exact, estimated or none", example = "none"),
+            @Parameter(name = "expand", description = "Set to categories to embed the categories of each genre, resolved for the whole page at once; such pages carry no ETag", example = "categories"),
+            @Parameter(name = "categories", description = "With expand=categories, how many categories to embed per genre: none or the first N, at most 100", example = "20")
     })
     Pagination<GenreListResponse> list(
             @RequestParam(name = "search", required = false, defaultValue = "") final String search,
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "count", required = false, defaultValue = "exact") final String count,
+            @RequestParam(name = "expand", required = false) final String expand,
+            @RequestParam(name = "categories", required = false) final String categories,
+            WebRequest request
+    );
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get several genres by ID at once, with all of their categories")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The genres found, in the order of the IDs; unknown IDs are left out"),
+            @ApiResponse(responseCode = "422", description = "More IDs than allowed were received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @Parameters(value = {
+            @Parameter(name = "ids", description = "Comma separated genre IDs, at most 100", example = "123,456")
+    })
+    List<GenreResponse> findByIds(@RequestParam(name = "ids") List<String> ids);
+
+    @GetMapping(value = "suggest")
+    @Operation(summary = "Suggest genres whose name starts with a prefix")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfuly"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @Parameters(value = {
+            @Parameter(name = "q", description = "The typed prefix, compared ignoring case and accents", example = "dra"),
+            @Parameter(name = "limit", description = "How many names to return, at most 50", example = "10")
+    })
+    List<GenreSuggestionResponse> suggest(
+            @RequestParam(name = "q", required = false, defaultValue = "") final String prefix,
+            @RequestParam(name = "limit", required = false, defaultValue = "10") final int limit
     );
 
     @GetMapping(value = "{id}")
     @Operation(summary = "Get a genre by ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Genre retrieved successfuly"),
+            @ApiResponse(responseCode = "200", description = "Genre retrieved successfuly, its version in the ETag"),
+            @ApiResponse(responseCode = "304", description = "The genre is still at the version in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Genre not found"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    GenreResponse findById(@PathVariable(name = "id") String id);
+    @Parameters(value = {
+            @Parameter(name = "categories", description = "Which category IDs to inline: all, none or the first N", example = "20"),
+            @Parameter(name = "expand", description = "Set to categories to embed those categories instead of their IDs; the response then carries no ETag", example = "categories"),
+            @Parameter(name = HttpHeaders.IF_NONE_MATCH, description = "ETag of the copy the client already has", example = "\"3\"")
+    })
+    ResponseEntity<GenreResponse> findById(
+            @PathVariable(name = "id") String id,
+            @RequestParam(name = "categories", required = false, defaultValue = "all") final String categories,
+            @RequestParam(name = "expand", required = false) final String expand,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
+
+    @GetMapping(value = "{id}/categories")
+    @Operation(summary = "List the category IDs of a genre in keyset pages")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Listed successfuly"),
+            @ApiResponse(responseCode = "404", description = "Genre not found"),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @Parameters(value = {
+            @Parameter(name = "cursor", description = "The next_cursor of a previous page", allowEmptyValue = true),
+            @Parameter(name = "perPage", description = "How many IDs to return, at most 1000", example = "100")
+    })
+    Pagination<String> listCategories(
+            @PathVariable(name = "id") String id,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "perPage", required = false, defaultValue = "100") final int perPage
+    );
 
     @PutMapping(value = "{id}")
     @Operation(summary = "Update a genre by ID")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Genre updated successfuly"),
+            @ApiResponse(responseCode = "200", description = "Genre updated successfuly, its new version in the ETag"),
+            @ApiResponse(responseCode = "404", description = "Genre not found"),
+            @ApiResponse(responseCode = "412", description = "The genre is no longer at the version in If-Match"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @Parameters(value = {
+            @Parameter(name = HttpHeaders.IF_MATCH, description = "ETag of the genre as last read", example = "\"3\"")
+    })
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody UpdateGenreRequest input
+    );
+
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PostMapping(value = "{id}/categories", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Link one or more categories to a genre")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories linked successfuly"),
+            @ApiResponse(responseCode = "404", description = "Genre not found"),
+            @ApiResponse(responseCode = "422", description = "Some category was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void addCategories(@PathVariable(name = "id") String id, @RequestBody GenreCategoriesRequest input);
+
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @DeleteMapping(value = "{id}/categories/{categoryId}")
+    @Operation(summary = "Unlink a category from a genre")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Category unlinked successfuly"),
+            @ApiResponse(responseCode = "404", description = "Genre not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    void removeCategory(@PathVariable(name = "id") String id, @PathVariable(name = "categoryId") String categoryId);
+
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @DeleteMapping(value = "{id}/categories")
+    @Operation(summary = "Unlink several categories from a genre")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories unlinked successfuly"),
             @ApiResponse(responseCode = "404", description = "Genre not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateGenreRequest input);
+    @Parameters(value = {
+            @Parameter(name = "ids", description = "Comma separated category IDs", example = "123,456")
+    })
+    void removeCategories(@PathVariable(name = "id") String id, @RequestParam(name = "ids") List<String> categoryIds);
 
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @DeleteMapping(value = "{id}")
@@ -85,4 +216,16 @@ public interface GenreApi {
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     void deleteById(@PathVariable(name = "id") String id);
+
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @DeleteMapping
+    @Operation(summary = "Delete several genres by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Genres deleted successfuly"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    @Parameters(value = {
+            @Parameter(name = "ids", description = "Comma separated genre IDs", example = "123,456")
+    })
+    void deleteByIds(@RequestParam(name = "ids") List<String> ids);
 }
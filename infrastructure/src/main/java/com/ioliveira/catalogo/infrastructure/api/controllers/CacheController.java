@@ -0,0 +1,31 @@
+package com.ioliveira.catalogo.infrastructure.api.controllers;
+
+import com.ioliveira.catalogo.infrastructure.api.CacheApi;
+import com.ioliveira.catalogo.infrastructure.cache.models.CacheStatsResponse;
+import com.ioliveira.catalogo.infrastructure.cache.models.GatewayCachesResponse;
+import com.ioliveira.catalogo.infrastructure.category.CachingCategoryGateway;
+import com.ioliveira.catalogo.infrastructure.genre.CachingGenreGateway;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+public class CacheController implements CacheApi {
+
+    private final CachingCategoryGateway categoryGateway;
+    private final CachingGenreGateway genreGateway;
+
+    public CacheController(final CachingCategoryGateway categoryGateway,
+                           final CachingGenreGateway genreGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public GatewayCachesResponse stats() {
+        return new GatewayCachesResponse(
+                CacheStatsResponse.from(this.categoryGateway.stats()),
+                CacheStatsResponse.from(this.genreGateway.stats())
+        );
+    }
+}
@@ -3,24 +3,47 @@ package com.ioliveira.catalogo.infrastructure.api.controllers;
 import com.ioliveira.catalogo.application.category.create.CreateCategoryCommand;
 import com.ioliveira.catalogo.application.category.create.CreateCategoryOutput;
 import com.ioliveira.catalogo.application.category.create.CreateCategoryUseCase;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoriesCommand;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoriesOutput;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoriesUseCase;
 import com.ioliveira.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.ioliveira.catalogo.application.category.delete.batch.BatchDeleteCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
 import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdUsecase;
 import com.ioliveira.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.ioliveira.catalogo.application.category.update.UpdateCategoryCommand;
 import com.ioliveira.catalogo.application.category.update.UpdateCategoryOutput;
 import com.ioliveira.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.pagination.CountMode;
 import com.ioliveira.catalogo.domain.pagination.SearchQuery;
 import com.ioliveira.catalogo.domain.pagination.Pagination;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
 import com.ioliveira.catalogo.domain.validation.handler.Notification;
 import com.ioliveira.catalogo.infrastructure.api.CategoryAPI;
+import com.ioliveira.catalogo.infrastructure.category.models.BatchCreateCategoriesResponse;
 import com.ioliveira.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.ioliveira.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.ioliveira.catalogo.infrastructure.category.models.CategoryResponse;
+import com.ioliveira.catalogo.infrastructure.category.models.CategorySuggestionResponse;
 import com.ioliveira.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.ioliveira.catalogo.infrastructure.utils.ETags;
+import com.ioliveira.catalogo.infrastructure.utils.JsonArrays;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidator;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidators;
+import com.ioliveira.catalogo.infrastructure.validators.VersionCache;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Either;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -29,20 +52,38 @@ public class CategoryController implements CategoryAPI {
 
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUsecase getCategoryByIdUsecase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final SuggestCategoriesUseCase suggestCategoriesUseCase;
+    private final BatchCreateCategoriesUseCase batchCreateCategoriesUseCase;
+    private final BatchDeleteCategoriesUseCase batchDeleteCategoriesUseCase;
+    private final VersionCache versions;
+    private final ListValidators listValidators;
 
     public CategoryController(final CreateCategoryUseCase createCategoryUseCase,
                               final GetCategoryByIdUsecase getCategoryByIdUsecase,
+                              final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
                               final UpdateCategoryUseCase updateCategoryUseCase,
                               final DeleteCategoryUseCase deleteCategoryUseCase,
-                              final ListCategoriesUseCase listCategoriesUseCase) {
+                              final ListCategoriesUseCase listCategoriesUseCase,
+                              final SuggestCategoriesUseCase suggestCategoriesUseCase,
+                              final BatchCreateCategoriesUseCase batchCreateCategoriesUseCase,
+                              final BatchDeleteCategoriesUseCase batchDeleteCategoriesUseCase,
+                              final VersionCache versions,
+                              final ListValidators listValidators) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUsecase = Objects.requireNonNull(getCategoryByIdUsecase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.suggestCategoriesUseCase = Objects.requireNonNull(suggestCategoriesUseCase);
+        this.batchCreateCategoriesUseCase = Objects.requireNonNull(batchCreateCategoriesUseCase);
+        this.batchDeleteCategoriesUseCase = Objects.requireNonNull(batchDeleteCategoriesUseCase);
+        this.versions = Objects.requireNonNull(versions);
+        this.listValidators = Objects.requireNonNull(listValidators);
     }
 
     @Override
@@ -62,34 +103,90 @@ public class CategoryController implements CategoryAPI {
         return this.createCategoryUseCase.execute(command).fold(onError, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<BatchCreateCategoriesResponse> createCategories(final InputStream input) {
+
+        final Iterator<Either<Notification, CreateCategoryCommand>> categories = Iterator
+                .ofAll(JsonArrays.read(input, CreateCategoryRequest.class))
+                .map(item -> item.map(request -> CreateCategoryCommand.with(
+                        request.name(),
+                        request.description(),
+                        request.active() != null ? request.active() : true)));
+
+        final BatchCreateCategoriesOutput output =
+                this.batchCreateCategoriesUseCase.execute(BatchCreateCategoriesCommand.with(categories));
+
+        return ResponseEntity
+                .status(output.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(BatchCreateCategoriesResponse.from(output));
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(final String search, final int page,
-                                                           final int perPage, final String sort, final String direction) {
+                                                           final int perPage, final String sort, final String direction,
+                                                           final String cursor, final String count,
+                                                           final WebRequest request) {
+
+        final SearchQuery query = new SearchQuery(page, perPage, search, sort, direction, cursor, CountMode.of(count));
+
+        final ListValidator validator = this.listValidators.current(Category.class);
+        if (validator != null && request.checkNotModified(validator.etag())) {
+            return null;
+        }
 
         return this.listCategoriesUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .execute(query)
                 .map(CategoryListResponse::from);
     }
 
     @Override
-    public CategoryResponse findById(final String id) {
-        return CategoryResponse.from(this.getCategoryByIdUsecase.execute(id));
+    public List<CategoryResponse> findByIds(final List<String> ids) {
+        return this.getCategoriesByIdsUseCase.execute(ids).stream()
+                .map(CategoryResponse::from)
+                .toList();
+    }
+
+    @Override
+    public List<CategorySuggestionResponse> suggest(final String prefix, final int limit) {
+        return this.suggestCategoriesUseCase
+                .execute(new SuggestQuery(prefix, limit)).stream()
+                .map(CategorySuggestionResponse::from)
+                .toList();
+    }
+
+    @Override
+    public ResponseEntity<CategoryResponse> findById(final String id, final String ifNoneMatch) {
+        final Long cached = this.versions.get(Category.class, id);
+        if (ETags.ifNoneMatch(ifNoneMatch, cached)) {
+            return ETags.notModified(cached);
+        }
+
+        final GetCategoryByIdOutput output = this.getCategoryByIdUsecase.execute(id);
+        if (ETags.ifNoneMatch(ifNoneMatch, output.version())) {
+            return ETags.notModified(output.version());
+        }
+        return ResponseEntity.ok()
+                .headers(ETags.header(output.version()))
+                .body(CategoryResponse.from(output));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
 
         final UpdateCategoryCommand command = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true);
+                input.active() != null ? input.active() : true,
+                ETags.ifMatch(ifMatch));
 
         final Function<Notification, ResponseEntity<?>> onError =
                 notification -> ResponseEntity.unprocessableEntity().body(notification);
 
         final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess =
-                updateCategoryOutput -> ResponseEntity.ok(UpdateCategoryOutput.from(id));
+                updateCategoryOutput -> ResponseEntity.ok()
+                        .headers(ETags.header(updateCategoryOutput.version()))
+                        .body(updateCategoryOutput);
 
         return this.updateCategoryUseCase.execute(command).fold(onError, onSuccess);
     }
@@ -98,4 +195,9 @@ public class CategoryController implements CategoryAPI {
     public void deleteById(final String id) {
         this.deleteCategoryUseCase.execute(id);
     }
+
+    @Override
+    public void deleteByIds(final List<String> ids) {
+        this.batchDeleteCategoriesUseCase.execute(ids);
+    }
 }
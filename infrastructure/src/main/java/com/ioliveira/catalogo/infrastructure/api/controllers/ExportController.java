@@ -0,0 +1,47 @@
+package com.ioliveira.catalogo.infrastructure.api.controllers;
+
+import com.ioliveira.catalogo.application.category.export.ExportCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.export.ExportGenresUseCase;
+import com.ioliveira.catalogo.infrastructure.api.ExportApi;
+import com.ioliveira.catalogo.infrastructure.category.models.CategoryResponse;
+import com.ioliveira.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.ioliveira.catalogo.infrastructure.utils.Ndjson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import javax.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Rows are written to the response as they are read, without a Content-Length, so the server sends them with
+ * chunked transfer encoding whenever its output buffer fills up.
+ */
+@RestController
+public class ExportController implements ExportApi {
+
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
+    private final Duration streamingTimeout;
+
+    public ExportController(final ExportCategoriesUseCase exportCategoriesUseCase,
+                            final ExportGenresUseCase exportGenresUseCase,
+                            @Value("${streaming.request-timeout:1h}") final Duration streamingTimeout) {
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.exportGenresUseCase = Objects.requireNonNull(exportGenresUseCase);
+        this.streamingTimeout = Objects.requireNonNull(streamingTimeout);
+    }
+
+    @Override
+    public WebAsyncTask<Void> exportCategories(final HttpServletResponse response) {
+        return Ndjson.stream(response, this.streamingTimeout, out -> this.exportCategoriesUseCase
+                .execute(category -> Ndjson.write(out, CategoryResponse.from(category))));
+    }
+
+    @Override
+    public WebAsyncTask<Void> exportGenres(final HttpServletResponse response) {
+        return Ndjson.stream(response, this.streamingTimeout, out -> this.exportGenresUseCase
+                .execute(genre -> Ndjson.write(out, GenreApiPresenter.present(genre))));
+    }
+}
@@ -1,25 +1,69 @@
 package com.ioliveira.catalogo.infrastructure.api.controllers;
 
+import com.ioliveira.catalogo.application.genre.categories.add.AddGenreCategoriesCommand;
+import com.ioliveira.catalogo.application.genre.categories.add.AddGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.expand.ExpandGenreCategoriesCommand;
+import com.ioliveira.catalogo.application.genre.categories.expand.ExpandGenreCategoriesOutput;
+import com.ioliveira.catalogo.application.genre.categories.expand.ExpandGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.list.ListGenreCategoriesCommand;
+import com.ioliveira.catalogo.application.genre.categories.list.ListGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.remove.RemoveGenreCategoriesCommand;
+import com.ioliveira.catalogo.application.genre.categories.remove.RemoveGenreCategoriesUseCase;
 import com.ioliveira.catalogo.application.genre.create.CreateGenreCommand;
 import com.ioliveira.catalogo.application.genre.create.CreateGenreOutput;
 import com.ioliveira.catalogo.application.genre.create.CreateGenreUseCase;
 import com.ioliveira.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.ioliveira.catalogo.application.genre.delete.batch.BatchDeleteGenresUseCase;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenreFailure;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresCommand;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresListener;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresOutput;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenreByIdCommand;
 import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.list.GenreListOutput;
 import com.ioliveira.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.suggest.SuggestGenresUseCase;
 import com.ioliveira.catalogo.application.genre.update.UpdateGenreCommand;
+import com.ioliveira.catalogo.application.genre.update.UpdateGenreOutput;
 import com.ioliveira.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.pagination.CountMode;
 import com.ioliveira.catalogo.domain.pagination.Pagination;
 import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
 import com.ioliveira.catalogo.infrastructure.api.GenreApi;
 import com.ioliveira.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.ioliveira.catalogo.infrastructure.genre.models.GenreCategoriesRequest;
 import com.ioliveira.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.ioliveira.catalogo.infrastructure.genre.models.GenreResponse;
+import com.ioliveira.catalogo.infrastructure.genre.models.GenreSuggestionResponse;
+import com.ioliveira.catalogo.infrastructure.genre.models.ImportGenresEventResponse;
 import com.ioliveira.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.ioliveira.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.ioliveira.catalogo.infrastructure.utils.ETags;
+import com.ioliveira.catalogo.infrastructure.utils.Ndjson;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidator;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidators;
+import com.ioliveira.catalogo.infrastructure.validators.VersionCache;
+import io.vavr.collection.Iterator;
+import io.vavr.control.Either;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
 import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 @RestController
@@ -27,20 +71,53 @@ public class GenreController implements GenreApi {
 
     private final CreateGenreUseCase createGenreUseCase;
     private final GetGenreByIdUseCase getGenreByIdUseCase;
+    private final GetGenresByIdsUseCase getGenresByIdsUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final SuggestGenresUseCase suggestGenresUseCase;
+    private final AddGenreCategoriesUseCase addGenreCategoriesUseCase;
+    private final RemoveGenreCategoriesUseCase removeGenreCategoriesUseCase;
+    private final ListGenreCategoriesUseCase listGenreCategoriesUseCase;
+    private final ExpandGenreCategoriesUseCase expandGenreCategoriesUseCase;
+    private final ImportGenresUseCase importGenresUseCase;
+    private final BatchDeleteGenresUseCase batchDeleteGenresUseCase;
+    private final VersionCache versions;
+    private final ListValidators listValidators;
+    private final Duration streamingTimeout;
 
     public GenreController(final CreateGenreUseCase createGenreUseCase,
                            final GetGenreByIdUseCase getGenreByIdUseCase,
+                           final GetGenresByIdsUseCase getGenresByIdsUseCase,
                            final UpdateGenreUseCase updateGenreUseCase,
                            final DeleteGenreUseCase deleteGenreUseCase,
-                           final ListGenreUseCase listGenreUseCase) {
+                           final ListGenreUseCase listGenreUseCase,
+                           final SuggestGenresUseCase suggestGenresUseCase,
+                           final AddGenreCategoriesUseCase addGenreCategoriesUseCase,
+                           final RemoveGenreCategoriesUseCase removeGenreCategoriesUseCase,
+                           final ListGenreCategoriesUseCase listGenreCategoriesUseCase,
+                           final ExpandGenreCategoriesUseCase expandGenreCategoriesUseCase,
+                           final ImportGenresUseCase importGenresUseCase,
+                           final BatchDeleteGenresUseCase batchDeleteGenresUseCase,
+                           final VersionCache versions,
+                           final ListValidators listValidators,
+                           @Value("${streaming.request-timeout:1h}") final Duration streamingTimeout) {
         this.createGenreUseCase = Objects.requireNonNull(createGenreUseCase);
         this.getGenreByIdUseCase = Objects.requireNonNull(getGenreByIdUseCase);
+        this.getGenresByIdsUseCase = Objects.requireNonNull(getGenresByIdsUseCase);
         this.updateGenreUseCase = Objects.requireNonNull(updateGenreUseCase);
         this.deleteGenreUseCase = Objects.requireNonNull(deleteGenreUseCase);
         this.listGenreUseCase = Objects.requireNonNull(listGenreUseCase);
+        this.suggestGenresUseCase = Objects.requireNonNull(suggestGenresUseCase);
+        this.addGenreCategoriesUseCase = Objects.requireNonNull(addGenreCategoriesUseCase);
+        this.removeGenreCategoriesUseCase = Objects.requireNonNull(removeGenreCategoriesUseCase);
+        this.listGenreCategoriesUseCase = Objects.requireNonNull(listGenreCategoriesUseCase);
+        this.expandGenreCategoriesUseCase = Objects.requireNonNull(expandGenreCategoriesUseCase);
+        this.importGenresUseCase = Objects.requireNonNull(importGenresUseCase);
+        this.batchDeleteGenresUseCase = Objects.requireNonNull(batchDeleteGenresUseCase);
+        this.versions = Objects.requireNonNull(versions);
+        this.listValidators = Objects.requireNonNull(listValidators);
+        this.streamingTimeout = Objects.requireNonNull(streamingTimeout);
     }
 
     @Override
@@ -53,40 +130,165 @@ public class GenreController implements GenreApi {
         return ResponseEntity.created(URI.create("/genres/" + output.id())).body(output);
     }
 
+    @Override
+    public WebAsyncTask<Void> importGenres(final InputStream input, final HttpServletResponse response) {
+
+        final StreamingResponseBody body = out -> {
+            final Iterator<Either<Notification, CreateGenreCommand>> genres = Iterator
+                    .ofAll(Ndjson.read(input, CreateGenreRequest.class))
+                    .map(line -> line.map(request ->
+                            CreateGenreCommand.with(request.name(), request.isActive(), request.categories())));
+
+            final ImportGenresListener listener = new ImportGenresListener() {
+                @Override
+                public void onFailure(final ImportGenreFailure failure) {
+                    Ndjson.write(out, ImportGenresEventResponse.failure(failure));
+                }
+
+                @Override
+                public void onProgress(final ImportGenresOutput progress) {
+                    Ndjson.write(out, ImportGenresEventResponse.progress(progress));
+                    Ndjson.flush(out);
+                }
+            };
+
+            final ImportGenresOutput output = this.importGenresUseCase.execute(ImportGenresCommand.with(genres, listener));
+            Ndjson.write(out, ImportGenresEventResponse.done(output));
+        };
+
+        return Ndjson.stream(response, this.streamingTimeout, body);
+    }
+
     @Override
     public Pagination<GenreListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final String count,
+            final String expand,
+            final String categories,
+            final WebRequest request
     ) {
 
-        return this.listGenreUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
-                .map(GenreApiPresenter::present);
+        final SearchQuery query = new SearchQuery(page, perPage, search, sort, direction, cursor, CountMode.of(count));
+        final boolean expandCategories = ExpandGenreCategoriesCommand.requested(expand);
+
+        // Embedded categories change without the genre list changing, so those pages are not validated.
+        final ListValidator validator = expandCategories ? null : this.listValidators.current(Genre.class);
+        if (validator != null && request.checkNotModified(validator.etag())) {
+            return null;
+        }
+
+        final Pagination<GenreListOutput> genres = this.listGenreUseCase.execute(query);
+        if (!expandCategories) {
+            return genres.map(GenreApiPresenter::present);
+        }
+
+        final Map<String, ExpandGenreCategoriesOutput> expanded = this.expandGenreCategoriesUseCase
+                .execute(ExpandGenreCategoriesCommand.with(
+                        genres.items().stream().map(GenreListOutput::id).toList(),
+                        ExpandGenreCategoriesCommand.pageLimit(categories)));
+        return genres.map(genre -> GenreApiPresenter.present(genre, expanded.get(genre.id())));
+    }
+
+    @Override
+    public List<GenreResponse> findByIds(final List<String> ids) {
+        return this.getGenresByIdsUseCase.execute(ids).stream()
+                .map(GenreApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public List<GenreSuggestionResponse> suggest(final String prefix, final int limit) {
+        return this.suggestGenresUseCase
+                .execute(new SuggestQuery(prefix, limit)).stream()
+                .map(GenreApiPresenter::present)
+                .toList();
+    }
+
+    @Override
+    public ResponseEntity<GenreResponse> findById(final String id,
+                                                  final String categories,
+                                                  final String expand,
+                                                  final String ifNoneMatch) {
+        if (ExpandGenreCategoriesCommand.requested(expand)) {
+            return findExpandedById(id, categories);
+        }
+
+        final Long cached = this.versions.get(Genre.class, id);
+        if (ETags.ifNoneMatch(ifNoneMatch, cached)) {
+            return ETags.notModified(cached);
+        }
+
+        final GenreOutput output = this.getGenreByIdUseCase.execute(GetGenreByIdCommand.with(id, categories));
+        if (ETags.ifNoneMatch(ifNoneMatch, output.version())) {
+            return ETags.notModified(output.version());
+        }
+        return ResponseEntity.ok()
+                .headers(ETags.header(output.version()))
+                .body(GenreApiPresenter.present(output));
+    }
+
+    /**
+     * The embedded categories change without the genre's version, so this body is neither versioned nor compared
+     * with If-None-Match.
+     */
+    private ResponseEntity<GenreResponse> findExpandedById(final String id, final String categories) {
+        final GenreOutput output = this.getGenreByIdUseCase.execute(GetGenreByIdCommand.with(id, categories));
+        final Map<String, ExpandGenreCategoriesOutput> expanded = this.expandGenreCategoriesUseCase
+                .execute(ExpandGenreCategoriesCommand.with(output.id(), output.categories()));
+
+        return ResponseEntity.ok(GenreApiPresenter.present(output, expanded.get(output.id()).categories()));
     }
 
     @Override
-    public GenreResponse findById(final String id) {
-        return GenreApiPresenter
-                .present(this.getGenreByIdUseCase.execute(id));
+    public Pagination<String> listCategories(final String id, final String cursor, final int perPage) {
+        return this.listGenreCategoriesUseCase
+                .execute(ListGenreCategoriesCommand.with(id, cursor, perPage));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateGenreRequest input) {
 
         final UpdateGenreCommand command = UpdateGenreCommand.with(
                 id,
                 input.name(),
                 input.isActive(),
-                input.categories());
+                input.categories(),
+                ETags.ifMatch(ifMatch));
+
+        final UpdateGenreOutput output = this.updateGenreUseCase.execute(command);
 
-        return ResponseEntity.ok(this.updateGenreUseCase.execute(command));
+        return ResponseEntity.ok()
+                .headers(ETags.header(output.version()))
+                .body(output);
+    }
+
+    @Override
+    public void addCategories(final String id, final GenreCategoriesRequest input) {
+        this.addGenreCategoriesUseCase.execute(AddGenreCategoriesCommand.with(id, input.categories()));
+    }
+
+    @Override
+    public void removeCategory(final String id, final String categoryId) {
+        this.removeGenreCategoriesUseCase.execute(RemoveGenreCategoriesCommand.with(id, List.of(categoryId)));
+    }
+
+    @Override
+    public void removeCategories(final String id, final List<String> categoryIds) {
+        this.removeGenreCategoriesUseCase.execute(RemoveGenreCategoriesCommand.with(id, categoryIds));
     }
 
     @Override
     public void deleteById(final String id) {
         this.deleteGenreUseCase.execute(id);
     }
+
+    @Override
+    public void deleteByIds(final List<String> ids) {
+        this.batchDeleteGenresUseCase.execute(ids);
+    }
 }
@@ -2,6 +2,7 @@ package com.ioliveira.catalogo.infrastructure.api.controllers.exceptions;
 
 import com.ioliveira.catalogo.domain.exceptions.DomainException;
 import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -20,4 +21,9 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND.value()).body(ApiError.from(exception));
     }
 
+    @ExceptionHandler(value = VersionMismatchException.class)
+    public ResponseEntity<?> handleVersionMismatchException(VersionMismatchException exception) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED.value()).body(ApiError.from(exception));
+    }
+
 }
@@ -0,0 +1,12 @@
+package com.ioliveira.catalogo.infrastructure.cache;
+
+/**
+ * Counters since the cache was created. Evictions include entries dropped for size and for age.
+ */
+public record CacheStats(long hits, long misses, long evictions, long size, long weight) {
+
+    public double hitRate() {
+        final long requests = this.hits + this.misses;
+        return requests == 0 ? 1.0 : (double) this.hits / requests;
+    }
+}
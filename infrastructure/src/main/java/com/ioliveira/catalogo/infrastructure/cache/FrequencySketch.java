@@ -0,0 +1,75 @@
+package com.ioliveira.catalogo.infrastructure.cache;
+
+/**
+ * Count-min sketch of how often keys were seen, with 4-bit counters packed sixteen to a long. Once the table has
+ * counted ten times its size, every counter is halved, so old popularity fades and recent keys can compete.
+ */
+class FrequencySketch {
+
+    private static final int MAX_COUNT = 15;
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final long[] SEEDS = {
+            0xc3a5_c85c_97cb_3127L, 0xb492_b66f_be98_f273L, 0x9ae1_6a3b_2f90_404fL, 0xcbf2_9ce4_8422_2325L
+    };
+
+    private final long[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(final long expectedEntries) {
+        final int length = Integer.highestOneBit((int) Math.min(Math.max(expectedEntries, 16), 1 << 20) - 1) << 1;
+        this.table = new long[length];
+        this.mask = length - 1;
+        this.sampleSize = length * 10;
+    }
+
+    int frequency(final Object key) {
+        final int hash = key.hashCode();
+        int frequency = MAX_COUNT;
+        for (final long seed : SEEDS) {
+            final long slot = slot(hash, seed);
+            frequency = Math.min(frequency, (int) ((this.table[index(slot)] >>> offset(slot)) & MAX_COUNT));
+        }
+        return frequency;
+    }
+
+    void increment(final Object key) {
+        final int hash = key.hashCode();
+        boolean added = false;
+        for (final long seed : SEEDS) {
+            final long slot = slot(hash, seed);
+            final int index = index(slot);
+            final int offset = offset(slot);
+            if (((this.table[index] >>> offset) & MAX_COUNT) < MAX_COUNT) {
+                this.table[index] += 1L << offset;
+                added = true;
+            }
+        }
+
+        if (added && ++this.additions == this.sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+        }
+        this.additions /= 2;
+    }
+
+    private static long slot(final int hash, final long seed) {
+        long slot = (hash + seed) * seed;
+        slot ^= slot >>> 32;
+        return slot;
+    }
+
+    private int index(final long slot) {
+        return (int) (slot >>> 4) & this.mask;
+    }
+
+    private static int offset(final long slot) {
+        return ((int) slot & 15) << 2;
+    }
+}
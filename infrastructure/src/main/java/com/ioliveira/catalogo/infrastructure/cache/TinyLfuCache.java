@@ -0,0 +1,333 @@
+package com.ioliveira.catalogo.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Local cache bounded by the total weight of its values, with W-TinyLFU eviction: new entries go to a small LRU
+ * window, and an entry leaving the window only enters the main segmented LRU if a {@link FrequencySketch} says it
+ * is used more often than the entry it would evict. A burst of one-off reads therefore cannot flush the hot set.
+ * Entries also expire a fixed time after being written.
+ * <p>
+ * Lookups read a concurrent map; the LRU order is kept under a lock that readers only try to take, so under
+ * contention some accesses are not recorded rather than making readers wait.
+ */
+public class TinyLfuCache<K, V> {
+
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final long ttlNanos;
+    private final ToLongFunction<V> weigher;
+
+    private final Map<K, Node<V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock policy = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final LinkedHashMap<K, Node<V>> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Node<V>> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param expectedEntries roughly how many values fit in the maximum weight, to size the frequency sketch
+     */
+    public TinyLfuCache(final long maximumWeight, final long expectedEntries, final Duration ttl,
+                        final ToLongFunction<V> weigher) {
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = Math.max(1, maximumWeight * WINDOW_PERCENT / 100);
+        this.protectedMaximum = (maximumWeight - this.windowMaximum) * PROTECTED_PERCENT / 100;
+        this.ttlNanos = ttl.toNanos();
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    /**
+     * The cached value, or what the loader returns, which is cached unless the key was invalidated while it loaded:
+     * the loader may have read the value as it was before that write.
+     */
+    public Optional<V> get(final K key, final Function<K, Optional<V>> loader) {
+        final V cached = getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        final long since = this.invalidations.get();
+        final Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> put(key, value, since));
+        return loaded;
+    }
+
+    /**
+     * The cached values of the keys, plus what the loader returns for the ones that were not cached, in one call
+     * for all of them. Loaded values are cached under the same rule as {@link #get}; keys with no value are left out.
+     */
+    public Map<K, V> getAll(final Collection<K> keys, final Function<List<K>, Map<K, V>> loader) {
+        final Map<K, V> found = new HashMap<>(keys.size());
+        final List<K> missing = new ArrayList<>();
+        for (final K key : keys) {
+            final V cached = getIfPresent(key);
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            final long since = this.invalidations.get();
+            final Map<K, V> loaded = loader.apply(missing);
+            loaded.forEach((key, value) -> put(key, value, since));
+            found.putAll(loaded);
+        }
+        return found;
+    }
+
+    public V getIfPresent(final K key) {
+        final Node<V> node = this.data.get(key);
+
+        if (node == null || node.expiresAt - System.nanoTime() <= 0) {
+            this.misses.increment();
+            if (node != null) {
+                expire(key, node);
+            } else if (this.policy.tryLock()) {
+                try {
+                    this.sketch.increment(key);
+                } finally {
+                    this.policy.unlock();
+                }
+            }
+            return null;
+        }
+
+        this.hits.increment();
+        if (this.policy.tryLock()) {
+            try {
+                onAccess(key, node);
+            } finally {
+                this.policy.unlock();
+            }
+        }
+        return node.value;
+    }
+
+    public void invalidate(final K key) {
+        this.invalidations.incrementAndGet();
+        this.policy.lock();
+        try {
+            final Node<V> node = this.data.remove(key);
+            if (node != null) {
+                unlink(key, node);
+            }
+        } finally {
+            this.policy.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        this.invalidations.incrementAndGet();
+        this.policy.lock();
+        try {
+            this.data.clear();
+            this.window.clear();
+            this.probation.clear();
+            this.protectedSegment.clear();
+            this.windowWeight = 0;
+            this.probationWeight = 0;
+            this.protectedWeight = 0;
+        } finally {
+            this.policy.unlock();
+        }
+    }
+
+    public CacheStats stats() {
+        this.policy.lock();
+        try {
+            return new CacheStats(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.data.size(),
+                    this.windowWeight + this.probationWeight + this.protectedWeight);
+        } finally {
+            this.policy.unlock();
+        }
+    }
+
+    private void put(final K key, final V value, final long since) {
+        final long weight = this.weigher.applyAsLong(value);
+        if (weight > this.maximumWeight - this.windowMaximum) {
+            return;
+        }
+
+        this.policy.lock();
+        try {
+            if (this.invalidations.get() != since) {
+                return;
+            }
+
+            final Node<V> node = new Node<>(value, weight, System.nanoTime() + this.ttlNanos);
+            final Node<V> previous = this.data.put(key, node);
+            if (previous != null) {
+                unlink(key, previous);
+            }
+
+            node.segment = Segment.WINDOW;
+            this.window.put(key, node);
+            this.windowWeight += weight;
+
+            evict();
+        } finally {
+            this.policy.unlock();
+        }
+    }
+
+    private void onAccess(final K key, final Node<V> node) {
+        this.sketch.increment(key);
+
+        switch (node.segment) {
+            case WINDOW -> this.window.get(key);
+            case PROTECTED -> this.protectedSegment.get(key);
+            case PROBATION -> {
+                this.probation.remove(key);
+                this.probationWeight -= node.weight;
+                node.segment = Segment.PROTECTED;
+                this.protectedSegment.put(key, node);
+                this.protectedWeight += node.weight;
+                demoteProtected();
+            }
+            case REMOVED -> {
+            }
+        }
+    }
+
+    /**
+     * Entries leaving the window compete with the probation LRU for room in the main segment; the more frequent
+     * one stays.
+     */
+    private void evict() {
+        while (this.windowWeight > this.windowMaximum) {
+            final Map.Entry<K, Node<V>> eldest = this.window.entrySet().iterator().next();
+            final K candidate = eldest.getKey();
+            final Node<V> node = eldest.getValue();
+            this.window.remove(candidate);
+            this.windowWeight -= node.weight;
+
+            if (admit(candidate, node)) {
+                node.segment = Segment.PROBATION;
+                this.probation.put(candidate, node);
+                this.probationWeight += node.weight;
+            } else {
+                this.data.remove(candidate, node);
+                node.segment = Segment.REMOVED;
+                this.evictions.increment();
+            }
+        }
+    }
+
+    private boolean admit(final K candidate, final Node<V> node) {
+        final long mainMaximum = this.maximumWeight - this.windowMaximum;
+        final int candidateFrequency = this.sketch.frequency(candidate);
+
+        while (this.probationWeight + this.protectedWeight + node.weight > mainMaximum) {
+            final LinkedHashMap<K, Node<V>> segment = this.probation.isEmpty() ? this.protectedSegment : this.probation;
+            final Iterator<Map.Entry<K, Node<V>>> victims = segment.entrySet().iterator();
+            final Map.Entry<K, Node<V>> victim = victims.next();
+
+            if (this.sketch.frequency(victim.getKey()) >= candidateFrequency) {
+                return false;
+            }
+
+            victims.remove();
+            this.data.remove(victim.getKey(), victim.getValue());
+            if (segment == this.probation) {
+                this.probationWeight -= victim.getValue().weight;
+            } else {
+                this.protectedWeight -= victim.getValue().weight;
+            }
+            victim.getValue().segment = Segment.REMOVED;
+            this.evictions.increment();
+        }
+        return true;
+    }
+
+    private void demoteProtected() {
+        while (this.protectedWeight > this.protectedMaximum) {
+            final Iterator<Map.Entry<K, Node<V>>> eldest = this.protectedSegment.entrySet().iterator();
+            final Map.Entry<K, Node<V>> entry = eldest.next();
+            eldest.remove();
+            this.protectedWeight -= entry.getValue().weight;
+            entry.getValue().segment = Segment.PROBATION;
+            this.probation.put(entry.getKey(), entry.getValue());
+            this.probationWeight += entry.getValue().weight;
+        }
+    }
+
+    private void expire(final K key, final Node<V> node) {
+        this.policy.lock();
+        try {
+            if (this.data.remove(key, node)) {
+                unlink(key, node);
+                this.evictions.increment();
+            }
+        } finally {
+            this.policy.unlock();
+        }
+    }
+
+    private void unlink(final K key, final Node<V> node) {
+        switch (node.segment) {
+            case WINDOW -> {
+                this.window.remove(key);
+                this.windowWeight -= node.weight;
+            }
+            case PROBATION -> {
+                this.probation.remove(key);
+                this.probationWeight -= node.weight;
+            }
+            case PROTECTED -> {
+                this.protectedSegment.remove(key);
+                this.protectedWeight -= node.weight;
+            }
+            case REMOVED -> {
+            }
+        }
+        node.segment = Segment.REMOVED;
+    }
+
+    private enum Segment {
+        WINDOW, PROBATION, PROTECTED, REMOVED
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+        private final long weight;
+        private final long expiresAt;
+        private Segment segment = Segment.REMOVED;
+
+        private Node(final V value, final long weight, final long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ioliveira.catalogo.infrastructure.cache.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ioliveira.catalogo.infrastructure.cache.CacheStats;
+
+public record CacheStatsResponse(
+        @JsonProperty("hits") long hits,
+        @JsonProperty("misses") long misses,
+        @JsonProperty("hit_rate") double hitRate,
+        @JsonProperty("evictions") long evictions,
+        @JsonProperty("size") long size,
+        @JsonProperty("weight") long weight
+) {
+
+    public static CacheStatsResponse from(final CacheStats stats) {
+        return new CacheStatsResponse(
+                stats.hits(),
+                stats.misses(),
+                stats.hitRate(),
+                stats.evictions(),
+                stats.size(),
+                stats.weight()
+        );
+    }
+
+}
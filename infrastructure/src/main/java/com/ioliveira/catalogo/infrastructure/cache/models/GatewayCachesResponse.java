@@ -0,0 +1,9 @@
+package com.ioliveira.catalogo.infrastructure.cache.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record GatewayCachesResponse(
+        @JsonProperty("categories") CacheStatsResponse categories,
+        @JsonProperty("genres") CacheStatsResponse genres
+) {
+}
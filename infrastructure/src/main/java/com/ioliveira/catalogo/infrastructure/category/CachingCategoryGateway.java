@@ -0,0 +1,160 @@
+package com.ioliveira.catalogo.infrastructure.category;
+
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.category.CategorySnapshot;
+import com.ioliveira.catalogo.domain.pagination.Pagination;
+import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import com.ioliveira.catalogo.infrastructure.cache.CacheStats;
+import com.ioliveira.catalogo.infrastructure.cache.TinyLfuCache;
+import com.ioliveira.catalogo.infrastructure.genre.CachingGenreGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Serves {@link #findSnapshotById} and {@link #findByIds} from a local {@link TinyLfuCache} of immutable snapshots in
+ * front of {@link CategoryMySQLGateway}, weighing each category by its approximate size in memory. Every write evicts
+ * the categories it touches once it has been committed. {@link #findById} loads the category to be changed, so it
+ * always reads the delegate: a cached version written by another instance would fail the update with a mismatch.
+ */
+@Primary
+@Component
+public class CachingCategoryGateway implements CategoryGateway {
+
+    private static final long ENTRY_BYTES = 256;
+
+    private final CategoryGateway delegate;
+    private final CachingGenreGateway genres;
+    private final TinyLfuCache<CategoryID, CategorySnapshot> cache;
+
+    public CachingCategoryGateway(final CategoryMySQLGateway delegate,
+                                  final CachingGenreGateway genres,
+                                  @Value("${gateway.cache.enabled:false}") final boolean enabled,
+                                  @Value("${gateway.cache.maximum-size:16MB}") final DataSize maximumSize,
+                                  @Value("${gateway.cache.ttl:PT5M}") final Duration ttl) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.genres = Objects.requireNonNull(genres);
+        final long maximumWeight = enabled ? maximumSize.toBytes() : 0;
+        this.cache = new TinyLfuCache<>(maximumWeight, maximumWeight / (ENTRY_BYTES * 2), ttl, CachingCategoryGateway::weigh);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return this.delegate.create(category);
+        } finally {
+            this.cache.invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return this.delegate.createAll(categories);
+        } finally {
+            categories.forEach(category -> this.cache.invalidate(category.getId()));
+        }
+    }
+
+    /**
+     * The links of the deleted category go with it, so cached genres may still list it and are evicted too.
+     */
+    @Override
+    public void deleteById(final CategoryID id) {
+        try {
+            this.delegate.deleteById(id);
+        } finally {
+            this.cache.invalidate(id);
+            this.genres.invalidateAll();
+        }
+    }
+
+    @Override
+    public void deleteByIds(final List<CategoryID> ids) {
+        try {
+            this.delegate.deleteByIds(ids);
+        } finally {
+            ids.forEach(this.cache::invalidate);
+            this.genres.invalidateAll();
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public Optional<CategorySnapshot> findSnapshotById(final CategoryID id) {
+        return this.cache.get(id, this.delegate::findSnapshotById);
+    }
+
+    /**
+     * Reads only the categories that are not cached, with one call to the delegate.
+     */
+    @Override
+    public List<Category> findByIds(final Iterable<CategoryID> ids) {
+        final List<CategoryID> distinct = StreamSupport.stream(ids.spliterator(), false).distinct().toList();
+        final Map<CategoryID, CategorySnapshot> found = this.cache.getAll(distinct, missing ->
+                this.delegate.findByIds(missing).stream()
+                        .collect(Collectors.toMap(Category::getId, CategorySnapshot::from)));
+
+        return distinct.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(Category::with)
+                .toList();
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return this.delegate.update(category);
+        } finally {
+            this.cache.invalidate(category.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery query) {
+        return this.delegate.suggest(query);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.delegate.existsByIds(ids);
+    }
+
+    @Override
+    public void exportAll(final Consumer<Category> action) {
+        this.delegate.exportAll(action);
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    private static long weigh(final CategorySnapshot category) {
+        final String description = category.description();
+        return ENTRY_BYTES + 2L * (category.name().length() + (description == null ? 0 : description.length()));
+    }
+}
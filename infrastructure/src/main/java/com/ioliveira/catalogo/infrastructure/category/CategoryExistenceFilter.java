@@ -0,0 +1,15 @@
+package com.ioliveira.catalogo.infrastructure.category;
+
+import com.ioliveira.catalogo.infrastructure.existence.ExistenceFilter;
+import com.ioliveira.catalogo.infrastructure.streaming.RowStreamer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryExistenceFilter extends ExistenceFilter {
+
+    public CategoryExistenceFilter(final RowStreamer rowStreamer,
+                                   @Value("${gateway.existence-filter.enabled:false}") final boolean enabled) {
+        super(enabled, rowStreamer, "category");
+    }
+}
@@ -3,43 +3,164 @@ package com.ioliveira.catalogo.infrastructure.category;
 import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.category.CategorySnapshot;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.pagination.CountMode;
 import com.ioliveira.catalogo.domain.pagination.Pagination;
 import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
 import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import com.ioliveira.catalogo.infrastructure.pagination.Paginator;
+import com.ioliveira.catalogo.infrastructure.search.SearchIndex;
+import com.ioliveira.catalogo.infrastructure.streaming.RowStreamer;
+import com.ioliveira.catalogo.infrastructure.utils.SearchUtils;
+import com.ioliveira.catalogo.infrastructure.utils.SpecificationUtils;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidators;
+import com.ioliveira.catalogo.infrastructure.validators.VersionCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
-import static com.ioliveira.catalogo.infrastructure.utils.SpecificationUtils.like;
-
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    private static final String TABLE = "category";
+    private static final int DELETE_CHUNK_SIZE = 1_000;
+    private static final int ID_CHUNK_SIZE = 1_024;
+    private static final String EXPORT_SQL = """
+            SELECT id, name, description, active, created_at, updated_at, deleted_at
+            FROM category
+            ORDER BY id""";
+
     private final CategoryRepository repository;
+    private final EntityManager entityManager;
+    private final Paginator paginator;
+    private final CategorySearchIndex searchIndex;
+    private final CategoryExistenceFilter existenceFilter;
+    private final RowStreamer rowStreamer;
+    private final VersionCache versions;
+    private final ListValidators listValidators;
+    private final boolean fullText;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(final CategoryRepository repository,
+                                final EntityManager entityManager,
+                                final Paginator paginator,
+                                final CategorySearchIndex searchIndex,
+                                final CategoryExistenceFilter existenceFilter,
+                                final RowStreamer rowStreamer,
+                                final VersionCache versions,
+                                final ListValidators listValidators,
+                                @Value("${search.full-text.enabled:false}") final boolean fullText) {
         this.repository = repository;
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.paginator = Objects.requireNonNull(paginator);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.existenceFilter = Objects.requireNonNull(existenceFilter);
+        this.rowStreamer = Objects.requireNonNull(rowStreamer);
+        this.versions = Objects.requireNonNull(versions);
+        this.listValidators = Objects.requireNonNull(listValidators);
+        this.listValidators.register(Category.class, TABLE);
+        this.fullText = fullText;
     }
 
+    /**
+     * A new category is always persisted, which issues the INSERT alone, instead of letting save() decide between
+     * inserting and merging.
+     */
     @Override
+    @Transactional
     public Category create(final Category category) {
-        return this.repository
-                .save(CategoryJpaEntity.from(category))
-                .toAggregate();
+        final CategoryJpaEntity entity = CategoryJpaEntity.from(category);
+        this.entityManager.persist(entity);
+
+        this.paginator.invalidate(TABLE);
+        this.listValidators.changed(Category.class, 1);
+        this.searchIndex.put(entity);
+        this.existenceFilter.put(entity.getId());
+        return remember(entity).toAggregate();
     }
 
+    /**
+     * Persists instead of saving, so no row is selected first and Hibernate can group the INSERTs in JDBC batches
+     * of hibernate.jdbc.batch_size. The context is cleared afterwards so large imports do not keep every entity around.
+     */
     @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        final List<CategoryJpaEntity> entities = categories.stream()
+                .map(CategoryJpaEntity::from)
+                .toList();
+
+        entities.forEach(this.entityManager::persist);
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        this.paginator.invalidate(TABLE);
+        this.listValidators.changed(Category.class, entities.size());
+        entities.forEach(this.searchIndex::put);
+        this.existenceFilter.putAll(entities.stream().map(CategoryJpaEntity::getId).toList());
+
+        return entities.stream()
+                .map(this::remember)
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public void deleteById(final CategoryID id) {
         final String categoryId = id.getValue();
-        if (this.repository.existsById(categoryId)) {
-            this.repository.deleteById(categoryId);
+        this.versions.remove(Category.class, categoryId);
+        touchLinkedGenres(List.of(categoryId));
+        if (this.repository.deleteOne(categoryId) > 0) {
+            this.paginator.invalidate(TABLE);
+            this.listValidators.changed(Category.class, -1);
+            this.searchIndex.remove(categoryId);
+            this.existenceFilter.remove(categoryId);
+        }
+    }
+
+    /**
+     * Deletes with IN lists of at most {@value DELETE_CHUNK_SIZE} IDs, so no statement grows past what the
+     * database plans well.
+     */
+    @Override
+    @Transactional
+    public void deleteByIds(final List<CategoryID> ids) {
+        final List<String> categoryIds = ids.stream().map(CategoryID::getValue).toList();
+        categoryIds.forEach(categoryId -> this.versions.remove(Category.class, categoryId));
+
+        int deleted = 0;
+        for (int from = 0; from < categoryIds.size(); from += DELETE_CHUNK_SIZE) {
+            final List<String> chunk = categoryIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, categoryIds.size()));
+            touchLinkedGenres(chunk);
+            deleted += this.repository.deleteAllIn(chunk);
+        }
+
+        if (deleted > 0) {
+            this.paginator.invalidate(TABLE);
+            this.listValidators.changed(Category.class, -deleted);
+            categoryIds.forEach(this.searchIndex::remove);
+            this.existenceFilter.removeAll(categoryIds);
         }
     }
 
@@ -47,51 +168,146 @@ public class CategoryMySQLGateway implements CategoryGateway {
     public Optional<Category> findById(final CategoryID id) {
         return this.repository
                 .findById(id.getValue())
+                .map(this::remember)
                 .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
+    public Optional<CategorySnapshot> findSnapshotById(final CategoryID id) {
+        return findById(id).map(CategorySnapshot::from);
+    }
+
+    /**
+     * Reads the categories by primary key in IN lists of at most {@value ID_CHUNK_SIZE}.
+     */
+    @Override
+    public List<Category> findByIds(final Iterable<CategoryID> categoryIDs) {
+        final List<String> ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryID::getValue)
+                .distinct()
+                .toList();
+
+        final Map<String, Category> found = new HashMap<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            this.repository
+                    .findAllById(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))
+                    .forEach(entity -> found.put(entity.getId(), remember(entity).toAggregate()));
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Writes onto the managed row only while it is still at the version the category was read at. The UPDATE is
+     * flushed here, so a concurrent write that bumped the version in between fails this call too.
+     */
+    @Override
+    @Transactional
     public Category update(final Category category) {
-        return this.repository
-                .save(CategoryJpaEntity.from(category))
-                .toAggregate();
+        final String categoryId = category.getId().getValue();
+        final CategoryJpaEntity entity = this.entityManager.find(CategoryJpaEntity.class, categoryId);
+        if (entity == null) {
+            return create(category);
+        }
+
+        if (category.getVersion() != null && !category.getVersion().equals(entity.getVersion())) {
+            throw VersionMismatchException.with(Category.class, categoryId, category.getVersion());
+        }
+
+        entity.updateFrom(category);
+        try {
+            this.entityManager.flush();
+        } catch (final OptimisticLockException e) {
+            throw VersionMismatchException.with(Category.class, categoryId);
+        }
+
+        this.listValidators.changed(Category.class, 0);
+        this.searchIndex.put(entity);
+        return remember(entity).toAggregate();
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery query) {
-        final PageRequest page = PageRequest.of(query.page(),
-                query.perPage(),
-                Sort.Direction.valueOf(query.direction().toUpperCase()),
-                query.sort()
-        );
-
-        final Specification<CategoryJpaEntity> specifications = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> {
-                    final Specification<CategoryJpaEntity> nameLike = like("name", str);
-                    final Specification<CategoryJpaEntity> descriptionLike = like("description", str);
-                    return nameLike.or(descriptionLike);
-                })
+        final Optional<List<String>> hits = this.searchIndex.search(query.terms());
+
+        if (hits.isPresent() && SearchIndex.RELEVANCE.equals(query.sort())) {
+            return this.paginator
+                    .findRanked(CategoryJpaEntity.class, hits.get(), query, CategoryJpaEntity::getId)
+                    .map(CategoryJpaEntity::toAggregate);
+        }
+
+        final Specification<CategoryJpaEntity> specifications = hits
+                .filter(ids -> ids.size() <= SearchIndex.MAX_ID_FILTER)
+                .map(SpecificationUtils::<CategoryJpaEntity>idIn)
+                .or(() -> Optional.ofNullable(query.terms())
+                        .filter(str -> !str.isBlank())
+                        .map(str -> SpecificationUtils.<CategoryJpaEntity>search(str, this.fullText, "nameSearch", "descriptionSearch")))
                 .orElse(null);
 
-        final Page<CategoryJpaEntity> pageResult = this.repository.findAll(specifications, page);
+        return this.paginator
+                .findAll(CategoryJpaEntity.class, TABLE, specifications, SearchIndex.columnSorted(query, "name"))
+                .map(CategoryJpaEntity::toAggregate);
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList());
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery query) {
+        return this.searchIndex.suggest(query).orElseGet(() -> this.paginator
+                .findAll(CategoryJpaEntity.class, TABLE,
+                        SpecificationUtils.startsWith("nameSearch", SearchUtils.normalize(query.prefix())),
+                        new SearchQuery(0, query.limit(), query.prefix(), "nameSearch", "asc", null, CountMode.NONE))
+                .map(entity -> new Suggestion(entity.getId(), entity.getName()))
+                .items());
     }
 
+    /**
+     * Looks the distinct IDs up in IN lists of at most {@value ID_CHUNK_SIZE}, which
+     * hibernate.query.in_clause_parameter_padding rounds up to a power of two, so however many categories a genre
+     * links the database parses only a handful of statement shapes and Hibernate caches one plan per shape.
+     */
     @Override
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
         final List<String> ids = StreamSupport.stream(categoryIDs.spliterator(), false)
                 .map(CategoryID::getValue)
+                .distinct()
                 .toList();
 
-        return this.repository
-                .existsByIds(ids).stream()
-                .map(CategoryID::from)
-                .toList();
+        if (this.existenceFilter.containsAll(ids)) {
+            return ids.stream().map(CategoryID::from).toList();
+        }
+
+        final List<CategoryID> found = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            this.repository
+                    .existsByIds(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))
+                    .forEach(id -> found.add(CategoryID.from(id)));
+        }
+        return found;
+    }
+
+    @Override
+    public void exportAll(final Consumer<Category> action) {
+        this.rowStreamer.forEach(EXPORT_SQL, row -> action.accept(Category.with(
+                CategoryID.from(row.getString("id")),
+                row.getString("name"),
+                row.getString("description"),
+                row.getBoolean("active"),
+                RowStreamer.instant(row, "created_at"),
+                RowStreamer.instant(row, "updated_at"),
+                RowStreamer.instant(row, "deleted_at")
+        )));
+    }
+
+    private void touchLinkedGenres(final List<String> categoryIds) {
+        if (this.repository.touchLinkedGenres(categoryIds) > 0) {
+            this.versions.removeAll(Genre.class);
+        }
+    }
+
+    private CategoryJpaEntity remember(final CategoryJpaEntity entity) {
+        this.versions.put(Category.class, entity.getId(), entity.getVersion());
+        return entity;
     }
 }
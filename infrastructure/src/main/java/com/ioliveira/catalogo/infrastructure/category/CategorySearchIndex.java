@@ -0,0 +1,34 @@
+package com.ioliveira.catalogo.infrastructure.category;
+
+import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.ioliveira.catalogo.infrastructure.search.SearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class CategorySearchIndex extends SearchIndex<CategoryJpaEntity> {
+
+    public CategorySearchIndex(final CategoryRepository repository,
+                               @Value("${search.index.enabled:false}") final boolean enabled,
+                               @Value("${search.index.refresh-interval:PT30S}") final Duration refreshInterval) {
+        super(enabled, repository::findAll, repository::findByUpdatedAtGreaterThanEqual, refreshInterval);
+    }
+
+    @Override
+    protected String idOf(final CategoryJpaEntity entity) {
+        return entity.getId();
+    }
+
+    @Override
+    protected String nameOf(final CategoryJpaEntity entity) {
+        return entity.getName();
+    }
+
+    @Override
+    protected String[] textsOf(final CategoryJpaEntity entity) {
+        return new String[]{entity.getNameSearch(), entity.getDescriptionSearch()};
+    }
+}
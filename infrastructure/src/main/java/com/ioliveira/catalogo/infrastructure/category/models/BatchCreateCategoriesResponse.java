@@ -0,0 +1,21 @@
+package com.ioliveira.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoriesOutput;
+
+import java.util.List;
+
+public record BatchCreateCategoriesResponse(
+        @JsonProperty("created") int created,
+        @JsonProperty("failed") int failed,
+        @JsonProperty("items") List<BatchCreateCategoryItemResponse> items
+) {
+
+    public static BatchCreateCategoriesResponse from(final BatchCreateCategoriesOutput output) {
+        return new BatchCreateCategoriesResponse(
+                output.created(),
+                output.failed(),
+                output.items().stream().map(BatchCreateCategoryItemResponse::from).toList()
+        );
+    }
+}
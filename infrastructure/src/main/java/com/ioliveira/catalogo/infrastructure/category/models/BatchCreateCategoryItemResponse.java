@@ -0,0 +1,18 @@
+package com.ioliveira.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoryItem;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+public record BatchCreateCategoryItemResponse(
+        @JsonProperty("index") int index,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+
+    public static BatchCreateCategoryItemResponse from(final BatchCreateCategoryItem item) {
+        return new BatchCreateCategoryItemResponse(item.index(), item.id(), item.errors());
+    }
+}
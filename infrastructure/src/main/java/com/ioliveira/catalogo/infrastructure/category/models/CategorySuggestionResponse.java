@@ -0,0 +1,15 @@
+package com.ioliveira.catalogo.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ioliveira.catalogo.application.category.retrieve.suggest.CategorySuggestionOutput;
+
+public record CategorySuggestionResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+
+    public static CategorySuggestionResponse from(final CategorySuggestionOutput output) {
+        return new CategorySuggestionResponse(output.id().getValue(), output.name());
+    }
+
+}
@@ -2,11 +2,13 @@ package com.ioliveira.catalogo.infrastructure.category.persistence;
 
 import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.infrastructure.utils.SearchUtils;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.time.Instant;
 
 @Table(name = "category")
@@ -21,6 +23,12 @@ public class CategoryJpaEntity {
     @Column(name = "description", length = 4000)
     private String description;
 
+    @Column(name = "name_search")
+    private String nameSearch;
+
+    @Column(name = "description_search", length = 4000)
+    private String descriptionSearch;
+
     @Column(name = "active", nullable = false)
     private boolean active;
 
@@ -33,6 +41,10 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public CategoryJpaEntity() {
     }
 
@@ -41,6 +53,8 @@ public class CategoryJpaEntity {
         this.id = id;
         this.name = name;
         this.description = description;
+        this.nameSearch = SearchUtils.normalize(name);
+        this.descriptionSearch = SearchUtils.normalize(description);
         this.active = active;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -54,7 +68,18 @@ public class CategoryJpaEntity {
 
     public Category toAggregate() {
         return Category.with(CategoryID.from(getId()), getName(), getDescription(), getActive(),
-                getCreatedAt(), getUpdatedAt(), getDeletedAt());
+                getCreatedAt(), getUpdatedAt(), getDeletedAt(), getVersion());
+    }
+
+    /**
+     * Copies the category onto this managed row; the version is left to Hibernate.
+     */
+    public void updateFrom(final Category category) {
+        setName(category.getName());
+        setDescription(category.getDescription());
+        setActive(category.isActive());
+        setUpdatedAt(category.getUpdatedAt());
+        setDeletedAt(category.getDeletedAt());
     }
 
     public String getId() {
@@ -71,6 +96,7 @@ public class CategoryJpaEntity {
 
     public void setName(final String name) {
         this.name = name;
+        this.nameSearch = SearchUtils.normalize(name);
     }
 
     public String getDescription() {
@@ -79,6 +105,15 @@ public class CategoryJpaEntity {
 
     public void setDescription(final String description) {
         this.description = description;
+        this.descriptionSearch = SearchUtils.normalize(description);
+    }
+
+    public String getNameSearch() {
+        return nameSearch;
+    }
+
+    public String getDescriptionSearch() {
+        return descriptionSearch;
     }
 
     public boolean getActive() {
@@ -112,4 +147,8 @@ public class CategoryJpaEntity {
     public void setDeletedAt(final Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -4,15 +4,44 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+    /**
+     * Rows written since the given instant, read through the updated_at index to refresh the search index.
+     */
+    Page<CategoryJpaEntity> findByUpdatedAtGreaterThanEqual(Instant since, Pageable page);
+
     @Query(value = "select c.id from CategoryJpaEntity c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    /**
+     * One DELETE without loading the row first, unlike deleteById; the genre links go with it through the
+     * foreign key's ON DELETE CASCADE.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from CategoryJpaEntity c where c.id = :id")
+    int deleteOne(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from CategoryJpaEntity c where c.id in :ids")
+    int deleteAllIn(@Param("ids") Collection<String> ids);
+
+    /**
+     * Deleting categories drops their genre links through the cascade without touching the genres, so their
+     * version is bumped first to give them a new ETag.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update GenreJpaEntity g set g.version = g.version + 1 where g.id in "
+            + "(select gc.id.genreId from GenreCategoryJpaEntity gc where gc.id.categoryId in :ids)")
+    int touchLinkedGenres(@Param("ids") Collection<String> ids);
 }
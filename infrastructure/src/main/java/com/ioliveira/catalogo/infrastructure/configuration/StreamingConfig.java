@@ -0,0 +1,32 @@
+package com.ioliveira.catalogo.infrastructure.configuration;
+
+import com.ioliveira.catalogo.infrastructure.streaming.RowStreamer;
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class StreamingConfig {
+
+    @Bean
+    @ConfigurationProperties("export.datasource")
+    public HikariConfig exportPool() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    public RowStreamer rowStreamer(final DataSource dataSource,
+                                   final HikariConfig exportPool,
+                                   @Value("${export.fetch-size:1000}") final int fetchSize) {
+        if (!StringUtils.hasText(exportPool.getJdbcUrl())) {
+            return new RowStreamer(dataSource, fetchSize);
+        }
+        return new RowStreamer(exportPool, fetchSize);
+    }
+
+}
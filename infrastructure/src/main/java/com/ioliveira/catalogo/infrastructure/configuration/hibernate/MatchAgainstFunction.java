@@ -0,0 +1,51 @@
+package com.ioliveira.catalogo.infrastructure.configuration.hibernate;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+
+/**
+ * Renders {@code match_against(col1, ..., colN, query)} as MySQL's
+ * {@code match(col1, ..., colN) against (query in boolean mode)}.
+ */
+public class MatchAgainstFunction implements SQLFunction {
+
+    @Override
+    public boolean hasArguments() {
+        return true;
+    }
+
+    @Override
+    public boolean hasParenthesesIfNoArguments() {
+        return true;
+    }
+
+    @Override
+    public Type getReturnType(final Type firstArgumentType, final Mapping mapping) throws QueryException {
+        return StandardBasicTypes.DOUBLE;
+    }
+
+    /**
+     * {@link SQLFunction} declares the arguments as a raw list, which an override cannot narrow to {@code List<?>}.
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public String render(final Type firstArgumentType, final List rawArguments, final SessionFactoryImplementor factory) {
+        final List<?> arguments = rawArguments;
+        if (arguments.size() < 2) {
+            throw new QueryException("match_against requires at least one column and a query");
+        }
+
+        final List<?> columns = arguments.subList(0, arguments.size() - 1);
+        final Object query = arguments.get(arguments.size() - 1);
+
+        return "match(%s) against (%s in boolean mode)".formatted(
+                String.join(", ", columns.stream().map(String::valueOf).toList()),
+                query);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ioliveira.catalogo.infrastructure.configuration.hibernate;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers SQL the JPA Criteria API cannot express, so it can be used through {@code cb.function(...)}.
+ * Wired via the {@code hibernate.metadata_builder_contributor} property.
+ */
+public class SqlFunctionsContributor implements MetadataBuilderContributor {
+
+    public static final String COUNT_OVER = "count_over";
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(COUNT_OVER, new SQLFunctionTemplate(StandardBasicTypes.LONG, "count(*) over()"));
+        metadataBuilder.applySqlFunction(MATCH_AGAINST, new MatchAgainstFunction());
+    }
+}
@@ -2,15 +2,26 @@ package com.ioliveira.catalogo.infrastructure.configuration.usecases;
 
 import com.ioliveira.catalogo.application.category.create.CreateCategoryUseCase;
 import com.ioliveira.catalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.create.batch.DefaultBatchCreateCategoriesUseCase;
 import com.ioliveira.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.ioliveira.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.ioliveira.catalogo.application.category.delete.batch.BatchDeleteCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.delete.batch.DefaultBatchDeleteCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.export.DefaultExportCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.export.ExportCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.get.DefaultGetCategoriesByIdsUseCase;
 import com.ioliveira.catalogo.application.category.retrieve.get.DefaultGetCategoryByIdUsecase;
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdUsecase;
 import com.ioliveira.catalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.ioliveira.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.suggest.DefaultSuggestCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.ioliveira.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.ioliveira.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,9 +31,22 @@ import java.util.Objects;
 public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway;
+    private final int batchChunkSize;
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
+    public CategoryUseCaseConfig(final CategoryGateway categoryGateway,
+                                 @Value("${batch.chunk-size:500}") final int batchChunkSize) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.batchChunkSize = batchChunkSize;
+    }
+
+    @Bean
+    public BatchCreateCategoriesUseCase batchCreateCategoriesUseCase() {
+        return new DefaultBatchCreateCategoriesUseCase(categoryGateway, batchChunkSize);
+    }
+
+    @Bean
+    public BatchDeleteCategoriesUseCase batchDeleteCategoriesUseCase() {
+        return new DefaultBatchDeleteCategoriesUseCase(categoryGateway);
     }
 
     @Bean
@@ -35,6 +59,16 @@ public class CategoryUseCaseConfig {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUsecase getCategoryByIdUsecase() {
         return new DefaultGetCategoryByIdUsecase(categoryGateway);
@@ -45,6 +79,11 @@ public class CategoryUseCaseConfig {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    public SuggestCategoriesUseCase suggestCategoriesUseCase() {
+        return new DefaultSuggestCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
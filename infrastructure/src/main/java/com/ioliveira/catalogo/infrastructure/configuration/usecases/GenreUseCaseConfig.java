@@ -1,17 +1,36 @@
 package com.ioliveira.catalogo.infrastructure.configuration.usecases;
 
 import com.ioliveira.catalogo.application.category.retrieve.list.DefaultListGenreUseCase;
+import com.ioliveira.catalogo.application.genre.categories.add.AddGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.add.DefaultAddGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.expand.DefaultExpandGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.expand.ExpandGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.list.DefaultListGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.list.ListGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.remove.DefaultRemoveGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.remove.RemoveGenreCategoriesUseCase;
 import com.ioliveira.catalogo.application.genre.create.CreateGenreUseCase;
 import com.ioliveira.catalogo.application.genre.create.DefaultCreateGenreUseCase;
 import com.ioliveira.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.ioliveira.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.ioliveira.catalogo.application.genre.delete.batch.BatchDeleteGenresUseCase;
+import com.ioliveira.catalogo.application.genre.delete.batch.DefaultBatchDeleteGenresUseCase;
+import com.ioliveira.catalogo.application.genre.export.DefaultExportGenresUseCase;
+import com.ioliveira.catalogo.application.genre.export.ExportGenresUseCase;
+import com.ioliveira.catalogo.application.genre.imports.DefaultImportGenresUseCase;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresUseCase;
 import com.ioliveira.catalogo.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.get.DefaultGetGenresByIdsUseCase;
 import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
 import com.ioliveira.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.suggest.DefaultSuggestGenresUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.suggest.SuggestGenresUseCase;
 import com.ioliveira.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
 import com.ioliveira.catalogo.application.genre.update.UpdateGenreUseCase;
 import com.ioliveira.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,10 +41,24 @@ public class GenreUseCaseConfig {
 
     private final GenreGateway genreGateway;
     private final CategoryGateway categoryGateway;
+    private final int batchChunkSize;
 
-    public GenreUseCaseConfig(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+    public GenreUseCaseConfig(final CategoryGateway categoryGateway,
+                              final GenreGateway genreGateway,
+                              @Value("${batch.chunk-size:500}") final int batchChunkSize) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.batchChunkSize = batchChunkSize;
+    }
+
+    @Bean
+    public AddGenreCategoriesUseCase addGenreCategoriesUseCase() {
+        return new DefaultAddGenreCategoriesUseCase(genreGateway, categoryGateway);
+    }
+
+    @Bean
+    public BatchDeleteGenresUseCase batchDeleteGenresUseCase() {
+        return new DefaultBatchDeleteGenresUseCase(genreGateway);
     }
 
     @Bean
@@ -38,16 +71,51 @@ public class GenreUseCaseConfig {
         return new DefaultDeleteGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public ExpandGenreCategoriesUseCase expandGenreCategoriesUseCase() {
+        return new DefaultExpandGenreCategoriesUseCase(genreGateway, categoryGateway);
+    }
+
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreGateway);
+    }
+
     @Bean
     public GetGenreByIdUseCase getGenreByIdUseCase() {
         return new DefaultGetGenreByIdUseCase(genreGateway);
     }
 
+    @Bean
+    public GetGenresByIdsUseCase getGenresByIdsUseCase() {
+        return new DefaultGetGenresByIdsUseCase(genreGateway);
+    }
+
+    @Bean
+    public ImportGenresUseCase importGenresUseCase() {
+        return new DefaultImportGenresUseCase(genreGateway, categoryGateway, batchChunkSize);
+    }
+
     @Bean
     public ListGenreUseCase listGenreUseCase() {
         return new DefaultListGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public ListGenreCategoriesUseCase listGenreCategoriesUseCase() {
+        return new DefaultListGenreCategoriesUseCase(genreGateway);
+    }
+
+    @Bean
+    public RemoveGenreCategoriesUseCase removeGenreCategoriesUseCase() {
+        return new DefaultRemoveGenreCategoriesUseCase(genreGateway);
+    }
+
+    @Bean
+    public SuggestGenresUseCase suggestGenresUseCase() {
+        return new DefaultSuggestGenresUseCase(genreGateway);
+    }
+
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
         return new DefaultUpdateGenreUseCase(genreGateway, categoryGateway);
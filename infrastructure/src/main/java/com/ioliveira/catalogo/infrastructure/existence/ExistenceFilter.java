@@ -0,0 +1,120 @@
+package com.ioliveira.catalogo.infrastructure.existence;
+
+import com.ioliveira.catalogo.infrastructure.streaming.RowStreamer;
+import com.ioliveira.catalogo.infrastructure.utils.TransactionUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * In-memory {@link IdSet} of every ID of one table, loaded when the application starts and kept current by the
+ * gateway's inserts and deletes once they commit, so a check that every ID of a list exists can be answered without
+ * a query. Until it is loaded, or when disabled, it knows nothing and callers query as before. It does not see
+ * writes made by other instances, so an ID missing from it proves nothing: lookups still go to the table.
+ */
+public abstract class ExistenceFilter {
+
+    private final boolean enabled;
+    private final RowStreamer rowStreamer;
+    private final String loadSql;
+    private final Object lock = new Object();
+
+    private volatile IdSet ids = new IdSet();
+    private volatile boolean ready;
+
+    // Guarded by the lock; only set while a rebuild streams the table.
+    private IdSet loading;
+    private Set<String> removedWhileLoading;
+
+    protected ExistenceFilter(final boolean enabled, final RowStreamer rowStreamer, final String table) {
+        this.enabled = enabled;
+        this.rowStreamer = Objects.requireNonNull(rowStreamer);
+        this.loadSql = "SELECT id FROM %s".formatted(table);
+    }
+
+    /**
+     * Streams the table into a new set, applying the writes committed meanwhile to it as well. The stream may still
+     * return a row deleted after it started, so those deletes are applied again before the new set is swapped in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!this.enabled) {
+            return;
+        }
+
+        final IdSet fresh = new IdSet();
+        synchronized (this.lock) {
+            this.loading = fresh;
+            this.removedWhileLoading = new HashSet<>();
+        }
+
+        try {
+            this.rowStreamer.forEach(this.loadSql, row -> fresh.add(row.getString("id")));
+
+            synchronized (this.lock) {
+                this.removedWhileLoading.forEach(fresh::remove);
+                this.ids = fresh;
+                this.ready = true;
+            }
+        } finally {
+            synchronized (this.lock) {
+                this.loading = null;
+                this.removedWhileLoading = null;
+            }
+        }
+    }
+
+    public void put(final String id) {
+        putAll(List.of(id));
+    }
+
+    public void putAll(final Collection<String> ids) {
+        if (this.enabled) {
+            TransactionUtils.afterCommit(() -> apply(ids, List.of()));
+        }
+    }
+
+    public void remove(final String id) {
+        removeAll(List.of(id));
+    }
+
+    public void removeAll(final Collection<String> ids) {
+        if (this.enabled) {
+            TransactionUtils.afterCommit(() -> apply(List.of(), ids));
+        }
+    }
+
+    /**
+     * True only when every ID is known to exist; false when one is missing or the filter cannot tell yet.
+     */
+    public boolean containsAll(final Collection<String> ids) {
+        if (!this.ready) {
+            return false;
+        }
+        final IdSet current = this.ids;
+        return ids.stream().allMatch(current::contains);
+    }
+
+    private void apply(final Collection<String> added, final Collection<String> removed) {
+        synchronized (this.lock) {
+            added.forEach(this.ids::add);
+            removed.forEach(this.ids::remove);
+
+            if (this.loading != null) {
+                added.forEach(id -> {
+                    this.loading.add(id);
+                    this.removedWhileLoading.remove(id);
+                });
+                removed.forEach(id -> {
+                    this.loading.remove(id);
+                    this.removedWhileLoading.add(id);
+                });
+            }
+        }
+    }
+}
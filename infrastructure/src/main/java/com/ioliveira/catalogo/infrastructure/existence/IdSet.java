@@ -0,0 +1,207 @@
+package com.ioliveira.catalogo.infrastructure.existence;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Set of IDs stored as 128-bit keys in two parallel long arrays with linear probing, about 40 bytes per ID instead
+ * of the hundred or so of a HashSet of strings. Lowercase UUIDs, the form the aggregates generate, are packed
+ * exactly; any other ID is reduced to a 128-bit hash, where a collision would make an absent ID look present.
+ */
+public class IdSet {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long[] highs = new long[INITIAL_CAPACITY];
+    private long[] lows = new long[INITIAL_CAPACITY];
+    private int size;
+
+    // The all-zero key marks an empty slot, so the nil UUID is kept aside.
+    private boolean containsZero;
+
+    public boolean add(final String id) {
+        final long high = high(id);
+        final long low = low(id);
+
+        this.lock.writeLock().lock();
+        try {
+            if (high == 0 && low == 0) {
+                final boolean added = !this.containsZero;
+                this.containsZero = true;
+                return added;
+            }
+
+            if ((this.size + 1) * 5L > this.highs.length * 3L) {
+                resize(this.highs.length * 2);
+            }
+
+            int slot = slotOf(high, low);
+            while (!isEmpty(slot)) {
+                if (this.highs[slot] == high && this.lows[slot] == low) {
+                    return false;
+                }
+                slot = (slot + 1) & mask();
+            }
+
+            this.highs[slot] = high;
+            this.lows[slot] = low;
+            this.size++;
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(final String id) {
+        final long high = high(id);
+        final long low = low(id);
+
+        this.lock.writeLock().lock();
+        try {
+            if (high == 0 && low == 0) {
+                final boolean removed = this.containsZero;
+                this.containsZero = false;
+                return removed;
+            }
+
+            final int slot = find(high, low);
+            if (slot < 0) {
+                return false;
+            }
+            removeAt(slot);
+            this.size--;
+            return true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(final String id) {
+        final long high = high(id);
+        final long low = low(id);
+
+        this.lock.readLock().lock();
+        try {
+            return high == 0 && low == 0 ? this.containsZero : find(high, low) >= 0;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.size + (this.containsZero ? 1 : 0);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private int find(final long high, final long low) {
+        int slot = slotOf(high, low);
+        while (!isEmpty(slot)) {
+            if (this.highs[slot] == high && this.lows[slot] == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask();
+        }
+        return -1;
+    }
+
+    /**
+     * Shifts back the keys after the freed slot that probed past it, so lookups never stop early at a hole and no
+     * tombstones are needed.
+     */
+    private void removeAt(final int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask();
+        while (!isEmpty(next)) {
+            final int home = slotOf(this.highs[next], this.lows[next]);
+            if (((next - home) & mask()) >= ((next - hole) & mask())) {
+                this.highs[hole] = this.highs[next];
+                this.lows[hole] = this.lows[next];
+                hole = next;
+            }
+            next = (next + 1) & mask();
+        }
+        this.highs[hole] = 0;
+        this.lows[hole] = 0;
+    }
+
+    private void resize(final int capacity) {
+        final long[] oldHighs = this.highs;
+        final long[] oldLows = this.lows;
+        this.highs = new long[capacity];
+        this.lows = new long[capacity];
+
+        for (int i = 0; i < oldHighs.length; i++) {
+            if (oldHighs[i] != 0 || oldLows[i] != 0) {
+                int slot = slotOf(oldHighs[i], oldLows[i]);
+                while (!isEmpty(slot)) {
+                    slot = (slot + 1) & mask();
+                }
+                this.highs[slot] = oldHighs[i];
+                this.lows[slot] = oldLows[i];
+            }
+        }
+    }
+
+    private boolean isEmpty(final int slot) {
+        return this.highs[slot] == 0 && this.lows[slot] == 0;
+    }
+
+    private int mask() {
+        return this.highs.length - 1;
+    }
+
+    private int slotOf(final long high, final long low) {
+        return (int) mix(high ^ Long.rotateLeft(low, 32)) & mask();
+    }
+
+    private static long high(final String id) {
+        return isUuid(id) ? hex(id, 0, 8) << 32 | hex(id, 9, 13) << 16 | hex(id, 14, 18) : hash(id, 0x9E3779B97F4A7C15L);
+    }
+
+    private static long low(final String id) {
+        return isUuid(id) ? hex(id, 19, 23) << 48 | hex(id, 24, 36) : hash(id, 0xC2B2AE3D27D4EB4FL);
+    }
+
+    private static boolean isUuid(final String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            final char c = id.charAt(i);
+            final boolean valid = i == 8 || i == 13 || i == 18 || i == 23
+                    ? c == '-'
+                    : (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f');
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hex(final String id, final int from, final int to) {
+        long value = 0;
+        for (int i = from; i < to; i++) {
+            value = value << 4 | Character.digit(id.charAt(i), 16);
+        }
+        return value;
+    }
+
+    private static long hash(final String id, final long seed) {
+        long hash = seed;
+        for (int i = 0; i < id.length(); i++) {
+            hash = (hash ^ id.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash ^ id.length());
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 33)) * 0xFF51AFD7ED558CCDL;
+        value = (value ^ (value >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return value ^ (value >>> 33);
+    }
+}
@@ -0,0 +1,169 @@
+package com.ioliveira.catalogo.infrastructure.genre;
+
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.domain.genre.GenreGateway;
+import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.genre.GenreSnapshot;
+import com.ioliveira.catalogo.domain.pagination.Pagination;
+import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import com.ioliveira.catalogo.infrastructure.cache.CacheStats;
+import com.ioliveira.catalogo.infrastructure.cache.TinyLfuCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Serves {@link #findSnapshotById} and {@link #findByIds} from a local {@link TinyLfuCache} of immutable snapshots in
+ * front of {@link GenreMySQLGateway}, weighing each genre by its approximate size in memory. Every write evicts the
+ * genres it touches once it has been committed. {@link #findById} loads the genre to be changed, so it always reads
+ * the delegate: a cached version written by another instance would fail the update with a mismatch.
+ */
+@Primary
+@Component
+public class CachingGenreGateway implements GenreGateway {
+
+    private static final long ENTRY_BYTES = 256;
+    private static final long LINK_BYTES = 64;
+
+    private final GenreGateway delegate;
+    private final TinyLfuCache<GenreID, GenreSnapshot> cache;
+
+    public CachingGenreGateway(final GenreMySQLGateway delegate,
+                               @Value("${gateway.cache.enabled:false}") final boolean enabled,
+                               @Value("${gateway.cache.maximum-size:16MB}") final DataSize maximumSize,
+                               @Value("${gateway.cache.ttl:PT5M}") final Duration ttl) {
+        this.delegate = Objects.requireNonNull(delegate);
+        final long maximumWeight = enabled ? maximumSize.toBytes() : 0;
+        this.cache = new TinyLfuCache<>(maximumWeight, maximumWeight / (ENTRY_BYTES * 2), ttl, CachingGenreGateway::weigh);
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        try {
+            return this.delegate.create(genre);
+        } finally {
+            this.cache.invalidate(genre.getId());
+        }
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> genres) {
+        try {
+            return this.delegate.createAll(genres);
+        } finally {
+            genres.forEach(genre -> this.cache.invalidate(genre.getId()));
+        }
+    }
+
+    @Override
+    public void deleteById(final GenreID id) {
+        try {
+            this.delegate.deleteById(id);
+        } finally {
+            this.cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public void deleteByIds(final List<GenreID> ids) {
+        try {
+            this.delegate.deleteByIds(ids);
+        } finally {
+            ids.forEach(this.cache::invalidate);
+        }
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID id) {
+        return this.delegate.findById(id);
+    }
+
+    @Override
+    public Optional<GenreSnapshot> findSnapshotById(final GenreID id) {
+        return this.cache.get(id, this.delegate::findSnapshotById);
+    }
+
+    /**
+     * Reads only the genres that are not cached, with one call to the delegate.
+     */
+    @Override
+    public List<Genre> findByIds(final Iterable<GenreID> ids) {
+        final List<GenreID> distinct = StreamSupport.stream(ids.spliterator(), false).distinct().toList();
+        final Map<GenreID, GenreSnapshot> found = this.cache.getAll(distinct, missing ->
+                this.delegate.findByIds(missing).stream()
+                        .collect(Collectors.toMap(Genre::getId, GenreSnapshot::from)));
+
+        return distinct.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(Genre::with)
+                .toList();
+    }
+
+    @Override
+    public Optional<Genre> findByIdWithCategoriesIn(final GenreID id, final List<CategoryID> categories) {
+        return this.delegate.findByIdWithCategoriesIn(id, categories);
+    }
+
+    @Override
+    public Optional<Genre> findByIdWithFirstCategories(final GenreID id, final int limit) {
+        return this.delegate.findByIdWithFirstCategories(id, limit);
+    }
+
+    @Override
+    public Optional<Pagination<CategoryID>> findCategories(final GenreID id, final String cursor, final int perPage) {
+        return this.delegate.findCategories(id, cursor, perPage);
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        try {
+            return this.delegate.update(genre);
+        } finally {
+            this.cache.invalidate(genre.getId());
+        }
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery query) {
+        return this.delegate.findAll(query);
+    }
+
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery query) {
+        return this.delegate.suggest(query);
+    }
+
+    @Override
+    public void exportAll(final Consumer<Genre> action) {
+        this.delegate.exportAll(action);
+    }
+
+    /**
+     * For category deletes, which drop links of genres that cannot be told apart without reading them.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    private static long weigh(final GenreSnapshot genre) {
+        return ENTRY_BYTES + 2L * genre.name().length() + LINK_BYTES * genre.categories().size();
+    }
+}
@@ -1,41 +1,167 @@
 package com.ioliveira.catalogo.infrastructure.genre;
 
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import com.ioliveira.catalogo.domain.genre.Genre;
 import com.ioliveira.catalogo.domain.genre.GenreGateway;
 import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.genre.GenreSnapshot;
+import com.ioliveira.catalogo.domain.pagination.CountMode;
 import com.ioliveira.catalogo.domain.pagination.Pagination;
 import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.infrastructure.genre.persistence.GenreCategoryJpaEntity;
 import com.ioliveira.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.ioliveira.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.ioliveira.catalogo.infrastructure.pagination.Paginator;
+import com.ioliveira.catalogo.infrastructure.search.SearchIndex;
+import com.ioliveira.catalogo.infrastructure.streaming.RowStreamer;
+import com.ioliveira.catalogo.infrastructure.utils.Cursor;
+import com.ioliveira.catalogo.infrastructure.utils.SearchUtils;
 import com.ioliveira.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.Page;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidators;
+import com.ioliveira.catalogo.infrastructure.validators.VersionCache;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
+import javax.persistence.PersistenceException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.StreamSupport;
 
 @Component
 public class GenreMySQLGateway implements GenreGateway {
 
+    private static final String TABLE = "genres";
+    private static final String CATEGORY_CURSOR = "categoryId";
+    private static final String CATEGORY_FOREIGN_KEY = "fk_category_id";
+    private static final int DELETE_CHUNK_SIZE = 1_000;
+    private static final int ID_CHUNK_SIZE = 1_024;
+    private static final String EXPORT_SQL = """
+            SELECT g.id, g.name, g.active, g.created_at, g.updated_at, g.deleted_at, gc.category_id
+            FROM genres g
+            LEFT JOIN genres_categories gc ON gc.genre_id = g.id
+            ORDER BY g.id, gc.category_id""";
+
     private final GenreRepository genreRepository;
+    private final EntityManager entityManager;
+    private final Paginator paginator;
+    private final GenreSearchIndex searchIndex;
+    private final RowStreamer rowStreamer;
+    private final VersionCache versions;
+    private final ListValidators listValidators;
+    private final boolean fullText;
 
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    public GenreMySQLGateway(final GenreRepository genreRepository,
+                             final EntityManager entityManager,
+                             final Paginator paginator,
+                             final GenreSearchIndex searchIndex,
+                             final RowStreamer rowStreamer,
+                             final VersionCache versions,
+                             final ListValidators listValidators,
+                             @Value("${search.full-text.enabled:false}") final boolean fullText) {
         this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.paginator = Objects.requireNonNull(paginator);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.rowStreamer = Objects.requireNonNull(rowStreamer);
+        this.versions = Objects.requireNonNull(versions);
+        this.listValidators = Objects.requireNonNull(listValidators);
+        this.listValidators.register(Genre.class, TABLE);
+        this.fullText = fullText;
     }
 
+    /**
+     * Persists instead of saving, cascading to the links, so neither the genre nor its links are selected before
+     * being inserted.
+     */
     @Override
+    @Transactional
     public Genre create(final Genre genre) {
-        return save(genre);
+        final GenreJpaEntity entity = GenreJpaEntity.from(genre);
+        this.entityManager.persist(entity);
+        flushLinks();
+
+        this.paginator.invalidate(TABLE);
+        this.listValidators.changed(Genre.class, 1);
+        this.searchIndex.put(entity);
+        return remember(entity).toAggregate();
+    }
+
+    /**
+     * Persists the genres, cascading to their links, so both tables are written in JDBC batches without a SELECT
+     * per row. The context is cleared afterwards so an import does not keep every entity around.
+     */
+    @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> genres) {
+        if (genres.isEmpty()) {
+            return List.of();
+        }
+
+        final List<GenreJpaEntity> entities = genres.stream()
+                .map(GenreJpaEntity::from)
+                .toList();
+
+        entities.forEach(this.entityManager::persist);
+        flushLinks();
+        this.entityManager.clear();
+
+        this.paginator.invalidate(TABLE);
+        this.listValidators.changed(Genre.class, entities.size());
+        entities.forEach(this.searchIndex::put);
+        entities.forEach(this::remember);
+
+        return genres;
     }
 
     @Override
+    @Transactional
     public void deleteById(final GenreID id) {
         final String genreId = id.getValue();
-        if (this.genreRepository.existsById(genreId)) {
-            this.genreRepository.deleteById(genreId);
+        this.versions.remove(Genre.class, genreId);
+        if (this.genreRepository.deleteOne(genreId) > 0) {
+            this.paginator.invalidate(TABLE);
+            this.listValidators.changed(Genre.class, -1);
+            this.searchIndex.remove(genreId);
+        }
+    }
+
+    /**
+     * Deletes with IN lists of at most {@value DELETE_CHUNK_SIZE} IDs, so no statement grows past what the
+     * database plans well.
+     */
+    @Override
+    @Transactional
+    public void deleteByIds(final List<GenreID> ids) {
+        final List<String> genreIds = ids.stream().map(GenreID::getValue).toList();
+        genreIds.forEach(genreId -> this.versions.remove(Genre.class, genreId));
+
+        int deleted = 0;
+        for (int from = 0; from < genreIds.size(); from += DELETE_CHUNK_SIZE) {
+            deleted += this.genreRepository.deleteAllIn(
+                    genreIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, genreIds.size())));
+        }
+
+        if (deleted > 0) {
+            this.paginator.invalidate(TABLE);
+            this.listValidators.changed(Genre.class, -deleted);
+            genreIds.forEach(this.searchIndex::remove);
         }
     }
 
@@ -43,40 +169,231 @@ public class GenreMySQLGateway implements GenreGateway {
     public Optional<Genre> findById(final GenreID id) {
         return this.genreRepository
                 .findById(id.getValue())
+                .map(this::remember)
                 .map(GenreJpaEntity::toAggregate);
     }
 
     @Override
+    public Optional<GenreSnapshot> findSnapshotById(final GenreID id) {
+        return findById(id).map(GenreSnapshot::from);
+    }
+
+    /**
+     * Reads the genres with their links in one query per IN list of at most {@value ID_CHUNK_SIZE} IDs.
+     */
+    @Override
+    public List<Genre> findByIds(final Iterable<GenreID> genreIDs) {
+        final List<String> ids = StreamSupport.stream(genreIDs.spliterator(), false)
+                .map(GenreID::getValue)
+                .distinct()
+                .toList();
+
+        final Map<String, Genre> found = new HashMap<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+            this.genreRepository
+                    .findAllWithCategories(ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size())))
+                    .forEach(entity -> found.put(entity.getId(), remember(entity).toAggregate()));
+        }
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public Optional<Genre> findByIdWithCategoriesIn(final GenreID id, final List<CategoryID> categories) {
+        final String genreId = id.getValue();
+        final List<String> categoryIds = categories.stream().map(CategoryID::getValue).toList();
+
+        return Optional.ofNullable(this.entityManager.find(GenreJpaEntity.class, genreId))
+                .map(this::remember)
+                .map(entity -> entity.toAggregate(categoryIds.isEmpty()
+                        ? List.of()
+                        : this.genreRepository.findLinkedCategoryIds(genreId, categoryIds).stream()
+                        .map(CategoryID::from)
+                        .toList()));
+    }
+
+    @Override
+    public Optional<Genre> findByIdWithFirstCategories(final GenreID id, final int limit) {
+        final String genreId = id.getValue();
+        return Optional.ofNullable(this.entityManager.find(GenreJpaEntity.class, genreId))
+                .map(this::remember)
+                .map(entity -> entity.toAggregate(limit <= 0
+                        ? List.of()
+                        : categoryIdsAfter(genreId, "", limit)));
+    }
+
+    @Override
+    public Optional<Pagination<CategoryID>> findCategories(final GenreID id, final String cursor, final int perPage) {
+        final String genreId = id.getValue();
+        final String after = Cursor.decode(cursor, CATEGORY_CURSOR).map(Cursor::id).orElse("");
+
+        final List<CategoryID> rows = categoryIdsAfter(genreId, after, perPage + 1);
+        if (rows.isEmpty() && !this.genreRepository.existsById(genreId)) {
+            return Optional.empty();
+        }
+
+        final boolean hasNext = rows.size() > perPage;
+        final List<CategoryID> items = hasNext ? rows.subList(0, perPage) : rows;
+        final String nextCursor = hasNext
+                ? new Cursor(CATEGORY_CURSOR, null, items.get(items.size() - 1).getValue()).encode()
+                : null;
+
+        return Optional.of(new Pagination<>(0, perPage, Pagination.UNKNOWN_TOTAL, items, nextCursor, hasNext));
+    }
+
+    /**
+     * Updates the genre row and writes only the links added or removed since the aggregate was loaded,
+     * without reading the existing links. Like categories, the row is only written while it is still at the
+     * version the genre was read at.
+     */
+    @Override
+    @Transactional
     public Genre update(final Genre genre) {
-        return save(genre);
+        final String genreId = genre.getId().getValue();
+        final GenreJpaEntity entity = this.entityManager.find(GenreJpaEntity.class, genreId);
+        if (entity == null) {
+            return create(genre);
+        }
+
+        if (genre.getVersion() != null && !genre.getVersion().equals(entity.getVersion())) {
+            throw VersionMismatchException.with(Genre.class, genreId, genre.getVersion());
+        }
+
+        try {
+            entity.updateFrom(genre);
+
+            if (!genre.getRemovedCategories().isEmpty()) {
+                this.genreRepository.deleteCategories(genreId, genre.getRemovedCategories().stream()
+                        .map(CategoryID::getValue)
+                        .toList());
+            }
+            genre.getAddedCategories()
+                    .forEach(categoryId -> this.entityManager.persist(GenreCategoryJpaEntity.from(entity, categoryId)));
+
+            flushLinks();
+        } catch (final OptimisticLockException | ObjectOptimisticLockingFailureException e) {
+            throw VersionMismatchException.with(Genre.class, genreId);
+        }
+
+        this.listValidators.changed(Genre.class, 0);
+        this.searchIndex.put(entity);
+        remember(entity);
+        return Genre.with(genre.getId(), genre.getName(), genre.isActive(), genre.getCategories(),
+                genre.getCreatedAt(), genre.getUpdatedAt(), genre.getDeletedAt(), entity.getVersion());
     }
 
     @Override
     public Pagination<Genre> findAll(final SearchQuery query) {
-        final PageRequest page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.Direction.valueOf(query.direction().toUpperCase()),
-                query.sort()
-        );
-
-        final Specification<GenreJpaEntity> specifications = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> SpecificationUtils.<GenreJpaEntity>like("name", str))
+        final Optional<List<String>> hits = this.searchIndex.search(query.terms());
+
+        if (hits.isPresent() && SearchIndex.RELEVANCE.equals(query.sort())) {
+            return this.paginator
+                    .findRanked(GenreJpaEntity.class, hits.get(), query, GenreJpaEntity::getId)
+                    .map(GenreJpaEntity::toSummaryAggregate);
+        }
+
+        final Specification<GenreJpaEntity> specifications = hits
+                .filter(ids -> ids.size() <= SearchIndex.MAX_ID_FILTER)
+                .map(SpecificationUtils::<GenreJpaEntity>idIn)
+                .or(() -> Optional.ofNullable(query.terms())
+                        .filter(str -> !str.isBlank())
+                        .map(str -> SpecificationUtils.<GenreJpaEntity>search(str, this.fullText, "nameSearch")))
                 .orElse(null);
 
-        final Page<GenreJpaEntity> pageResult = this.genreRepository.findAll(specifications, page);
+        return this.paginator
+                .findAll(GenreJpaEntity.class, TABLE, specifications, SearchIndex.columnSorted(query, "name"))
+                .map(GenreJpaEntity::toSummaryAggregate);
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList());
+    @Override
+    public List<Suggestion> suggest(final SuggestQuery query) {
+        return this.searchIndex.suggest(query).orElseGet(() -> this.paginator
+                .findAll(GenreJpaEntity.class, TABLE,
+                        SpecificationUtils.startsWith("nameSearch", SearchUtils.normalize(query.prefix())),
+                        new SearchQuery(0, query.limit(), query.prefix(), "nameSearch", "asc", null, CountMode.NONE))
+                .map(entity -> new Suggestion(entity.getId(), entity.getName()))
+                .items());
     }
 
-    private Genre save(final Genre genre) {
-        return this.genreRepository
-                .save(GenreJpaEntity.from(genre))
-                .toAggregate();
+    /**
+     * Reads genres joined with their links ordered by genre, so the rows of one genre are consecutive and it is
+     * handed over as soon as the next genre starts. Only one genre is held in memory at a time.
+     */
+    @Override
+    public void exportAll(final Consumer<Genre> action) {
+        final var head = new ArrayList<Genre>(1);
+        final var categories = new ArrayList<CategoryID>();
+        final Runnable emit = () -> head.forEach(genre -> action.accept(Genre.with(
+                genre.getId(), genre.getName(), genre.isActive(), categories,
+                genre.getCreatedAt(), genre.getUpdatedAt(), genre.getDeletedAt()
+        )));
+
+        this.rowStreamer.forEach(EXPORT_SQL, row -> {
+            final GenreID id = GenreID.from(row.getString("id"));
+            if (head.isEmpty() || !head.get(0).getId().equals(id)) {
+                emit.run();
+                head.clear();
+                categories.clear();
+                head.add(Genre.with(
+                        id,
+                        row.getString("name"),
+                        row.getBoolean("active"),
+                        List.of(),
+                        RowStreamer.instant(row, "created_at"),
+                        RowStreamer.instant(row, "updated_at"),
+                        RowStreamer.instant(row, "deleted_at")
+                ));
+            }
+            final String categoryId = row.getString("category_id");
+            if (categoryId != null) {
+                categories.add(CategoryID.from(categoryId));
+            }
+        });
+        emit.run();
+    }
+
+    /**
+     * Flushes the pending writes. The categories are checked against the category filter before they are linked,
+     * and it does not see deletes made by other instances, so a link can still point at a category that is gone;
+     * that write is refused like any other naming a missing category.
+     */
+    private void flushLinks() {
+        try {
+            this.entityManager.flush();
+        } catch (final PersistenceException e) {
+            if (violates(e, CATEGORY_FOREIGN_KEY)) {
+                throw DomainException.with(new Error("Some categories could not be found"));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Not every dialect extracts the constraint name, but both MySQL and H2 name it in the driver's message.
+     */
+    private static boolean violates(final Throwable error, final String constraint) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                final String described = violation.getConstraintName() != null
+                        ? violation.getConstraintName()
+                        : String.valueOf(violation.getSQLException().getMessage());
+                return described.toLowerCase().contains(constraint);
+            }
+        }
+        return false;
+    }
+
+    private GenreJpaEntity remember(final GenreJpaEntity entity) {
+        this.versions.put(Genre.class, entity.getId(), entity.getVersion());
+        return entity;
+    }
+
+    private List<CategoryID> categoryIdsAfter(final String genreId, final String after, final int limit) {
+        return this.genreRepository.findCategoryIdsAfter(genreId, after, PageRequest.of(0, limit)).stream()
+                .map(CategoryID::from)
+                .toList();
     }
 }
@@ -0,0 +1,34 @@
+package com.ioliveira.catalogo.infrastructure.genre;
+
+import com.ioliveira.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.ioliveira.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.ioliveira.catalogo.infrastructure.search.SearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class GenreSearchIndex extends SearchIndex<GenreJpaEntity> {
+
+    public GenreSearchIndex(final GenreRepository repository,
+                            @Value("${search.index.enabled:false}") final boolean enabled,
+                            @Value("${search.index.refresh-interval:PT30S}") final Duration refreshInterval) {
+        super(enabled, repository::findAll, repository::findByUpdatedAtGreaterThanEqual, refreshInterval);
+    }
+
+    @Override
+    protected String idOf(final GenreJpaEntity entity) {
+        return entity.getId();
+    }
+
+    @Override
+    protected String nameOf(final GenreJpaEntity entity) {
+        return entity.getName();
+    }
+
+    @Override
+    protected String[] textsOf(final GenreJpaEntity entity) {
+        return new String[]{entity.getNameSearch()};
+    }
+}
@@ -1,14 +1,19 @@
 package com.ioliveira.catalogo.infrastructure.genre.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ioliveira.catalogo.infrastructure.category.models.CategoryListResponse;
 
 import java.time.Instant;
+import java.util.List;
 
 public record GenreListResponse(
         @JsonProperty("id") String id,
         @JsonProperty("name") String name,
         @JsonProperty("is_active") Boolean active,
         @JsonProperty("createdAt") Instant createdAt,
-        @JsonProperty("deletedAt") Instant deletedAt
+        @JsonProperty("deletedAt") Instant deletedAt,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories") List<CategoryListResponse> categories,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("has_more_categories") Boolean moreCategories
 ) {
 }
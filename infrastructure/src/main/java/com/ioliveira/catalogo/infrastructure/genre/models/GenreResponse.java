@@ -1,6 +1,8 @@
 package com.ioliveira.catalogo.infrastructure.genre.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ioliveira.catalogo.infrastructure.category.models.CategoryListResponse;
 
 import java.time.Instant;
 import java.util.List;
@@ -8,7 +10,9 @@ import java.util.List;
 public record GenreResponse(
         @JsonProperty("id") String id,
         @JsonProperty("name") String name,
-        @JsonProperty("categories_id") List<String> categories,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories_id") List<String> categories,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("categories") List<CategoryListResponse> expandedCategories,
+        @JsonInclude(JsonInclude.Include.NON_NULL) @JsonProperty("has_more_categories") Boolean moreCategories,
         @JsonProperty("is_active") Boolean active,
         @JsonProperty("createdAt") Instant createdAt,
         @JsonProperty("updatedAt") Instant updatedAt,
@@ -0,0 +1,36 @@
+package com.ioliveira.catalogo.infrastructure.genre.models;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenreFailure;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresOutput;
+import com.ioliveira.catalogo.domain.validation.Error;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImportGenresEventResponse(
+        @JsonProperty("type") String type,
+        @JsonProperty("line") Long line,
+        @JsonProperty("errors") List<Error> errors,
+        @JsonProperty("processed") Long processed,
+        @JsonProperty("created") Long created,
+        @JsonProperty("failed") Long failed
+) {
+
+    public static ImportGenresEventResponse failure(final ImportGenreFailure failure) {
+        return new ImportGenresEventResponse("failure", failure.line(), failure.errors(), null, null, null);
+    }
+
+    public static ImportGenresEventResponse progress(final ImportGenresOutput output) {
+        return counters("progress", output);
+    }
+
+    public static ImportGenresEventResponse done(final ImportGenresOutput output) {
+        return counters("done", output);
+    }
+
+    private static ImportGenresEventResponse counters(final String type, final ImportGenresOutput output) {
+        return new ImportGenresEventResponse(type, null, null, output.processed(), output.created(), output.failed());
+    }
+}
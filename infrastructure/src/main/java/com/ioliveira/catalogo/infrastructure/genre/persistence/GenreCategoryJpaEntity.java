@@ -9,6 +9,8 @@ import javax.persistence.MapsId;
 import javax.persistence.Table;
 import java.util.Objects;
 
+import static javax.persistence.FetchType.LAZY;
+
 @Entity
 @Table(name = "genres_categories")
 public class GenreCategoryJpaEntity {
@@ -16,7 +18,7 @@ public class GenreCategoryJpaEntity {
     @EmbeddedId
     private GenreCategoryID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @MapsId("genreId")
     private GenreJpaEntity genre;
 
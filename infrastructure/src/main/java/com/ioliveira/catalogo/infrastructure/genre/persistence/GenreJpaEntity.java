@@ -3,19 +3,22 @@ package com.ioliveira.catalogo.infrastructure.genre.persistence;
 import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.genre.Genre;
 import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.infrastructure.utils.SearchUtils;
+import org.hibernate.annotations.BatchSize;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.Version;
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import static javax.persistence.CascadeType.ALL;
-import static javax.persistence.FetchType.EAGER;
+import static javax.persistence.FetchType.LAZY;
 
 @Entity
 @Table(name = "genres")
@@ -28,10 +31,14 @@ public class GenreJpaEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "name_search")
+    private String nameSearch;
+
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    @BatchSize(size = 50)
+    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -43,6 +50,10 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public GenreJpaEntity() {
     }
 
@@ -54,6 +65,7 @@ public class GenreJpaEntity {
                            final Instant deletedAt) {
         this.id = id;
         this.name = name;
+        this.nameSearch = SearchUtils.normalize(name);
         this.active = active;
         this.categories = new HashSet<>();
         this.createdAt = createdAt;
@@ -76,17 +88,39 @@ public class GenreJpaEntity {
     }
 
     public Genre toAggregate() {
+        return toAggregate(getCategoryIDs());
+    }
+
+    /**
+     * Maps the row without touching the lazy categories collection, for listings that never show them.
+     */
+    public Genre toSummaryAggregate() {
+        return toAggregate(List.of());
+    }
+
+    public Genre toAggregate(final List<CategoryID> categories) {
         return Genre.with(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoryIDs(),
+                categories,
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
+    /**
+     * Copies the genre's own columns onto this managed row. Links are written separately from the tracked delta.
+     */
+    public void updateFrom(final Genre genre) {
+        setName(genre.getName());
+        setActive(genre.isActive());
+        setUpdatedAt(genre.getUpdatedAt());
+        setDeletedAt(genre.getDeletedAt());
+    }
+
     private void addCategory(final CategoryID id) {
         this.categories.add(GenreCategoryJpaEntity.from(this, id));
     }
@@ -116,6 +150,11 @@ public class GenreJpaEntity {
 
     public void setName(final String name) {
         this.name = name;
+        this.nameSearch = SearchUtils.normalize(name);
+    }
+
+    public String getNameSearch() {
+        return nameSearch;
     }
 
     public boolean isActive() {
@@ -157,4 +196,8 @@ public class GenreJpaEntity {
     public void setDeletedAt(final Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
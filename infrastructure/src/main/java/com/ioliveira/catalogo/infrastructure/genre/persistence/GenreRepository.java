@@ -3,8 +3,56 @@ package com.ioliveira.catalogo.infrastructure.genre.persistence;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+
+    /**
+     * Rows written since the given instant, read through the updated_at index to refresh the search index.
+     */
+    Page<GenreJpaEntity> findByUpdatedAtGreaterThanEqual(Instant since, Pageable page);
+
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
+    @EntityGraph(attributePaths = "categories")
+    @Query(value = "select distinct g from GenreJpaEntity g where g.id in :ids")
+    List<GenreJpaEntity> findAllWithCategories(@Param("ids") Collection<String> ids);
+
+    @Query(value = "select gc.id.categoryId from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId and gc.id.categoryId in :categoryIds")
+    List<String> findLinkedCategoryIds(@Param("genreId") String genreId, @Param("categoryIds") Collection<String> categoryIds);
+
+    /**
+     * Category IDs of the genre above {@code after} in order, read from the (genre_id, category_id) index alone;
+     * the pageable only bounds the row count.
+     */
+    @Query(value = "select gc.id.categoryId from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId and gc.id.categoryId > :after order by gc.id.categoryId")
+    List<String> findCategoryIdsAfter(@Param("genreId") String genreId, @Param("after") String after, Pageable page);
+
+    /**
+     * One DELETE without loading the genre and its links first, unlike deleteById; the links go with it through
+     * the foreign key's ON DELETE CASCADE.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from GenreJpaEntity g where g.id = :id")
+    int deleteOne(@Param("id") String id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from GenreJpaEntity g where g.id in :ids")
+    int deleteAllIn(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query(value = "delete from GenreCategoryJpaEntity gc where gc.id.genreId = :genreId and gc.id.categoryId in :categoryIds")
+    int deleteCategories(@Param("genreId") String genreId, @Param("categoryIds") Collection<String> categoryIds);
 }
@@ -1,9 +1,16 @@
 package com.ioliveira.catalogo.infrastructure.genre.presenters;
 
+import com.ioliveira.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.ioliveira.catalogo.application.genre.categories.expand.ExpandGenreCategoriesOutput;
 import com.ioliveira.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.ioliveira.catalogo.application.genre.retrieve.list.GenreListOutput;
+import com.ioliveira.catalogo.application.genre.retrieve.suggest.GenreSuggestionOutput;
+import com.ioliveira.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.ioliveira.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.ioliveira.catalogo.infrastructure.genre.models.GenreResponse;
+import com.ioliveira.catalogo.infrastructure.genre.models.GenreSuggestionResponse;
+
+import java.util.List;
 
 public interface GenreApiPresenter {
 
@@ -12,6 +19,25 @@ public interface GenreApiPresenter {
                 output.id(),
                 output.name(),
                 output.categories(),
+                null,
+                output.moreCategories(),
+                output.active(),
+                output.createdAt(),
+                output.updatedAt(),
+                output.deletedAt()
+        );
+    }
+
+    /**
+     * Embeds the categories in place of their IDs.
+     */
+    static GenreResponse present(final GenreOutput output, final List<CategoryListOutput> categories) {
+        return new GenreResponse(
+                output.id(),
+                output.name(),
+                null,
+                categories.stream().map(CategoryListResponse::from).toList(),
+                output.moreCategories(),
                 output.active(),
                 output.createdAt(),
                 output.updatedAt(),
@@ -19,13 +45,31 @@ public interface GenreApiPresenter {
         );
     }
 
+    static GenreSuggestionResponse present(final GenreSuggestionOutput output) {
+        return new GenreSuggestionResponse(output.id(), output.name());
+    }
+
     static GenreListResponse present(final GenreListOutput output) {
         return new GenreListResponse(
                 output.id(),
                 output.name(),
                 output.active(),
                 output.createdAt(),
-                output.deletedAt()
+                output.deletedAt(),
+                null,
+                null
+        );
+    }
+
+    static GenreListResponse present(final GenreListOutput output, final ExpandGenreCategoriesOutput categories) {
+        return new GenreListResponse(
+                output.id(),
+                output.name(),
+                output.active(),
+                output.createdAt(),
+                output.deletedAt(),
+                categories.categories().stream().map(CategoryListResponse::from).toList(),
+                categories.moreCategories()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.ioliveira.catalogo.infrastructure.pagination;
+
+import com.ioliveira.catalogo.infrastructure.utils.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Backs {@link com.ioliveira.catalogo.domain.pagination.CountMode#ESTIMATED}: a COUNT per (table, terms)
+ * is reused until its TTL expires instead of being recomputed on every page.
+ */
+@Component
+public class CountCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+    private final long ttlNanos;
+
+    public CountCache(@Value("${pagination.estimated-count.ttl:PT30S}") final Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public long get(final String table, final String terms, final LongSupplier counter) {
+        final String key = table + ':' + (terms == null ? "" : terms.trim().toLowerCase());
+        final long now = System.nanoTime();
+
+        final Entry cached = this.entries.get(key);
+        if (cached != null && now - cached.loadedAt() < this.ttlNanos) {
+            return cached.count();
+        }
+
+        if (this.entries.size() >= MAX_ENTRIES) {
+            this.entries.clear();
+        }
+
+        final long before = this.evictions.get();
+        final long count = counter.getAsLong();
+
+        // A write committed while counting may be missing from the result, so it is only kept if there was none.
+        if (this.evictions.get() == before) {
+            this.entries.put(key, new Entry(count, now));
+        }
+        return count;
+    }
+
+    /**
+     * Drops the table's counts once the current transaction commits; dropping them earlier would let a page read
+     * before the commit cache the count from before the write again.
+     */
+    public void evict(final String table) {
+        TransactionUtils.afterCommit(() -> {
+            this.evictions.incrementAndGet();
+            this.entries.keySet().removeIf(key -> key.startsWith(table + ':'));
+        });
+    }
+
+    private record Entry(long count, long loadedAt) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.ioliveira.catalogo.infrastructure.pagination;
+
+import com.ioliveira.catalogo.domain.pagination.CountMode;
+import com.ioliveira.catalogo.domain.pagination.Pagination;
+import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.infrastructure.utils.Cursor;
+import com.ioliveira.catalogo.infrastructure.utils.SliceUtils;
+import com.ioliveira.catalogo.infrastructure.utils.SliceUtils.CountedSlice;
+import com.ioliveira.catalogo.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class Paginator {
+
+    private final EntityManager entityManager;
+    private final CountCache countCache;
+
+    public Paginator(final EntityManager entityManager, final CountCache countCache) {
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.countCache = Objects.requireNonNull(countCache);
+    }
+
+    public <T> Pagination<T> findAll(final Class<T> type,
+                                     final String table,
+                                     final Specification<T> whereClause,
+                                     final SearchQuery query) {
+        final Sort.Direction direction = Sort.Direction.valueOf(query.direction().toUpperCase());
+        final Sort sort = Sort.by(direction, query.sort()).and(Sort.by(direction, "id"));
+
+        final Optional<Cursor> cursor = Cursor.decode(query.cursor(), query.sort());
+        final Specification<T> seek = cursor.map(it -> it.<T>seek(direction)).orElse(null);
+        final Specification<T> pageClause = Specification.where(whereClause).and(seek);
+        final long offset = cursor.isPresent() ? 0 : (long) query.page() * query.perPage();
+
+        // A seek predicate narrows the window, so COUNT(*) OVER() is only the total when paging by offset.
+        if (query.countMode() == CountMode.EXACT && cursor.isEmpty()) {
+            final CountedSlice<T> slice =
+                    SliceUtils.fetchCounted(this.entityManager, type, pageClause, sort, offset, query.perPage());
+
+            final long total = slice.total() != null
+                    ? slice.total()
+                    : offset == 0 ? 0 : SliceUtils.count(this.entityManager, type, whereClause);
+
+            return page(query, total, slice.rows(), offset + slice.rows().size() < total);
+        }
+
+        final List<T> rows =
+                SliceUtils.fetch(this.entityManager, type, pageClause, sort, offset, query.perPage() + 1);
+
+        final boolean hasNext = rows.size() > query.perPage();
+        final List<T> items = hasNext ? rows.subList(0, query.perPage()) : rows;
+
+        final long total = switch (query.countMode()) {
+            case EXACT -> SliceUtils.count(this.entityManager, type, whereClause);
+            case ESTIMATED -> this.countCache.get(table, query.terms(),
+                    () -> SliceUtils.count(this.entityManager, type, whereClause));
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+
+        return page(query, total, items, hasNext);
+    }
+
+    /**
+     * Pages through IDs already ranked by a search index, loading only the current page by primary key.
+     * IDs whose rows are gone are skipped; the total is the number of ranked IDs.
+     */
+    public <T> Pagination<T> findRanked(final Class<T> type,
+                                        final List<String> rankedIds,
+                                        final SearchQuery query,
+                                        final Function<T, String> idOf) {
+        final int from = (int) Math.min((long) query.page() * query.perPage(), rankedIds.size());
+        final int to = (int) Math.min((long) from + query.perPage(), rankedIds.size());
+        final List<String> ids = rankedIds.subList(from, to);
+
+        final Map<String, T> rows = ids.isEmpty() ? Map.of() : SliceUtils
+                .fetch(this.entityManager, type, SpecificationUtils.idIn(ids), Sort.unsorted(), 0, ids.size())
+                .stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        final List<T> items = ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new Pagination<>(query.page(), query.perPage(), rankedIds.size(), items);
+    }
+
+    public void invalidate(final String table) {
+        this.countCache.evict(table);
+    }
+
+    private <T> Pagination<T> page(final SearchQuery query, final long total, final List<T> items, final boolean hasNext) {
+        final String nextCursor = hasNext && !items.isEmpty()
+                ? Cursor.of(items.get(items.size() - 1), query.sort()).encode()
+                : null;
+
+        return new Pagination<>(query.page(), query.perPage(), total, items, nextCursor, hasNext);
+    }
+}
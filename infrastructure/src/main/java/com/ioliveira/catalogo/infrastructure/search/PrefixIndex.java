@@ -0,0 +1,52 @@
+package com.ioliveira.catalogo.infrastructure.search;
+
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import com.ioliveira.catalogo.infrastructure.utils.SearchUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Names sorted by their normalized form, so the entries for a prefix are one contiguous range and the
+ * first N of them are read without looking at the rest.
+ */
+public class PrefixIndex {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final NavigableMap<String, Suggestion> names = new ConcurrentSkipListMap<>();
+    private final Map<String, String> keys = new ConcurrentHashMap<>();
+
+    public void put(final String id, final String name) {
+        final String key = SearchUtils.normalize(name) + SEPARATOR + id;
+        final String previous = this.keys.put(id, key);
+        if (previous != null && !previous.equals(key)) {
+            this.names.remove(previous);
+        }
+        this.names.put(key, new Suggestion(id, name));
+    }
+
+    public void remove(final String id) {
+        final String key = this.keys.remove(id);
+        if (key != null) {
+            this.names.remove(key);
+        }
+    }
+
+    public List<Suggestion> suggest(final String prefix, final int limit) {
+        final String normalized = SearchUtils.normalize(prefix);
+        final List<Suggestion> result = new ArrayList<>(limit);
+
+        for (final Map.Entry<String, Suggestion> entry : this.names.tailMap(normalized).entrySet()) {
+            if (result.size() == limit || !entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            result.add(entry.getValue());
+        }
+        return result;
+    }
+}
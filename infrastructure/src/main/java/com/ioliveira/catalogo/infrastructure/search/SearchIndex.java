@@ -0,0 +1,243 @@
+package com.ioliveira.catalogo.infrastructure.search;
+
+import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import com.ioliveira.catalogo.domain.utils.InstantUtils;
+import com.ioliveira.catalogo.infrastructure.utils.SearchUtils;
+import com.ioliveira.catalogo.infrastructure.utils.TransactionUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory {@link TrigramIndex} and {@link PrefixIndex} over one table, loaded when the application starts and kept current by the
+ * gateway's writes once they commit. Writes made by other instances are picked up by reloading the rows updated since
+ * the last load once per refresh interval, so the index can lag behind the table by that long; it can also hold rows
+ * deleted elsewhere, which the database drops when the hits are read. Until it is loaded, or when disabled, searches
+ * return empty and callers use the database.
+ */
+public abstract class SearchIndex<T> {
+
+    /**
+     * Sort value that orders search results by the index ranking instead of a column.
+     */
+    public static final String RELEVANCE = "relevance";
+
+    /**
+     * Above this many hits an {@code id IN (...)} filter costs more than searching the normalized columns.
+     */
+    public static final int MAX_ID_FILTER = 1_000;
+
+    private static final int LOAD_CHUNK_SIZE = 1_000;
+
+    /**
+     * How far before the start of the previous load a refresh reads: a row keeps the updated_at its instance gave it
+     * before the commit, so one committed late, or stamped by a clock running behind, would otherwise be skipped.
+     */
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final boolean enabled;
+    private final Function<Pageable, Page<T>> loader;
+    private final BiFunction<Instant, Pageable, Page<T>> updatedSince;
+    private final long refreshNanos;
+    private final ReentrantLock load = new ReentrantLock();
+    private final Object lock = new Object();
+
+    private volatile Indexes indexes = new Indexes();
+    private volatile boolean ready;
+    private volatile Instant loadedFrom;
+    private volatile long loadedAt;
+
+    // Guarded by the lock; only set while the table, or the rows updated since the last load, are read.
+    private Indexes loading;
+    private Set<String> removedWhileLoading;
+
+    protected SearchIndex(final boolean enabled,
+                          final Function<Pageable, Page<T>> loader,
+                          final BiFunction<Instant, Pageable, Page<T>> updatedSince,
+                          final Duration refreshInterval) {
+        this.enabled = enabled;
+        this.loader = loader;
+        this.updatedSince = updatedSince;
+        this.refreshNanos = refreshInterval.toNanos();
+    }
+
+    protected abstract String idOf(T entity);
+
+    protected abstract String nameOf(T entity);
+
+    protected abstract String[] textsOf(T entity);
+
+    /**
+     * Reads the table into new indexes, applying the writes committed meanwhile to them as well. A chunk read after a
+     * delete may still return its row, so those deletes are applied again before the new indexes are swapped in.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!this.enabled) {
+            return;
+        }
+
+        this.load.lock();
+        try {
+            load(new Indexes(), this.loader);
+        } finally {
+            this.load.unlock();
+        }
+    }
+
+    /**
+     * Reads the rows updated since the previous load into the current indexes, so renames and inserts committed by
+     * other instances become searchable. Callers that find a refresh already running keep the current indexes.
+     */
+    public void refresh() {
+        if (!this.ready || !this.load.tryLock()) {
+            return;
+        }
+
+        try {
+            final Instant since = this.loadedFrom.minus(REFRESH_OVERLAP);
+            load(this.indexes, page -> this.updatedSince.apply(since, page));
+        } finally {
+            this.load.unlock();
+        }
+    }
+
+    public void put(final T entity) {
+        if (this.enabled) {
+            TransactionUtils.afterCommit(() -> apply(indexes -> indexes.put(entity), idOf(entity), false));
+        }
+    }
+
+    public void remove(final String id) {
+        if (this.enabled) {
+            TransactionUtils.afterCommit(() -> apply(indexes -> indexes.remove(id), id, true));
+        }
+    }
+
+    /**
+     * Ranked IDs matching the terms, or empty when the database has to answer: the index is disabled or still
+     * loading, the terms are too short to have a trigram, or nothing matched, since a row written by another
+     * instance after the last refresh still could.
+     */
+    public Optional<List<String>> search(final String terms) {
+        final String term = SearchUtils.normalize(terms);
+        if (!this.ready || term == null || term.length() < TrigramIndex.GRAM) {
+            return Optional.empty();
+        }
+        refreshIfStale();
+        return Optional.of(this.indexes.trigrams.search(term)).filter(ids -> !ids.isEmpty());
+    }
+
+    /**
+     * Names starting with the prefix in alphabetical order, or empty when the index cannot answer yet.
+     */
+    public Optional<List<Suggestion>> suggest(final SuggestQuery query) {
+        if (!this.ready) {
+            return Optional.empty();
+        }
+        refreshIfStale();
+        return Optional.of(this.indexes.names.suggest(query.prefix(), query.limit()));
+    }
+
+    /**
+     * Relevance only exists for index hits; when the database answers, results are ordered by the fallback column.
+     */
+    public static SearchQuery columnSorted(final SearchQuery query, final String fallbackSort) {
+        if (!RELEVANCE.equals(query.sort())) {
+            return query;
+        }
+        return new SearchQuery(query.page(), query.perPage(), query.terms(), fallbackSort, query.direction(),
+                query.cursor(), query.countMode());
+    }
+
+    private void refreshIfStale() {
+        if (System.nanoTime() - this.loadedAt >= this.refreshNanos) {
+            refresh();
+        }
+    }
+
+    private void load(final Indexes target, final Function<Pageable, Page<T>> rows) {
+        final Instant startedFrom = InstantUtils.now();
+        final long startedAt = System.nanoTime();
+        synchronized (this.lock) {
+            this.loading = target;
+            this.removedWhileLoading = new HashSet<>();
+        }
+
+        try {
+            Pageable page = PageRequest.of(0, LOAD_CHUNK_SIZE, Sort.by("id"));
+            Page<T> chunk;
+            do {
+                chunk = rows.apply(page);
+                chunk.forEach(target::put);
+                page = page.next();
+            } while (chunk.hasNext());
+
+            synchronized (this.lock) {
+                this.removedWhileLoading.forEach(target::remove);
+                this.indexes = target;
+                this.loadedFrom = startedFrom;
+                this.loadedAt = startedAt;
+                this.ready = true;
+            }
+        } finally {
+            synchronized (this.lock) {
+                this.loading = null;
+                this.removedWhileLoading = null;
+            }
+        }
+    }
+
+    /**
+     * Applies a committed write to the current indexes and to the ones being loaded, remembering removed IDs until
+     * the load ends.
+     */
+    private void apply(final Consumer<Indexes> write, final String id, final boolean removed) {
+        synchronized (this.lock) {
+            write.accept(this.indexes);
+            if (this.loading == null) {
+                return;
+            }
+            if (this.loading != this.indexes) {
+                write.accept(this.loading);
+            }
+            if (removed) {
+                this.removedWhileLoading.add(id);
+            } else {
+                this.removedWhileLoading.remove(id);
+            }
+        }
+    }
+
+    private final class Indexes {
+
+        private final TrigramIndex trigrams = new TrigramIndex();
+        private final PrefixIndex names = new PrefixIndex();
+
+        private void put(final T entity) {
+            this.trigrams.put(idOf(entity), textsOf(entity));
+            this.names.put(idOf(entity), nameOf(entity));
+        }
+
+        private void remove(final String id) {
+            this.trigrams.remove(id);
+            this.names.remove(id);
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.ioliveira.catalogo.infrastructure.search;
+
+import com.ioliveira.catalogo.infrastructure.utils.SearchUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * Inverted index from trigrams of normalized text to documents. Each document gets an internal int
+ * number in insertion order, so posting lists are sorted int arrays that can be intersected by merging.
+ * The first field of a document is its name and ranks above the others. Removed documents leave a free number
+ * behind; once those outnumber the live ones, the live documents are renumbered in order.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM = 3;
+
+    private static final int[] EMPTY = new int[0];
+    private static final int MIN_FREE_TO_COMPACT = 1_024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<String, Integer> docs = new HashMap<>();
+    private final List<String> ids = new ArrayList<>();
+    private final List<String[]> fields = new ArrayList<>();
+    private int free;
+
+    public void put(final String id, final String... texts) {
+        final String[] normalized = Arrays.stream(texts)
+                .map(SearchUtils::normalize)
+                .toArray(String[]::new);
+
+        this.lock.writeLock().lock();
+        try {
+            removeLocked(id);
+
+            final int doc = this.ids.size();
+            this.ids.add(id);
+            this.fields.add(normalized);
+            this.docs.put(id, doc);
+
+            for (final long gram : grams(normalized)) {
+                this.postings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String id) {
+        this.lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.docs.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of every document with a field containing the term, best matches first: name equal to the term,
+     * then name prefix, name word prefix, name substring and finally matches in the other fields.
+     * Terms shorter than {@link #GRAM} characters have no trigram and return nothing.
+     */
+    public List<String> search(final String terms) {
+        final String term = SearchUtils.normalize(terms);
+        final long[] grams = grams(term);
+        if (grams.length == 0) {
+            return List.of();
+        }
+
+        this.lock.readLock().lock();
+        try {
+            final int[] candidates = intersect(grams);
+            final List<Hit> hits = new ArrayList<>(candidates.length);
+
+            for (final int doc : candidates) {
+                final String[] texts = this.fields.get(doc);
+                final int rank = rank(texts, term);
+                if (rank >= 0) {
+                    hits.add(new Hit(this.ids.get(doc), rank, texts[0] == null ? 0 : texts[0].length()));
+                }
+            }
+
+            hits.sort(Comparator.comparingInt(Hit::rank)
+                    .thenComparingInt(Hit::length)
+                    .thenComparing(Hit::id));
+
+            return hits.stream().map(Hit::id).toList();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(final String id) {
+        final Integer doc = this.docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+
+        for (final long gram : grams(this.fields.get(doc))) {
+            final Postings list = this.postings.get(gram);
+            if (list != null && list.remove(doc) && list.size == 0) {
+                this.postings.remove(gram);
+            }
+        }
+
+        this.ids.set(doc, null);
+        this.fields.set(doc, null);
+
+        if (++this.free >= Math.max(MIN_FREE_TO_COMPACT, this.docs.size())) {
+            compact();
+        }
+    }
+
+    /**
+     * Renumbers the live documents 0..n-1 keeping their order, so every posting list stays sorted when its numbers
+     * are rewritten in place.
+     */
+    private void compact() {
+        final int[] renumbered = new int[this.ids.size()];
+        final List<String> liveIds = new ArrayList<>(this.docs.size());
+        final List<String[]> liveFields = new ArrayList<>(this.docs.size());
+
+        for (int doc = 0; doc < this.ids.size(); doc++) {
+            final String id = this.ids.get(doc);
+            if (id != null) {
+                renumbered[doc] = liveIds.size();
+                this.docs.put(id, liveIds.size());
+                liveIds.add(id);
+                liveFields.add(this.fields.get(doc));
+            }
+        }
+
+        for (final Postings list : this.postings.values()) {
+            for (int i = 0; i < list.size; i++) {
+                list.docs[i] = renumbered[list.docs[i]];
+            }
+        }
+
+        this.ids.clear();
+        this.ids.addAll(liveIds);
+        this.fields.clear();
+        this.fields.addAll(liveFields);
+        this.free = 0;
+    }
+
+    /**
+     * Document numbers in use, live or free.
+     */
+    int slots() {
+        this.lock.readLock().lock();
+        try {
+            return this.ids.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private int[] intersect(final long[] grams) {
+        final Postings[] lists = new Postings[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = this.postings.get(grams[i]);
+            if (lists[i] == null) {
+                return EMPTY;
+            }
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+
+        int[] result = Arrays.copyOf(lists[0].docs, lists[0].size);
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] intersect(final int[] left, final Postings right) {
+        final int[] result = new int[Math.min(left.length, right.size)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.size) {
+            if (left[i] < right.docs[j]) {
+                i++;
+            } else if (left[i] > right.docs[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int rank(final String[] texts, final String term) {
+        final String name = texts[0];
+        if (name != null) {
+            if (name.equals(term)) {
+                return 0;
+            }
+            if (name.startsWith(term)) {
+                return 1;
+            }
+            final int at = name.indexOf(term);
+            if (at > 0) {
+                return name.charAt(at - 1) == ' ' ? 2 : 3;
+            }
+        }
+        for (int i = 1; i < texts.length; i++) {
+            if (texts[i] != null && texts[i].contains(term)) {
+                return 4;
+            }
+        }
+        return -1;
+    }
+
+    private static long[] grams(final String[] texts) {
+        return Arrays.stream(texts)
+                .flatMapToLong(text -> Arrays.stream(grams(text)))
+                .distinct()
+                .toArray();
+    }
+
+    private static long[] grams(final String text) {
+        if (text == null || text.length() < GRAM) {
+            return new long[0];
+        }
+        return IntStream.rangeClosed(0, text.length() - GRAM)
+                .mapToLong(i -> (long) text.charAt(i) << 32 | (long) text.charAt(i + 1) << 16 | text.charAt(i + 2))
+                .distinct()
+                .toArray();
+    }
+
+    private record Hit(String id, int rank, int length) {
+    }
+
+    /**
+     * Sorted, growable int array. Documents are numbered in insertion order, so adding is an append.
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(final int doc) {
+            if (this.size == this.docs.length) {
+                this.docs = Arrays.copyOf(this.docs, this.size * 2);
+            }
+            this.docs[this.size++] = doc;
+        }
+
+        private boolean remove(final int doc) {
+            final int at = Arrays.binarySearch(this.docs, 0, this.size, doc);
+            if (at < 0) {
+                return false;
+            }
+            System.arraycopy(this.docs, at + 1, this.docs, at, this.size - at - 1);
+            this.size--;
+            return true;
+        }
+    }
+}
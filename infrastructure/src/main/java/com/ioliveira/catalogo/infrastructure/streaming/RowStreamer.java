@@ -0,0 +1,89 @@
+package com.ioliveira.catalogo.infrastructure.streaming;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Runs a query over a forward-only, read-only result set fetched {@code fetchSize} rows at a time, handing each row
+ * to the handler as it arrives. On MySQL the fetch size only opens a server-side cursor on connections with
+ * useCursorFetch=true, so exports get their own small pool with that flag (see {@code export.datasource}) instead of
+ * turning it on, and holding a connection for the whole stream, in the application pool. Without it Connector/J
+ * would read the whole result into memory first, so there rows are streamed one at a time instead.
+ */
+public class RowStreamer implements AutoCloseable {
+
+    private static final String MYSQL = "MySQL";
+    private static final String CURSOR_FETCH = "useCursorFetch=true";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final boolean ownsDataSource;
+
+    /**
+     * Streams through connections of the given data source, joining the caller's transaction if there is one.
+     */
+    public RowStreamer(final DataSource dataSource, final int fetchSize) {
+        this(dataSource, fetchSize, false);
+    }
+
+    /**
+     * Streams through a pool of its own, closed with the streamer.
+     */
+    public RowStreamer(final HikariConfig pool, final int fetchSize) {
+        this(new HikariDataSource(pool), fetchSize, true);
+    }
+
+    private RowStreamer(final DataSource dataSource, final int fetchSize, final boolean ownsDataSource) {
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.fetchSize = fetchSize;
+        this.ownsDataSource = ownsDataSource;
+    }
+
+    public void forEach(final String sql, final RowCallbackHandler handler) {
+        this.jdbcTemplate.query(
+                connection -> {
+                    final var statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSizeFor(connection));
+                    return statement;
+                },
+                handler
+        );
+    }
+
+    /**
+     * Integer.MIN_VALUE is how Connector/J is told to stream a result row by row; the connection then cannot run
+     * another statement until the stream is read.
+     */
+    private int fetchSizeFor(final Connection connection) throws SQLException {
+        final DatabaseMetaData metadata = connection.getMetaData();
+        if (MYSQL.equals(metadata.getDatabaseProductName()) && !metadata.getURL().contains(CURSOR_FETCH)) {
+            return Integer.MIN_VALUE;
+        }
+        return this.fetchSize;
+    }
+
+    @Override
+    public void close() {
+        if (this.ownsDataSource) {
+            ((HikariDataSource) this.dataSource).close();
+        }
+    }
+
+    public static Instant instant(final ResultSet row, final String column) throws SQLException {
+        final Timestamp timestamp = row.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toInstant();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ioliveira.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.infrastructure.configuration.json.Json;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Opaque keyset position: the (sort key, id) tuple of the last row of a page.
+ * The next page seeks past it instead of skipping rows with OFFSET.
+ */
+public record Cursor(
+        @JsonProperty("sort") String sort,
+        @JsonProperty("value") String value,
+        @JsonProperty("id") String id
+) {
+
+    public static Cursor of(final Object entity, final String sort) {
+        final BeanWrapperImpl wrapper = new BeanWrapperImpl(entity);
+        final Object value = wrapper.getPropertyValue(sort);
+
+        return new Cursor(sort, value != null ? value.toString() : null, String.valueOf(wrapper.getPropertyValue("id")));
+    }
+
+    public static Optional<Cursor> decode(final String token, final String sort) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        final Cursor cursor;
+        try {
+            final String json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            cursor = Json.readValue(json, Cursor.class);
+        } catch (final RuntimeException e) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+
+        if (cursor.id() == null || !Objects.equals(cursor.sort(), sort)) {
+            throw DomainException.with(new Error("'cursor' does not match sort '%s'".formatted(sort)));
+        }
+
+        return Optional.of(cursor);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(Json.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public <T> Specification<T> seek(final Sort.Direction direction) {
+        return SpecificationUtils.after(sort(), value(), id(), direction.isAscending());
+    }
+}
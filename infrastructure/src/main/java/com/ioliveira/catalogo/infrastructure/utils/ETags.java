@@ -0,0 +1,76 @@
+package com.ioliveira.catalogo.infrastructure.utils;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.regex.Pattern;
+
+/**
+ * Strong entity tags carrying an aggregate's version, e.g. {@code "3"}.
+ */
+public final class ETags {
+
+    /**
+     * Version that no aggregate has, for If-Match values that cannot match any of them.
+     */
+    public static final long UNMATCHABLE = -1L;
+
+    private static final String ANY = "*";
+    private static final String WEAK = "W/";
+    private static final Pattern VERSION = Pattern.compile("\"(\\d{1,18})\"");
+
+    private ETags() {
+    }
+
+    public static String of(final Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * An ETag header for the version, or no header for aggregates that were not read from storage.
+     */
+    public static HttpHeaders header(final Long version) {
+        final HttpHeaders headers = new HttpHeaders();
+        if (version != null) {
+            headers.setETag(of(version));
+        }
+        return headers;
+    }
+
+    /**
+     * The version an If-Match header requires, or null when there is no precondition ({@code *} or no header).
+     * Weak or malformed tags never match under the strong comparison If-Match uses, so they give {@link #UNMATCHABLE}.
+     */
+    public static Long ifMatch(final String header) {
+        if (header == null || header.isBlank() || ANY.equals(header.trim())) {
+            return null;
+        }
+        final var matcher = VERSION.matcher(header.trim());
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : UNMATCHABLE;
+    }
+
+    /**
+     * Whether an If-None-Match header matches the version, using the weak comparison If-None-Match calls for:
+     * any tag of the list, with or without {@code W/}, or {@code *} for any version at all.
+     */
+    public static boolean ifNoneMatch(final String header, final Long version) {
+        if (header == null || version == null) {
+            return false;
+        }
+        final String current = of(version);
+        for (final String tag : header.split(",")) {
+            final String trimmed = tag.trim();
+            if (ANY.equals(trimmed) || current.equals(trimmed.startsWith(WEAK) ? trimmed.substring(WEAK.length()) : trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static <T> ResponseEntity<T> notModified(final Long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .headers(header(version))
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.ioliveira.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+import com.ioliveira.catalogo.infrastructure.configuration.json.Json;
+import io.vavr.control.Either;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+/**
+ * A JSON array read one element at a time, so that a request body of any size is never held in memory.
+ */
+public final class JsonArrays {
+
+    private JsonArrays() {
+    }
+
+    /**
+     * Parses the elements of the array lazily, one per call to next(). A null element is a {@code Left}; one that is
+     * not a valid document is a {@code Left} too and ends the iteration, since the parser cannot tell where the next
+     * element starts. A body that is not an array is a {@link DomainException}, thrown before anything is read.
+     */
+    public static <T> Iterator<Either<Notification, T>> read(final InputStream in, final Class<T> type) {
+        final ObjectReader reader = Json.mapper().readerFor(type);
+        final JsonParser parser = open(reader, in);
+
+        return new Iterator<>() {
+
+            // The token that starts the next element, read ahead by hasNext(); null once the array is over.
+            private JsonToken next;
+            private boolean advanced;
+            private boolean broken;
+
+            @Override
+            public boolean hasNext() {
+                if (!this.advanced) {
+                    this.advanced = true;
+                    try {
+                        this.next = parser.nextToken();
+                    } catch (final IOException e) {
+                        this.broken = true;
+                    }
+                }
+                return this.broken || (this.next != null && this.next != JsonToken.END_ARRAY);
+            }
+
+            @Override
+            public Either<Notification, T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                this.advanced = false;
+                if (!this.broken) {
+                    try {
+                        final T value = reader.readValue(parser);
+                        return value != null ? Right(value) : Left(Notification.create(new Error("Item is null")));
+                    } catch (final IOException e) {
+                        this.broken = true;
+                    }
+                }
+                // Nothing after an unreadable element can be trusted to start where it seems to.
+                this.next = null;
+                this.broken = false;
+                this.advanced = true;
+                return Left(Notification.create(new Error("Item is not valid JSON")));
+            }
+        };
+    }
+
+    private static JsonParser open(final ObjectReader reader, final InputStream in) {
+        try {
+            final JsonParser parser = reader.getFactory().createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw DomainException.with(new Error("Body must be a JSON array"));
+            }
+            return parser;
+        } catch (final IOException e) {
+            throw DomainException.with(new Error("Body must be a JSON array"));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.ioliveira.catalogo.infrastructure.utils;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
+import com.ioliveira.catalogo.infrastructure.configuration.json.Json;
+import io.vavr.control.Either;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+
+/**
+ * Newline delimited JSON: one document per line, read and written one line at a time.
+ */
+public final class Ndjson {
+
+    private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private Ndjson() {
+    }
+
+    /**
+     * Parses the stream lazily, one line per call to next(). A line that is blank or not a valid document is a
+     * {@code Left}, so the caller can report it and carry on with the next one.
+     */
+    public static <T> Iterator<Either<Notification, T>> read(final InputStream in, final Class<T> type) {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        final ObjectReader parser = Json.mapper().readerFor(type);
+
+        return new Iterator<>() {
+
+            private String next = readLine(reader);
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public Either<Notification, T> next() {
+                if (this.next == null) {
+                    throw new NoSuchElementException();
+                }
+                final String line = this.next;
+                this.next = readLine(reader);
+                return parse(parser, line);
+            }
+        };
+    }
+
+    /**
+     * Writes the body to the response from the MVC task executor, like a {@link StreamingResponseBody}, but as a task
+     * with a timeout of its own: a stream lasts as long as the rows it sends, while every other async request keeps
+     * spring.mvc.async.request-timeout.
+     */
+    public static WebAsyncTask<Void> stream(final HttpServletResponse response,
+                                            final Duration timeout,
+                                            final StreamingResponseBody body) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        return new WebAsyncTask<>(timeout.toMillis(), () -> {
+            final OutputStream out = response.getOutputStream();
+            body.writeTo(out);
+            out.flush();
+            return null;
+        });
+    }
+
+    public static void write(final OutputStream out, final Object value) {
+        try {
+            out.write(Json.writeValueAsString(value).getBytes(StandardCharsets.UTF_8));
+            out.write(NEW_LINE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void flush(final OutputStream out) {
+        try {
+            out.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static <T> Either<Notification, T> parse(final ObjectReader parser, final String line) {
+        if (line.isBlank()) {
+            return Left(Notification.create(new Error("Line is empty")));
+        }
+        try {
+            return Right(parser.readValue(line));
+        } catch (final IOException e) {
+            return Left(Notification.create(new Error("Line is not valid JSON")));
+        }
+    }
+
+    private static String readLine(final BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
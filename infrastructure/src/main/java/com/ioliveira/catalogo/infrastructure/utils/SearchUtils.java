@@ -0,0 +1,25 @@
+package com.ioliveira.catalogo.infrastructure.utils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class SearchUtils {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private SearchUtils() {
+    }
+
+    /**
+     * Lower-cased and accent-folded form stored in the *_search columns, so "Comédia" and "comedia" compare equal.
+     */
+    public static String normalize(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ioliveira.catalogo.infrastructure.utils;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.List;
+
+import static com.ioliveira.catalogo.infrastructure.configuration.hibernate.SqlFunctionsContributor.COUNT_OVER;
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+public final class SliceUtils {
+
+    private SliceUtils() {
+    }
+
+    /**
+     * Runs a single page query with an explicit LIMIT and no accompanying COUNT.
+     */
+    public static <T> List<T> fetch(final EntityManager entityManager,
+                                    final Class<T> type,
+                                    final Specification<T> whereClause,
+                                    final Sort sort,
+                                    final long offset,
+                                    final int limit) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = cb.createQuery(type);
+        final Root<T> root = query.from(type);
+
+        where(query, root, cb, whereClause);
+        query.select(root).orderBy(toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Runs the page query with {@code COUNT(*) OVER()} on every row, so rows and total come from one statement.
+     * The total is null when the page is empty, since there is no row to carry it.
+     */
+    public static <T> CountedSlice<T> fetchCounted(final EntityManager entityManager,
+                                                   final Class<T> type,
+                                                   final Specification<T> whereClause,
+                                                   final Sort sort,
+                                                   final long offset,
+                                                   final int limit) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<T> root = query.from(type);
+
+        where(query, root, cb, whereClause);
+        query.multiselect(root, cb.function(COUNT_OVER, Long.class)).orderBy(toOrders(sort, root, cb));
+
+        final List<Tuple> tuples = entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+
+        final List<T> rows = tuples.stream().map(it -> it.get(0, type)).toList();
+        final Long total = tuples.isEmpty() ? null : tuples.get(0).get(1, Long.class);
+
+        return new CountedSlice<>(rows, total);
+    }
+
+    public static <T> long count(final EntityManager entityManager,
+                                 final Class<T> type,
+                                 final Specification<T> whereClause) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<T> root = query.from(type);
+
+        where(query, root, cb, whereClause);
+        query.select(cb.count(root));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <T> void where(final CriteriaQuery<?> query,
+                                  final Root<T> root,
+                                  final CriteriaBuilder cb,
+                                  final Specification<T> whereClause) {
+        if (whereClause == null) {
+            return;
+        }
+
+        final Predicate predicate = whereClause.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    public record CountedSlice<T>(List<T> rows, Long total) {
+    }
+}
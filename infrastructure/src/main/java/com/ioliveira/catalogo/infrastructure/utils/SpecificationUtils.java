@@ -2,12 +2,108 @@ package com.ioliveira.catalogo.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+
+import static com.ioliveira.catalogo.infrastructure.configuration.hibernate.SqlFunctionsContributor.MATCH_AGAINST;
+
 public final class SpecificationUtils {
 
+    /**
+     * Shorter terms are below the ngram full-text token size and only match as a prefix of a property.
+     */
+    public static final int MIN_SUBSTRING_LENGTH = 2;
+
+    private static final char ESCAPE = '\\';
+
     private SpecificationUtils() {
     }
 
-    public static <T> Specification<T> like(final String prop, final String term) {
-        return (root, query1, cb) -> cb.like(cb.upper(root.get(prop)), "%" + term.toUpperCase() + "%");
+    /**
+     * Searches normalized (lower-cased, accent-folded) columns. Single characters become an index range scan
+     * per property, which MySQL merges; longer terms use the FULLTEXT index when available, or a LIKE scan otherwise.
+     */
+    public static <T> Specification<T> search(final String terms, final boolean fullText, final String... props) {
+        final String term = SearchUtils.normalize(terms);
+
+        if (term.length() < MIN_SUBSTRING_LENGTH) {
+            return Arrays.stream(props)
+                    .map(prop -> SpecificationUtils.<T>startsWith(prop, term))
+                    .reduce(Specification::or)
+                    .orElseThrow();
+        }
+
+        if (fullText) {
+            return matches(term, props);
+        }
+
+        return Arrays.stream(props)
+                .map(prop -> SpecificationUtils.<T>contains(prop, term))
+                .reduce(Specification::or)
+                .orElseThrow();
+    }
+
+    public static <T> Specification<T> startsWith(final String prop, final String term) {
+        return (root, query1, cb) -> cb.like(root.get(prop), escape(term) + "%", ESCAPE);
+    }
+
+    public static <T> Specification<T> contains(final String prop, final String term) {
+        return (root, query1, cb) -> cb.like(root.get(prop), "%" + escape(term) + "%", ESCAPE);
+    }
+
+    public static <T> Specification<T> matches(final String term, final String... props) {
+        return (root, query1, cb) -> {
+            final Expression<?>[] arguments = new Expression<?>[props.length + 1];
+            for (int i = 0; i < props.length; i++) {
+                arguments[i] = root.get(props[i]);
+            }
+            arguments[props.length] = cb.literal('"' + term.replace("\"", "") + '"');
+
+            return cb.greaterThan(cb.function(MATCH_AGAINST, Double.class, arguments), 0d);
+        };
+    }
+
+    public static <T> Specification<T> idIn(final Collection<String> ids) {
+        return (root, query1, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Rows strictly after (value, id) in (prop, id) order. Nulls sort first ascending, as in MySQL.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(final String prop, final String value, final String id, final boolean ascending) {
+        return (root, query1, cb) -> {
+            final Path path = root.get(prop);
+            final Path<String> idPath = root.get("id");
+            final Predicate tieBreak = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+
+            if (value == null) {
+                final Predicate sameValue = cb.and(cb.isNull(path), tieBreak);
+                return ascending ? cb.or(sameValue, cb.isNotNull(path)) : sameValue;
+            }
+
+            final Comparable typed = convert(path.getJavaType(), value);
+            final Predicate beyond = ascending ? cb.greaterThan(path, typed) : cb.lessThan(path, typed);
+            final Predicate sameValue = cb.and(cb.equal(path, typed), tieBreak);
+            return ascending ? cb.or(beyond, sameValue) : cb.or(beyond, sameValue, cb.isNull(path));
+        };
+    }
+
+    private static String escape(final String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static Comparable<?> convert(final Class<?> type, final String value) {
+        if (Instant.class.equals(type)) {
+            return Instant.parse(value);
+        }
+        if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+            return Boolean.valueOf(value);
+        }
+        return value;
     }
 }
@@ -0,0 +1,22 @@
+package com.ioliveira.catalogo.infrastructure.validators;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Row count and latest change of a table, which together change whenever any listing of it can change.
+ * It only identifies the listing up to equivalence, so the ETag is weak. The latest change alone is not a
+ * Last-Modified: MAX(updated_at) stays put when a row is deleted, only the count in the ETag moves.
+ */
+public record ListValidator(long count, Instant lastModified) {
+
+    public String etag() {
+        final long micros = this.lastModified == null ? 0 : ChronoUnit.MICROS.between(Instant.EPOCH, this.lastModified);
+        return "W/\"" + this.count + "-" + micros + "\"";
+    }
+
+    ListValidator changed(final long delta, final Instant at) {
+        final Instant latest = this.lastModified == null || at.isAfter(this.lastModified) ? at : this.lastModified;
+        return new ListValidator(Math.max(0, this.count + delta), latest);
+    }
+}
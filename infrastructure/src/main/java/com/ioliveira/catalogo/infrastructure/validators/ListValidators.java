@@ -0,0 +1,85 @@
+package com.ioliveira.catalogo.infrastructure.validators;
+
+import com.ioliveira.catalogo.domain.AggregateRoot;
+import com.ioliveira.catalogo.domain.utils.InstantUtils;
+import com.ioliveira.catalogo.infrastructure.streaming.RowStreamer;
+import com.ioliveira.catalogo.infrastructure.utils.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link ListValidator} of each table, so a listing can be answered with 304 without running its page and
+ * count queries. It is read from the table once per TTL and moved forward by the gateways after each write they
+ * commit; the TTL bounds how long writes made by other instances go unnoticed, and a TTL of zero turns it off.
+ */
+@Component
+public class ListValidators {
+
+    private static final String LOAD_SQL = "SELECT COUNT(*) AS total, MAX(updated_at) AS last_modified FROM %s";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final Map<Class<?>, String> tables = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+
+    public ListValidators(final JdbcTemplate jdbcTemplate,
+                          @Value("${conditional-get.validators.ttl:PT30S}") final Duration ttl) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public void register(final Class<? extends AggregateRoot<?>> type, final String table) {
+        this.tables.put(type, table);
+    }
+
+    /**
+     * The validator of the aggregate's table, or null when none can be given and the listing has to run.
+     */
+    public ListValidator current(final Class<? extends AggregateRoot<?>> type) {
+        final String table = this.tables.get(type);
+        if (table == null || this.ttlNanos <= 0) {
+            return null;
+        }
+
+        final long now = System.nanoTime();
+        final Entry cached = this.entries.get(type);
+        if (cached != null && now - cached.loadedAt() < this.ttlNanos) {
+            return cached.validator();
+        }
+
+        final long before = this.writes.get();
+        final ListValidator loaded = this.jdbcTemplate.queryForObject(LOAD_SQL.formatted(table), (row, rowNum) ->
+                new ListValidator(row.getLong("total"), RowStreamer.instant(row, "last_modified")));
+
+        // A write committed while loading may be missing from the result, so it is only kept if there was none.
+        if (this.writes.get() == before) {
+            this.entries.put(type, new Entry(loaded, now));
+        }
+        return loaded;
+    }
+
+    /**
+     * Moves the validator forward once the current transaction commits, so no listing gets the new validator
+     * while it can still read the rows as they were.
+     */
+    public void changed(final Class<? extends AggregateRoot<?>> type, final long countDelta) {
+        TransactionUtils.afterCommit(() -> apply(type, countDelta));
+    }
+
+    private void apply(final Class<?> type, final long countDelta) {
+        this.writes.incrementAndGet();
+        this.entries.computeIfPresent(type, (key, entry) ->
+                new Entry(entry.validator().changed(countDelta, InstantUtils.now()), entry.loadedAt()));
+    }
+
+    private record Entry(ListValidator validator, long loadedAt) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.ioliveira.catalogo.infrastructure.validators;
+
+import com.ioliveira.catalogo.domain.AggregateRoot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last known version of each aggregate, written by the gateways whenever they read or write one, so a
+ * conditional GET can be answered with 304 without loading the aggregate. Entries expire after the TTL, which
+ * bounds how long writes made by other instances go unnoticed; a TTL of zero turns the cache off.
+ */
+@Component
+public class VersionCache {
+
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+
+    public VersionCache(@Value("${conditional-get.validators.ttl:PT30S}") final Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * The cached version, or null when the aggregate was not seen within the TTL.
+     */
+    public Long get(final Class<? extends AggregateRoot<?>> type, final String id) {
+        final Entry cached = this.entries.get(new Key(type, id));
+        if (cached == null || System.nanoTime() - cached.loadedAt() >= this.ttlNanos) {
+            return null;
+        }
+        return cached.version();
+    }
+
+    /**
+     * Versions only grow, so a read that finishes after a newer write does not bring back the older version.
+     */
+    public void put(final Class<? extends AggregateRoot<?>> type, final String id, final Long version) {
+        if (version == null || this.ttlNanos <= 0) {
+            return;
+        }
+
+        if (this.entries.size() >= MAX_ENTRIES) {
+            this.entries.clear();
+        }
+
+        this.entries.merge(new Key(type, id), new Entry(version, System.nanoTime()),
+                (current, fresh) -> fresh.version() >= current.version() ? fresh : current);
+    }
+
+    public void remove(final Class<? extends AggregateRoot<?>> type, final String id) {
+        this.entries.remove(new Key(type, id));
+    }
+
+    public void removeAll(final Class<? extends AggregateRoot<?>> type) {
+        this.entries.keySet().removeIf(key -> key.type().equals(type));
+    }
+
+    private record Key(Class<?> type, String id) {
+    }
+
+    private record Entry(long version, long loadedAt) {
+    }
+}
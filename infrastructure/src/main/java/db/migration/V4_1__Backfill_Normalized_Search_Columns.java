@@ -0,0 +1,77 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Fills the *_search columns added by V4 for the rows written before them. SQL has no portable way to strip every
+ * accent, so the folding is done here, on chunks of {@value #CHUNK_SIZE} rows read in id order: no result set
+ * outgrows a chunk, whatever the driver buffers.
+ */
+public class V4_1__Backfill_Normalized_Search_Columns extends BaseJavaMigration {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    @Override
+    public void migrate(final Context context) throws Exception {
+        final Connection connection = context.getConnection();
+        backfill(connection, "category", "name", "description");
+        backfill(connection, "genres", "name");
+    }
+
+    /**
+     * The folding of SearchUtils.normalize when this migration was written, copied so that the rows it fills keep
+     * matching what was written next to them whatever the application does later.
+     */
+    private static String fold(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static void backfill(final Connection connection, final String table, final String... columns)
+            throws SQLException {
+        final String select = "SELECT id, %s FROM %s WHERE id > ? ORDER BY id LIMIT %d"
+                .formatted(String.join(", ", columns), table, CHUNK_SIZE);
+        final String update = "UPDATE %s SET %s WHERE id = ?".formatted(table, String.join(", ",
+                Arrays.stream(columns).map(column -> column + "_search = ?").toList()));
+
+        try (PreparedStatement query = connection.prepareStatement(select);
+             PreparedStatement statement = connection.prepareStatement(update)) {
+
+            String after = "";
+            int read;
+            do {
+                read = 0;
+                query.setString(1, after);
+                try (ResultSet rows = query.executeQuery()) {
+                    while (rows.next()) {
+                        after = rows.getString(1);
+                        for (int i = 0; i < columns.length; i++) {
+                            statement.setString(1 + i, fold(rows.getString(2 + i)));
+                        }
+                        statement.setString(columns.length + 1, after);
+                        statement.addBatch();
+                        read++;
+                    }
+                }
+                if (read > 0) {
+                    statement.executeBatch();
+                }
+            } while (read == CHUNK_SIZE);
+        }
+    }
+}
@@ -0,0 +1,5 @@
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
+
+CREATE INDEX idx_genres_name_id ON genres (name, id);
+CREATE INDEX idx_genres_created_at_id ON genres (created_at, id);
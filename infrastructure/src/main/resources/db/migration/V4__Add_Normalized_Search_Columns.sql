@@ -0,0 +1,8 @@
+-- Colunas normalizadas (minúsculas e sem acentos) mantidas pela aplicação em CategoryJpaEntity/GenreJpaEntity e preenchidas para as linhas existentes pela V4_1.
+ALTER TABLE category ADD COLUMN name_search VARCHAR(255);
+ALTER TABLE category ADD COLUMN description_search VARCHAR(400);
+ALTER TABLE genres ADD COLUMN name_search VARCHAR(255);
+
+CREATE INDEX idx_category_name_search ON category (name_search);
+CREATE INDEX idx_category_description_search ON category (description_search);
+CREATE INDEX idx_genres_name_search ON genres (name_search);
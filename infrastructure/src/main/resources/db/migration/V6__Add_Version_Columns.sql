@@ -0,0 +1,3 @@
+-- Versão de cada linha para o controle de concorrência otimista (@Version), exposta como ETag e verificada no If-Match.
+ALTER TABLE category ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE genres ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Lidos pelo índice de busca em memória a cada intervalo, para trazer as linhas gravadas por outras instâncias.
+CREATE INDEX idx_category_updated_at ON category (updated_at);
+CREATE INDEX idx_genres_updated_at ON genres (updated_at);
@@ -0,0 +1,46 @@
+package com.ioliveira.catalogo.infrastructure.api;
+
+import com.ioliveira.catalogo.ControllerTest;
+import com.ioliveira.catalogo.infrastructure.cache.CacheStats;
+import com.ioliveira.catalogo.infrastructure.category.CachingCategoryGateway;
+import com.ioliveira.catalogo.infrastructure.genre.CachingGenreGateway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = CacheApi.class)
+public class CacheApiTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private CachingCategoryGateway categoryGateway;
+
+    @MockBean
+    private CachingGenreGateway genreGateway;
+
+    @Test
+    public void givenBothCaches_whenCallsStats_thenShouldReturnTheCountersOfEach() throws Exception {
+        when(categoryGateway.stats()).thenReturn(new CacheStats(3, 1, 0, 1, 280));
+        when(genreGateway.stats()).thenReturn(new CacheStats(0, 0, 0, 0, 0));
+
+        this.mvc.perform(get("/cache/stats"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories.hits", equalTo(3)))
+                .andExpect(jsonPath("$.categories.misses", equalTo(1)))
+                .andExpect(jsonPath("$.categories.hit_rate", equalTo(0.75)))
+                .andExpect(jsonPath("$.categories.weight", equalTo(280)))
+                .andExpect(jsonPath("$.genres.hits", equalTo(0)))
+                .andExpect(jsonPath("$.genres.hit_rate", equalTo(1.0)));
+    }
+}
@@ -4,35 +4,60 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ioliveira.catalogo.ControllerTest;
 import com.ioliveira.catalogo.application.category.create.CreateCategoryOutput;
 import com.ioliveira.catalogo.application.category.create.CreateCategoryUseCase;
+import com.ioliveira.catalogo.application.category.create.CreateCategoryCommand;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoriesCommand;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoriesOutput;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.create.batch.BatchCreateCategoryItem;
 import com.ioliveira.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.ioliveira.catalogo.application.category.delete.batch.BatchDeleteCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoriesByIdsUseCase;
 import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
 import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdUsecase;
 import com.ioliveira.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.ioliveira.catalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.suggest.CategorySuggestionOutput;
+import com.ioliveira.catalogo.application.category.retrieve.suggest.SuggestCategoriesUseCase;
 import com.ioliveira.catalogo.application.category.update.UpdateCategoryOutput;
 import com.ioliveira.catalogo.application.category.update.UpdateCategoryUseCase;
 import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.exceptions.DomainException;
 import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import com.ioliveira.catalogo.domain.pagination.Pagination;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
 import com.ioliveira.catalogo.domain.validation.Error;
+import com.ioliveira.catalogo.domain.validation.handler.Notification;
 import com.ioliveira.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.ioliveira.catalogo.infrastructure.category.models.UpdateCategoryRequest;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidator;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidators;
+import com.ioliveira.catalogo.infrastructure.validators.VersionCache;
+import io.vavr.control.Either;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -58,6 +83,9 @@ public class CategoryApiTest {
     @MockBean
     private GetCategoryByIdUsecase getCategoryByIdUsecase;
 
+    @MockBean
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
@@ -67,6 +95,21 @@ public class CategoryApiTest {
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private SuggestCategoriesUseCase suggestCategoriesUseCase;
+
+    @MockBean
+    private BatchCreateCategoriesUseCase batchCreateCategoriesUseCase;
+
+    @MockBean
+    private BatchDeleteCategoriesUseCase batchDeleteCategoriesUseCase;
+
+    @MockBean
+    private VersionCache versionCache;
+
+    @MockBean
+    private ListValidators listValidators;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_thenShouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -141,6 +184,47 @@ public class CategoryApiTest {
                 .andExpect(jsonPath("$.deletedAt", equalTo(category.getDeletedAt())));
     }
 
+    @Test
+    public void givenSeveralIds_whenCallsGetCategoriesByIds_thenShouldReturnThemInTheRequestedOrder() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var expectedIds = List.of(series.getId().getValue(), filmes.getId().getValue());
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(List.of(GetCategoryByIdOutput.with(series), GetCategoryByIdOutput.with(filmes)));
+
+        final var request = get("/categories")
+                .queryParam("ids", expectedIds.get(0), expectedIds.get(1));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(expectedIds.get(0))))
+                .andExpect(jsonPath("$[0].name", equalTo("Series")))
+                .andExpect(jsonPath("$[1].id", equalTo(expectedIds.get(1))))
+                .andExpect(jsonPath("$[1].name", equalTo("Filmes")));
+
+        verify(getCategoriesByIdsUseCase).execute(eq(expectedIds));
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsGetCategoriesByIds_thenShouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "'ids' must have at most 100 IDs";
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        final var request = get("/categories").queryParam("ids", "123,456");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAnInValidId_whenCallsGetCategory_thenShouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Category with ID 123 was not found";
@@ -180,6 +264,105 @@ public class CategoryApiTest {
                 .andExpect(jsonPath("$.id", equalTo(expectedId)));
     }
 
+    @Test
+    public void givenAVersionedCategory_whenCallsGetCategory_thenShouldReturnETag() throws Exception {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var versioned = Category.with(category.getId(), category.getName(), category.getDescription(),
+                category.isActive(), category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt(), 3L);
+
+        when(getCategoryByIdUsecase.execute(any()))
+                .thenReturn(GetCategoryByIdOutput.with(versioned));
+
+        final var request = get("/categories/{id}", category.getId().getValue());
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    public void givenACachedVersion_whenCallsGetCategoryWithIfNoneMatch_thenShouldReturnNotModifiedWithoutLoading() throws Exception {
+        when(versionCache.get(Category.class, "123")).thenReturn(3L);
+
+        final var request = get("/categories/{id}", "123")
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"2\", \"3\"");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        verify(getCategoryByIdUsecase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnUncachedVersion_whenCallsGetCategoryWithIfNoneMatch_thenShouldCompareWithTheLoadedVersion() throws Exception {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var versioned = Category.with(category.getId(), category.getName(), category.getDescription(),
+                category.isActive(), category.getCreatedAt(), category.getUpdatedAt(), category.getDeletedAt(), 3L);
+        final var expectedId = category.getId().getValue();
+
+        when(getCategoryByIdUsecase.execute(any()))
+                .thenReturn(GetCategoryByIdOutput.with(versioned));
+
+        this.mvc.perform(get("/categories/{id}", expectedId).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+
+        this.mvc.perform(get("/categories/{id}", expectedId).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)));
+    }
+
+    @Test
+    public void givenAnIfMatchHeader_whenCallsUpdateCategory_thenShouldPassVersionAndReturnNewETag() throws Exception {
+        final var expectedId = "123";
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(Right(new UpdateCategoryOutput(expectedId, 4L)));
+
+        final var input = new UpdateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        final var request = put("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version", equalTo(4)));
+
+        verify(updateCategoryUseCase).execute(argThat(cmd -> Long.valueOf(3L).equals(cmd.version())));
+    }
+
+    @Test
+    public void givenAStaleIfMatchHeader_whenCallsUpdateCategory_thenShouldReturnPreconditionFailed() throws Exception {
+        final var expectedErrorMessage = "Category ID 123 is not at version 3";
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(VersionMismatchException.with(Category.class, "123", 3L));
+
+        final var input = new UpdateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        final var request = put("/categories/{id}", "123")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsUpdateCategory_thenShouldException() throws Exception {
         final var expectedId = "asdf";
@@ -282,4 +465,187 @@ public class CategoryApiTest {
                 .andExpect(jsonPath("$.items[0].createdAt", equalTo(category.getCreatedAt().toString())))
                 .andExpect(jsonPath("$.items[0].deletedAt", equalTo(category.getDeletedAt())));
     }
+
+    @Test
+    public void givenAnUnchangedTable_whenCallsListCategoriesWithIfNoneMatch_thenShouldReturnNotModifiedWithoutQuerying() throws Exception {
+        final var validator = new ListValidator(12, Instant.parse("2022-05-01T10:00:00.123456Z"));
+
+        when(listValidators.current(Category.class)).thenReturn(validator);
+
+        this.mvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, validator.etag()))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, validator.etag()));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenATableWithNoNewerUpdate_whenCallsListCategoriesWithIfModifiedSince_thenShouldReturnThePage() throws Exception {
+        final var validator = new ListValidator(11, Instant.parse("2022-05-01T10:00:00Z"));
+
+        when(listValidators.current(Category.class)).thenReturn(validator);
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        this.mvc.perform(get("/categories").header(HttpHeaders.IF_MODIFIED_SINCE, "Sun, 01 May 2022 10:00:00 GMT"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    public void givenAChangedTable_whenCallsListCategoriesWithIfNoneMatch_thenShouldReturnThePageWithTheETag() throws Exception {
+        final var validator = new ListValidator(13, Instant.parse("2022-05-01T10:00:05Z"));
+
+        when(listValidators.current(Category.class)).thenReturn(validator);
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        this.mvc.perform(get("/categories").header(HttpHeaders.IF_NONE_MATCH, "W/\"12-1651399200123456\""))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, validator.etag()))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.items", hasSize(0)));
+    }
+
+    @Test
+    public void givenAnInvalidCountMode_whenCallsListCategories_thenShouldReturnUnprocessableEntity() throws Exception {
+        final var expectedErrorMessage = "'count' must be one of exact, estimated or none";
+
+        final var request = get("/categories")
+                .queryParam("count", "approximate");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors", hasSize(1)))
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestCategories_thenShouldReturnIdsAndNames() throws Exception {
+        final var expectedId = CategoryID.from("123");
+
+        when(suggestCategoriesUseCase.execute(eq(new SuggestQuery("fil", 5))))
+                .thenReturn(List.of(new CategorySuggestionOutput(expectedId, "Filmes")));
+
+        final var request = get("/categories/suggest")
+                .queryParam("q", "fil")
+                .queryParam("limit", "5");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$[0].name", equalTo("Filmes")));
+    }
+
+    @Test
+    public void givenSomeInvalidItems_whenCallsBatchCreateCategories_thenShouldReturnMultiStatus() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var input = List.of(
+                new CreateCategoryRequest("Filmes", null, true),
+                new CreateCategoryRequest(null, null, null)
+        );
+
+        final var commands = new ArrayList<CreateCategoryCommand>();
+        when(batchCreateCategoriesUseCase.execute(any())).thenAnswer(invocation -> {
+            final BatchCreateCategoriesCommand command = invocation.getArgument(0);
+            command.categories().forEachRemaining(item -> commands.add(item.get()));
+            return BatchCreateCategoriesOutput.from(List.of(
+                    BatchCreateCategoryItem.created(0, "123"),
+                    BatchCreateCategoryItem.failed(1, Notification.create(new Error(expectedErrorMessage)))
+            ));
+        });
+
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created", equalTo(1)))
+                .andExpect(jsonPath("$.failed", equalTo(1)))
+                .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+                .andExpect(jsonPath("$.items[1].index", equalTo(1)))
+                .andExpect(jsonPath("$.items[1].id", nullValue()))
+                .andExpect(jsonPath("$.items[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        assertEquals(2, commands.size());
+        assertEquals("Filmes", commands.get(0).name());
+        assertTrue(commands.get(1).isActive());
+    }
+
+    @Test
+    public void givenAnUnreadableItem_whenCallsBatchCreateCategories_thenShouldReadTheItemsBeforeIt() throws Exception {
+        final var items = new ArrayList<Either<Notification, CreateCategoryCommand>>();
+        when(batchCreateCategoriesUseCase.execute(any())).thenAnswer(invocation -> {
+            final BatchCreateCategoriesCommand command = invocation.getArgument(0);
+            command.categories().forEachRemaining(items::add);
+            return BatchCreateCategoriesOutput.from(List.of(BatchCreateCategoryItem.created(0, "123")));
+        });
+
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\": \"Filmes\"}, {\"name\": ], {\"name\": \"Series\"}]");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isCreated());
+
+        assertEquals(2, items.size());
+        assertEquals("Filmes", items.get(0).get().name());
+        assertEquals("Item is not valid JSON", items.get(1).getLeft().getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenABodyThatIsNotAnArray_whenCallsBatchCreateCategories_thenShouldReturnDomainException() throws Exception {
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new CreateCategoryRequest("Filmes", null, true)));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("Body must be a JSON array")));
+
+        verify(batchCreateCategoriesUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenValidItems_whenCallsBatchCreateCategories_thenShouldReturnCreated() throws Exception {
+        when(batchCreateCategoriesUseCase.execute(any())).thenReturn(BatchCreateCategoriesOutput.from(List.of(
+                BatchCreateCategoryItem.created(0, "123")
+        )));
+
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(List.of(new CreateCategoryRequest("Filmes", null, true))));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.created", equalTo(1)))
+                .andExpect(jsonPath("$.failed", equalTo(0)));
+    }
+
+    @Test
+    public void givenSeveralIds_whenCallsDeleteCategories_thenShouldReturnNoContent() throws Exception {
+        doNothing().when(batchDeleteCategoriesUseCase).execute(any());
+
+        final var request = delete("/categories").queryParam("ids", "123,456");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(batchDeleteCategoriesUseCase).execute(eq(List.of("123", "456")));
+    }
 }
@@ -0,0 +1,108 @@
+package com.ioliveira.catalogo.infrastructure.api;
+
+import com.ioliveira.catalogo.ControllerTest;
+import com.ioliveira.catalogo.application.category.export.ExportCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
+import com.ioliveira.catalogo.application.genre.export.ExportGenresUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import com.ioliveira.catalogo.infrastructure.configuration.json.Json;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerTest(controllers = ExportApi.class)
+public class ExportApiTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
+    @Test
+    public void givenCategories_whenCallsExportCategories_thenShouldStreamOneLinePerCategory() throws Exception {
+        final var filmes = GetCategoryByIdOutput.with(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var series = GetCategoryByIdOutput.with(Category.newCategory("Series", null, false));
+
+        doAnswer(invocation -> {
+            final Consumer<GetCategoryByIdOutput> sink = invocation.getArgument(0);
+            List.of(filmes, series).forEach(sink);
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        final var result = this.mvc.perform(get("/export/categories"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string(
+                        "{\"id\":\"%s\",\"name\":\"Filmes\",\"description\":\"A categoria mais assistida\",\"is_active\":true,\"createdAt\":%s,\"updatedAt\":%s,\"deletedAt\":null}\n"
+                                .formatted(filmes.id().getValue(), Json.writeValueAsString(filmes.createdAt()), Json.writeValueAsString(filmes.updatedAt()))
+                                + "{\"id\":\"%s\",\"name\":\"Series\",\"description\":null,\"is_active\":false,\"createdAt\":%s,\"updatedAt\":%s,\"deletedAt\":%s}\n"
+                                .formatted(series.id().getValue(), Json.writeValueAsString(series.createdAt()), Json.writeValueAsString(series.updatedAt()), Json.writeValueAsString(series.deletedAt()))
+                ));
+    }
+
+    @Test
+    public void givenGenres_whenCallsExportGenres_thenShouldStreamOneLinePerGenreWithAllCategories() throws Exception {
+        final var acao = Genre.newGenre("Acao", true);
+        acao.addCategories(List.of(CategoryID.from("123"), CategoryID.from("456")));
+        final var output = GenreOutput.from(acao);
+
+        doAnswer(invocation -> {
+            final Consumer<GenreOutput> sink = invocation.getArgument(0);
+            sink.accept(output);
+            return null;
+        }).when(exportGenresUseCase).execute(any());
+
+        final var result = this.mvc.perform(get("/export/genres"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string(
+                        "{\"id\":\"%s\",\"name\":\"Acao\",\"categories_id\":[\"123\",\"456\"],\"is_active\":true,\"createdAt\":%s,\"updatedAt\":%s,\"deletedAt\":null}\n"
+                                .formatted(output.id(), Json.writeValueAsString(output.createdAt()), Json.writeValueAsString(output.updatedAt()))
+                ));
+    }
+
+    @Test
+    public void givenNoCategories_whenCallsExportCategories_thenShouldReturnAnEmptyBody() throws Exception {
+        doAnswer(invocation -> null).when(exportCategoriesUseCase).execute(any());
+
+        final var result = this.mvc.perform(get("/export/categories"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+}
@@ -2,45 +2,79 @@ package com.ioliveira.catalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ioliveira.catalogo.ControllerTest;
+import com.ioliveira.catalogo.application.category.retrieve.list.CategoryListOutput;
+import com.ioliveira.catalogo.application.genre.categories.add.AddGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.expand.ExpandGenreCategoriesCommand;
+import com.ioliveira.catalogo.application.genre.categories.expand.ExpandGenreCategoriesOutput;
+import com.ioliveira.catalogo.application.genre.categories.expand.ExpandGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.list.ListGenreCategoriesUseCase;
+import com.ioliveira.catalogo.application.genre.categories.remove.RemoveGenreCategoriesUseCase;
 import com.ioliveira.catalogo.application.genre.create.CreateGenreOutput;
 import com.ioliveira.catalogo.application.genre.create.CreateGenreUseCase;
 import com.ioliveira.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.ioliveira.catalogo.application.genre.delete.batch.BatchDeleteGenresUseCase;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenreFailure;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresCommand;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresOutput;
+import com.ioliveira.catalogo.application.genre.imports.ImportGenresUseCase;
 import com.ioliveira.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenresByIdsUseCase;
 import com.ioliveira.catalogo.application.genre.retrieve.list.GenreListOutput;
 import com.ioliveira.catalogo.application.genre.retrieve.list.ListGenreUseCase;
+import com.ioliveira.catalogo.application.genre.retrieve.suggest.GenreSuggestionOutput;
+import com.ioliveira.catalogo.application.genre.retrieve.suggest.SuggestGenresUseCase;
 import com.ioliveira.catalogo.application.genre.update.UpdateGenreOutput;
 import com.ioliveira.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryID;
 import com.ioliveira.catalogo.domain.exceptions.NotFoundException;
 import com.ioliveira.catalogo.domain.exceptions.NotificationException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import com.ioliveira.catalogo.domain.genre.Genre;
 import com.ioliveira.catalogo.domain.genre.GenreID;
 import com.ioliveira.catalogo.domain.pagination.Pagination;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
 import com.ioliveira.catalogo.domain.validation.Error;
 import com.ioliveira.catalogo.infrastructure.genre.models.CreateGenreRequest;
+import com.ioliveira.catalogo.infrastructure.genre.models.GenreCategoriesRequest;
 import com.ioliveira.catalogo.infrastructure.genre.models.UpdateGenreRequest;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidator;
+import com.ioliveira.catalogo.infrastructure.validators.ListValidators;
+import com.ioliveira.catalogo.infrastructure.validators.VersionCache;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ControllerTest(controllers = GenreApi.class)
@@ -58,6 +92,9 @@ public class GenreApiTest {
     @MockBean
     private GetGenreByIdUseCase getGenreByIdUseCase;
 
+    @MockBean
+    private GetGenresByIdsUseCase getGenresByIdsUseCase;
+
     @MockBean
     private UpdateGenreUseCase updateGenreUseCase;
 
@@ -67,6 +104,33 @@ public class GenreApiTest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private SuggestGenresUseCase suggestGenresUseCase;
+
+    @MockBean
+    private AddGenreCategoriesUseCase addGenreCategoriesUseCase;
+
+    @MockBean
+    private RemoveGenreCategoriesUseCase removeGenreCategoriesUseCase;
+
+    @MockBean
+    private ListGenreCategoriesUseCase listGenreCategoriesUseCase;
+
+    @MockBean
+    private ExpandGenreCategoriesUseCase expandGenreCategoriesUseCase;
+
+    @MockBean
+    private ImportGenresUseCase importGenresUseCase;
+
+    @MockBean
+    private BatchDeleteGenresUseCase batchDeleteGenresUseCase;
+
+    @MockBean
+    private VersionCache versionCache;
+
+    @MockBean
+    private ListValidators listValidators;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_thenShouldReturnCategoryId() throws Exception {
         final var expectedName = "Drama";
@@ -144,6 +208,88 @@ public class GenreApiTest {
                 .andExpect(jsonPath("$.deletedAt", equalTo(genre.getDeletedAt())));
     }
 
+    @Test
+    public void givenExpandCategories_whenCallsGetGenreById_thenShouldEmbedTheCategoriesWithoutAnETag() throws Exception {
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var genre = Genre.newGenre("Drama", true);
+        genre.addCategories(List.of(filmes.getId()));
+        final var expectedId = genre.getId().getValue();
+
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(genre));
+        when(expandGenreCategoriesUseCase.execute(any()))
+                .thenReturn(Map.of(expectedId, new ExpandGenreCategoriesOutput(List.of(CategoryListOutput.from(filmes)), false)));
+
+        final var request = get("/genres/{id}", expectedId)
+                .queryParam("expand", "categories")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + genre.getVersion() + "\"");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.categories_id").doesNotExist())
+                .andExpect(jsonPath("$.categories", hasSize(1)))
+                .andExpect(jsonPath("$.categories[0].id", equalTo(filmes.getId().getValue())))
+                .andExpect(jsonPath("$.categories[0].description", equalTo("A categoria mais assistida")))
+                .andExpect(jsonPath("$.categories[0].is_active", equalTo(true)));
+
+        verify(expandGenreCategoriesUseCase).execute(eq(ExpandGenreCategoriesCommand.with(
+                expectedId, List.of(filmes.getId().getValue()))));
+        verify(versionCache, never()).get(any(), any());
+    }
+
+    @Test
+    public void givenExpandCategoriesWithNoCategories_whenCallsGetGenreById_thenShouldEmbedNoCategories() throws Exception {
+        final var genre = Genre.newGenre("Drama", true);
+        genre.addCategories(List.of(CategoryID.from("123")));
+        final var expectedId = genre.getId().getValue();
+
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(genre, 0));
+        when(expandGenreCategoriesUseCase.execute(any()))
+                .thenReturn(Map.of(expectedId, new ExpandGenreCategoriesOutput(List.of(), false)));
+
+        final var request = get("/genres/{id}", expectedId)
+                .queryParam("categories", "none")
+                .queryParam("expand", "categories");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", equalTo(expectedId)))
+                .andExpect(jsonPath("$.categories", hasSize(0)));
+
+        verify(expandGenreCategoriesUseCase).execute(eq(ExpandGenreCategoriesCommand.with(expectedId, List.of())));
+    }
+
+    @Test
+    public void givenSeveralIds_whenCallsGetGenresByIds_thenShouldReturnThemInTheRequestedOrder() throws Exception {
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(CategoryID.from("123")));
+        final var acao = Genre.newGenre("Acao", true);
+        final var expectedIds = List.of(drama.getId().getValue(), acao.getId().getValue());
+
+        when(getGenresByIdsUseCase.execute(any()))
+                .thenReturn(List.of(GenreOutput.from(drama), GenreOutput.from(acao)));
+
+        final var request = get("/genres")
+                .queryParam("ids", expectedIds.get(0), expectedIds.get(1));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id", equalTo(expectedIds.get(0))))
+                .andExpect(jsonPath("$[0].categories_id", equalTo(List.of("123"))))
+                .andExpect(jsonPath("$[1].id", equalTo(expectedIds.get(1))))
+                .andExpect(jsonPath("$[1].categories_id", hasSize(0)));
+
+        verify(getGenresByIdsUseCase).execute(eq(expectedIds));
+        verify(listGenreUseCase, never()).execute(any());
+    }
+
     @Test
     public void givenAnInValidId_whenCallsGetGenre_thenShouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Genre with ID 123 was not found";
@@ -185,6 +331,50 @@ public class GenreApiTest {
                 .andExpect(jsonPath("$.id", equalTo(expectedId)));
     }
 
+    @Test
+    public void givenAnIfMatchHeader_whenCallsUpdateGenre_thenShouldPassVersionAndReturnNewETag() throws Exception {
+        final var expectedId = "123";
+
+        when(updateGenreUseCase.execute(any()))
+                .thenReturn(new UpdateGenreOutput(expectedId, 8L));
+
+        final var input = new UpdateGenreRequest("Drama", List.of(), true);
+
+        final var request = put("/genres/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, "\"7\"")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"8\""));
+
+        verify(updateGenreUseCase).execute(argThat(cmd -> Long.valueOf(7L).equals(cmd.version())));
+    }
+
+    @Test
+    public void givenAStaleIfMatchHeader_whenCallsUpdateGenre_thenShouldReturnPreconditionFailed() throws Exception {
+        final var expectedErrorMessage = "Genre ID 123 is not at version 7";
+
+        when(updateGenreUseCase.execute(any()))
+                .thenThrow(VersionMismatchException.with(Genre.class, "123", 7L));
+
+        final var input = new UpdateGenreRequest("Drama", List.of(), true);
+
+        final var request = put("/genres/{id}", "123")
+                .header(HttpHeaders.IF_MATCH, "\"7\"")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsUpdateGenre_thenShouldException() throws Exception {
         final var expectedId = "asdf";
@@ -224,6 +414,19 @@ public class GenreApiTest {
                 .andExpect(status().isNoContent());
     }
 
+    @Test
+    public void givenSeveralIds_whenCallsDeleteGenres_thenShouldReturnNoContent() throws Exception {
+        doNothing().when(batchDeleteGenresUseCase).execute(any());
+
+        final var request = delete("/genres").queryParam("ids", "123,456");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(batchDeleteGenresUseCase).execute(eq(List.of("123", "456")));
+    }
+
     @Test
     public void givenValidParams_whenCallsListGenres_thenShouldReturnGenres() throws Exception {
         final var genre = Genre.newGenre("Drama", true);
@@ -260,4 +463,273 @@ public class GenreApiTest {
                 .andExpect(jsonPath("$.items[0].createdAt", equalTo(genre.getCreatedAt().toString())))
                 .andExpect(jsonPath("$.items[0].deletedAt", equalTo(genre.getDeletedAt())));
     }
+
+    @Test
+    public void givenExpandCategories_whenCallsListGenres_thenShouldEmbedTheCategoriesOfThePage() throws Exception {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var drama = Genre.newGenre("Drama", true);
+        final var acao = Genre.newGenre("Ação", true);
+        final var expectedIds = List.of(drama.getId().getValue(), acao.getId().getValue());
+
+        when(listGenreUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 2, List.of(GenreListOutput.from(drama), GenreListOutput.from(acao))));
+        when(expandGenreCategoriesUseCase.execute(any()))
+                .thenReturn(Map.of(
+                        expectedIds.get(0), new ExpandGenreCategoriesOutput(List.of(CategoryListOutput.from(filmes)), true),
+                        expectedIds.get(1), new ExpandGenreCategoriesOutput(List.of(), false)));
+
+        this.mvc.perform(get("/genres").queryParam("expand", "categories"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.items[0].categories", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].categories[0].id", equalTo(filmes.getId().getValue())))
+                .andExpect(jsonPath("$.items[0].categories[0].name", equalTo("Filmes")))
+                .andExpect(jsonPath("$.items[0].has_more_categories", equalTo(true)))
+                .andExpect(jsonPath("$.items[1].categories", hasSize(0)))
+                .andExpect(jsonPath("$.items[1].has_more_categories", equalTo(false)));
+
+        verify(expandGenreCategoriesUseCase).execute(argThat(command -> command.genreIds().equals(expectedIds)
+                && command.categoriesLimit() == ExpandGenreCategoriesCommand.DEFAULT_PAGE_CATEGORIES));
+        verify(listValidators, never()).current(Genre.class);
+    }
+
+    @Test
+    public void givenExpandCategoriesWithALimit_whenCallsListGenres_thenShouldCapItPerGenre() throws Exception {
+        when(listGenreUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+        when(expandGenreCategoriesUseCase.execute(any()))
+                .thenReturn(Map.of());
+
+        this.mvc.perform(get("/genres").queryParam("expand", "categories").queryParam("categories", "5000"))
+                .andDo(print())
+                .andExpect(status().isOk());
+
+        verify(expandGenreCategoriesUseCase).execute(argThat(command ->
+                command.categoriesLimit() == ExpandGenreCategoriesCommand.MAX_PAGE_CATEGORIES));
+    }
+
+    @Test
+    public void givenAnInvalidExpand_whenCallsListGenres_thenShouldReturnUnprocessableEntity() throws Exception {
+        this.mvc.perform(get("/genres").queryParam("expand", "videos"))
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo("'expand' must be categories")));
+
+        verify(listGenreUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnUnchangedTable_whenCallsListGenresWithIfNoneMatch_thenShouldReturnNotModifiedWithoutQuerying() throws Exception {
+        final var validator = new ListValidator(4, Instant.parse("2022-05-01T10:00:00Z"));
+
+        when(listValidators.current(Genre.class)).thenReturn(validator);
+
+        this.mvc.perform(get("/genres").queryParam("page", "0").header(HttpHeaders.IF_NONE_MATCH, validator.etag()))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, validator.etag()));
+
+        verify(listGenreUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAPrefix_whenCallsSuggestGenres_thenShouldReturnIdsAndNames() throws Exception {
+        when(suggestGenresUseCase.execute(eq(new SuggestQuery("dra", 10))))
+                .thenReturn(List.of(new GenreSuggestionOutput("123", "Drama")));
+
+        final var request = get("/genres/suggest")
+                .queryParam("q", "dra");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[0].name", equalTo("Drama")));
+    }
+
+    @Test
+    public void givenCategories_whenCallsAddGenreCategories_thenShouldReturnNoContent() throws Exception {
+        final var expectedId = "123";
+        final var input = new GenreCategoriesRequest(List.of("456", "789"));
+
+        doNothing().when(addGenreCategoriesUseCase).execute(any());
+
+        final var request = post("/genres/{id}/categories", expectedId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(input));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(addGenreCategoriesUseCase).execute(argThat(cmd ->
+                expectedId.equals(cmd.genreId()) && List.of("456", "789").equals(cmd.categories())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidGenreId_whenCallsAddGenreCategories_thenShouldReturnNotFound() throws Exception {
+        final var expectedErrorMessage = "Genre with ID 123 not found";
+
+        doThrow(NotFoundException.with(new Error(expectedErrorMessage)))
+                .when(addGenreCategoriesUseCase).execute(any());
+
+        final var request = post("/genres/{id}/categories", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(new GenreCategoriesRequest(List.of("456"))));
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenACategoryId_whenCallsRemoveGenreCategory_thenShouldReturnNoContent() throws Exception {
+        doNothing().when(removeGenreCategoriesUseCase).execute(any());
+
+        this.mvc.perform(delete("/genres/{id}/categories/{categoryId}", "123", "456"))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(removeGenreCategoriesUseCase).execute(argThat(cmd ->
+                "123".equals(cmd.genreId()) && List.of("456").equals(cmd.categories())
+        ));
+    }
+
+    @Test
+    public void givenCategoryIds_whenCallsRemoveGenreCategories_thenShouldReturnNoContent() throws Exception {
+        doNothing().when(removeGenreCategoriesUseCase).execute(any());
+
+        final var request = delete("/genres/{id}/categories", "123")
+                .queryParam("ids", "456,789");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(removeGenreCategoriesUseCase).execute(argThat(cmd ->
+                "123".equals(cmd.genreId()) && List.of("456", "789").equals(cmd.categories())
+        ));
+    }
+
+    @Test
+    public void givenACategoriesLimit_whenCallsGetGenreById_thenShouldInlineOnlyTheFirstCategories() throws Exception {
+        final var genre = Genre.newGenre("Ação", true)
+                .addCategories(List.of(CategoryID.from("1"), CategoryID.from("2")));
+
+        when(getGenreByIdUseCase.execute(argThat(cmd -> cmd.categoriesLimit() == 1)))
+                .thenReturn(GenreOutput.from(genre, 1));
+
+        final var request = get("/genres/{id}", genre.getId().getValue())
+                .queryParam("categories", "1");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.categories_id", equalTo(List.of("1"))))
+                .andExpect(jsonPath("$.has_more_categories", equalTo(true)));
+    }
+
+    @Test
+    public void givenACachedVersion_whenCallsGetGenreWithIfNoneMatch_thenShouldReturnNotModifiedWithoutLoading() throws Exception {
+        when(versionCache.get(Genre.class, "123")).thenReturn(5L);
+
+        final var request = get("/genres/{id}", "123")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"5\"");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+
+        verify(getGenreByIdUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnOutdatedIfNoneMatch_whenCallsGetGenre_thenShouldReturnTheGenre() throws Exception {
+        final var genre = Genre.newGenre("Drama", true);
+        final var versioned = Genre.with(genre.getId(), genre.getName(), genre.isActive(), List.of(),
+                genre.getCreatedAt(), genre.getUpdatedAt(), genre.getDeletedAt(), 6L);
+
+        when(versionCache.get(Genre.class, genre.getId().getValue())).thenReturn(6L);
+        when(getGenreByIdUseCase.execute(any()))
+                .thenReturn(GenreOutput.from(versioned));
+
+        final var request = get("/genres/{id}", genre.getId().getValue())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"5\"");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"6\""))
+                .andExpect(jsonPath("$.name", equalTo("Drama")));
+    }
+
+    @Test
+    public void givenACursor_whenCallsListGenreCategories_thenShouldReturnAKeysetPage() throws Exception {
+        when(listGenreCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 2, Pagination.UNKNOWN_TOTAL, List.of("1", "2"), "next", true));
+
+        final var request = get("/genres/{id}/categories", "123")
+                .queryParam("cursor", "previous")
+                .queryParam("perPage", "2");
+
+        this.mvc.perform(request)
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", equalTo(List.of("1", "2"))))
+                .andExpect(jsonPath("$.next_cursor", equalTo("next")))
+                .andExpect(jsonPath("$.has_next", equalTo(true)));
+
+        verify(listGenreCategoriesUseCase).execute(argThat(cmd ->
+                "123".equals(cmd.genreId()) && "previous".equals(cmd.cursor()) && cmd.perPage() == 2
+        ));
+    }
+
+    @Test
+    public void givenNdjsonLines_whenCallsImportGenres_thenShouldStreamFailuresAndProgress() throws Exception {
+        final var body = """
+                {"name":"Ação","categories_id":["1"]}
+                not json
+                {"name":"Drama","is_active":false}
+                """;
+
+        when(importGenresUseCase.execute(any())).thenAnswer(invocation -> {
+            final ImportGenresCommand command = invocation.getArgument(0);
+            final var names = new ArrayList<String>();
+            long line = 0;
+            while (command.genres().hasNext()) {
+                final var next = command.genres().next();
+                line++;
+                if (next.isLeft()) {
+                    command.listener().onFailure(ImportGenreFailure.from(line, next.getLeft()));
+                } else {
+                    names.add(next.get().name());
+                }
+            }
+            command.listener().onProgress(new ImportGenresOutput(line, names.size(), 1));
+            return new ImportGenresOutput(line, names.size(), 1);
+        });
+
+        final var request = post("/genres/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body);
+
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string("""
+                        {"type":"failure","line":2,"errors":[{"message":"Line is not valid JSON"}]}
+                        {"type":"progress","processed":3,"created":2,"failed":1}
+                        {"type":"done","processed":3,"created":2,"failed":1}
+                        """));
+    }
 }
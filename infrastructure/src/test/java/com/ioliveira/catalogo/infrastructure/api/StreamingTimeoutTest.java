@@ -0,0 +1,59 @@
+package com.ioliveira.catalogo.infrastructure.api;
+
+import com.ioliveira.catalogo.application.category.export.ExportCategoriesUseCase;
+import com.ioliveira.catalogo.application.category.retrieve.get.GetCategoryByIdOutput;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.infrastructure.configuration.WebServerConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ActiveProfiles("test")
+@SpringBootTest(
+        classes = WebServerConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.mvc.async.request-timeout=" + StreamingTimeoutTest.DEFAULT_ASYNC_TIMEOUT_MILLIS
+)
+public class StreamingTimeoutTest {
+
+    static final long DEFAULT_ASYNC_TIMEOUT_MILLIS = 200;
+
+    @LocalServerPort
+    private int port;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @Test
+    public void givenAnExportLongerThanTheDefaultAsyncTimeout_whenStreaming_ShouldStillSendEveryLine() throws Exception {
+        doAnswer(invocation -> {
+            final Consumer<GetCategoryByIdOutput> sink = invocation.getArgument(0);
+            sink.accept(GetCategoryByIdOutput.with(Category.newCategory("Filmes", null, true)));
+            Thread.sleep(Duration.ofMillis(DEFAULT_ASYNC_TIMEOUT_MILLIS).multipliedBy(3).toMillis());
+            sink.accept(GetCategoryByIdOutput.with(Category.newCategory("Series", null, true)));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        final var response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:%d/export/categories".formatted(this.port))).build(),
+                HttpResponse.BodyHandlers.ofLines()
+        );
+
+        assertEquals(200, response.statusCode());
+        assertEquals(2, response.body().count());
+    }
+
+}
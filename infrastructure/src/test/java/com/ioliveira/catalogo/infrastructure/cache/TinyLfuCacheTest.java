@@ -0,0 +1,103 @@
+package com.ioliveira.catalogo.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLfuCacheTest {
+
+    @Test
+    public void givenALoadedKey_whenCallsGetAgain_ShouldHitWithoutLoading() {
+        final var cache = new TinyLfuCache<String, String>(100, 100, Duration.ofMinutes(1), value -> 1);
+        final var loads = new AtomicInteger();
+
+        cache.get("1", key -> Optional.of("Filmes" + loads.incrementAndGet()));
+        final var actual = cache.get("1", key -> Optional.of("Filmes" + loads.incrementAndGet()));
+
+        assertEquals(Optional.of("Filmes1"), actual);
+        assertEquals(1, loads.get());
+        assertEquals(new CacheStats(1, 1, 0, 1, 1), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    public void givenAnInvalidatedKey_whenCallsGet_ShouldLoadAgain() {
+        final var cache = new TinyLfuCache<String, String>(100, 100, Duration.ofMinutes(1), value -> 1);
+        cache.get("1", key -> Optional.of("Filmes"));
+
+        cache.invalidate("1");
+
+        assertNull(cache.getIfPresent("1"));
+        assertEquals(Optional.of("Séries"), cache.get("1", key -> Optional.of("Séries")));
+        assertEquals("Séries", cache.getIfPresent("1"));
+    }
+
+    @Test
+    public void givenAWriteWhileLoading_whenCallsGet_ShouldNotCacheWhatWasLoaded() {
+        final var cache = new TinyLfuCache<String, String>(100, 100, Duration.ofMinutes(1), value -> 1);
+
+        final var actual = cache.get("1", key -> {
+            cache.invalidate(key);
+            return Optional.of("Filmes");
+        });
+
+        assertEquals(Optional.of("Filmes"), actual);
+        assertNull(cache.getIfPresent("1"));
+    }
+
+    @Test
+    public void givenSomeCachedKeys_whenCallsGetAll_ShouldLoadOnlyTheMissingOnesInOneCall() {
+        final var cache = new TinyLfuCache<String, String>(100, 100, Duration.ofMinutes(1), value -> 1);
+        cache.get("1", key -> Optional.of("Filmes"));
+        final var loaded = new ArrayList<List<String>>();
+
+        final var actual = cache.getAll(List.of("1", "2", "3"), missing -> {
+            loaded.add(missing);
+            return Map.of("2", "Séries");
+        });
+
+        assertEquals(Map.of("1", "Filmes", "2", "Séries"), actual);
+        assertEquals(List.of(List.of("2", "3")), loaded);
+        assertEquals("Séries", cache.getIfPresent("2"));
+        assertNull(cache.getIfPresent("3"));
+    }
+
+    @Test
+    public void givenHotKeys_whenOneOffKeysAreReadBetweenThem_ShouldKeepTheHotKeys() {
+        final var cache = new TinyLfuCache<String, String>(20, 20, Duration.ofMinutes(1), value -> 1);
+
+        IntStream.range(0, 1_000).forEach(i -> {
+            cache.get("hot-" + (i % 5), key -> Optional.of(key));
+            cache.get("scan-" + i, key -> Optional.of(key));
+        });
+
+        IntStream.range(0, 5).forEach(i -> assertNotNull(cache.getIfPresent("hot-" + i)));
+        assertTrue(cache.stats().weight() <= 20);
+        assertTrue(cache.stats().evictions() > 0);
+    }
+
+    @Test
+    public void givenAnExpiredOrTooHeavyValue_whenCallsGetIfPresent_ShouldMiss() {
+        final var expiring = new TinyLfuCache<String, String>(100, 100, Duration.ZERO, value -> 1);
+        expiring.get("1", key -> Optional.of("Filmes"));
+
+        final var small = new TinyLfuCache<String, String>(100, 100, Duration.ofMinutes(1), value -> 1_000);
+        small.get("1", key -> Optional.of("Filmes"));
+
+        assertNull(expiring.getIfPresent("1"));
+        assertEquals(1, expiring.stats().evictions());
+        assertNull(small.getIfPresent("1"));
+        assertEquals(0, small.stats().size());
+    }
+}
@@ -0,0 +1,95 @@
+package com.ioliveira.catalogo.infrastructure.category;
+
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategorySnapshot;
+import com.ioliveira.catalogo.infrastructure.genre.CachingGenreGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingCategoryGatewayTest {
+
+    @Mock
+    private CategoryMySQLGateway delegate;
+
+    @Mock
+    private CachingGenreGateway genres;
+
+    private CachingCategoryGateway gateway;
+
+    @BeforeEach
+    public void setUp() {
+        this.gateway = new CachingCategoryGateway(delegate, genres, true, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindById_ShouldReadTheDelegateForTheCurrentVersion() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.findSnapshotById(category.getId())).thenReturn(Optional.of(CategorySnapshot.from(category)));
+        when(delegate.findById(category.getId())).thenReturn(Optional.of(category.clone()));
+
+        gateway.findSnapshotById(category.getId());
+        gateway.findById(category.getId());
+        gateway.findById(category.getId());
+
+        verify(delegate, times(2)).findById(category.getId());
+        verify(delegate, times(1)).findSnapshotById(category.getId());
+        assertEquals(0, gateway.stats().hits());
+        assertEquals(1, gateway.stats().misses());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindSnapshotById_ShouldShareTheCachedSnapshot() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.findSnapshotById(category.getId())).thenReturn(Optional.of(CategorySnapshot.from(category)));
+
+        final var first = gateway.findSnapshotById(category.getId()).get();
+        final var second = gateway.findSnapshotById(category.getId()).get();
+
+        assertSame(first, second);
+        verify(delegate, times(1)).findSnapshotById(category.getId());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdateOrDelete_ShouldReadItAgain() {
+        final var category = Category.newCategory("Filmes", null, true);
+        when(delegate.findSnapshotById(category.getId())).thenReturn(Optional.of(CategorySnapshot.from(category)));
+
+        gateway.findSnapshotById(category.getId());
+        gateway.update(category.clone().update("Séries", null, true));
+        gateway.findSnapshotById(category.getId());
+        gateway.deleteById(category.getId());
+        gateway.findSnapshotById(category.getId());
+
+        verify(delegate, times(3)).findSnapshotById(category.getId());
+        verify(genres).invalidateAll();
+    }
+
+    @Test
+    public void givenSomeCachedCategories_whenCallsFindByIds_ShouldReadOnlyTheOthers() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        when(delegate.findSnapshotById(filmes.getId())).thenReturn(Optional.of(CategorySnapshot.from(filmes)));
+        when(delegate.findByIds(List.of(series.getId()))).thenReturn(List.of(series));
+
+        gateway.findSnapshotById(filmes.getId());
+        final var actual = gateway.findByIds(List.of(series.getId(), filmes.getId(), series.getId()));
+
+        assertEquals(List.of(series.getId(), filmes.getId()), actual.stream().map(Category::getId).toList());
+        verify(delegate, times(1)).findByIds(List.of(series.getId()));
+    }
+}
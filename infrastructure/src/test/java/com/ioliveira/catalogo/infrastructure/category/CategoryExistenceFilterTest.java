@@ -0,0 +1,78 @@
+package com.ioliveira.catalogo.infrastructure.category;
+
+import com.ioliveira.catalogo.MySQLGatewayTest;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs without the test transaction, since the filter only takes writes once they commit.
+ */
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = "gateway.existence-filter.enabled=true")
+public class CategoryExistenceFilterTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategoryExistenceFilter categoryExistenceFilter;
+
+    @BeforeEach
+    public void setUp() {
+        this.categoryRepository.deleteAll();
+        this.categoryExistenceFilter.rebuild();
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        this.categoryRepository.deleteAll();
+    }
+
+    @Test
+    public void givenARowWrittenByAnotherInstance_whenCallsFindById_ShouldStillReadItFromTheTable() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        this.categoryRepository.saveAndFlush(CategoryJpaEntity.from(filmes));
+
+        assertEquals(filmes.getId(), this.categoryGateway.findById(filmes.getId()).get().getId());
+        assertEquals(List.of(filmes.getId()), this.categoryGateway.findByIds(List.of(filmes.getId())).stream()
+                .map(Category::getId)
+                .toList());
+        assertEquals(List.of(filmes.getId()), this.categoryGateway.existsByIds(List.of(filmes.getId())));
+    }
+
+    @Test
+    public void givenGatewayWrites_whenCallsExistsByIds_ShouldAnswerFromTheFilter() {
+        final var filmes = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = this.categoryGateway.create(Category.newCategory("Séries", null, true));
+        final var unknown = CategoryID.from("123");
+
+        // Rows removed behind the gateway's back are still known: the answer did not come from the table.
+        this.categoryRepository.deleteById(series.getId().getValue());
+        assertEquals(List.of(filmes.getId(), series.getId()),
+                this.categoryGateway.existsByIds(List.of(filmes.getId(), series.getId(), filmes.getId())));
+
+        this.categoryGateway.deleteById(filmes.getId());
+
+        assertTrue(this.categoryGateway.findById(filmes.getId()).isEmpty());
+        assertTrue(this.categoryGateway.existsByIds(List.of(filmes.getId(), unknown)).isEmpty());
+    }
+}
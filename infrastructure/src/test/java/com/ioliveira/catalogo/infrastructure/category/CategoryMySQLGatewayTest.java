@@ -4,18 +4,36 @@ import com.ioliveira.catalogo.MySQLGatewayTest;
 import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryGateway;
 import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
+import com.ioliveira.catalogo.domain.pagination.CountMode;
+import com.ioliveira.catalogo.domain.pagination.Pagination;
 import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import com.ioliveira.catalogo.domain.utils.InstantUtils;
 import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.ioliveira.catalogo.infrastructure.validators.VersionCache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MySQLGatewayTest
@@ -27,6 +45,12 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private VersionCache versionCache;
+
     @BeforeEach
     public void cleanUp() {
         this.categoryRepository.deleteAll();
@@ -105,6 +129,54 @@ public class CategoryMySQLGatewayTest {
         assertNull(entity.getDeletedAt());
     }
 
+    @Test
+    public void givenAPersistedCategory_whenCallsUpdate_shouldBumpTheVersion() {
+        final var category = categoryGateway.create(Category.newCategory("Film", null, true));
+        entityManager.flush();
+
+        final var loaded = categoryGateway.findById(category.getId()).get();
+        assertEquals(0L, loaded.getVersion());
+
+        final var updated = categoryGateway.update(loaded.clone().update("Filmes", null, true));
+
+        assertEquals(1L, updated.getVersion());
+        assertEquals(1L, categoryGateway.findById(category.getId()).get().getVersion());
+    }
+
+    @Test
+    public void givenGatewayReadsAndWrites_whenCallsThem_shouldKeepTheVersionCacheCurrent() {
+        final var category = Category.newCategory("Film", null, true);
+        final var id = category.getId().getValue();
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+        assertNull(versionCache.get(Category.class, id));
+
+        final var loaded = categoryGateway.findById(category.getId()).get();
+        assertEquals(0L, versionCache.get(Category.class, id));
+
+        categoryGateway.update(loaded.clone().update("Filmes", null, true));
+        assertEquals(1L, versionCache.get(Category.class, id));
+
+        categoryGateway.deleteById(category.getId());
+        assertNull(versionCache.get(Category.class, id));
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdate_shouldThrowVersionMismatchException() {
+        final var expectedErrorMessage = "Category ID %s is not at version 5";
+
+        final var category = categoryGateway.create(Category.newCategory("Film", null, true));
+        entityManager.flush();
+
+        final var stale = Category.with(category.getId(), "Filmes", null, true,
+                category.getCreatedAt(), InstantUtils.now(), null, 5L);
+
+        final var exception = assertThrows(VersionMismatchException.class, () -> categoryGateway.update(stale));
+
+        assertEquals(expectedErrorMessage.formatted(category.getId().getValue()), exception.getErrors().get(0).message());
+        assertEquals("Film", categoryRepository.findById(category.getId().getValue()).get().getName());
+    }
+
     @Test
     public void givenAValidCategoryId_whenCallsDelete_ShouldReturDeleteCategory() {
         final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
@@ -135,6 +207,39 @@ public class CategoryMySQLGatewayTest {
         assertEquals(1, categoryRepository.count());
     }
 
+    @Test
+    public void givenAValidCategoryId_whenCallsDelete_shouldDeleteWithoutLoadingIt() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        categoryGateway.deleteById(category.getId());
+
+        // One UPDATE bumping the version of linked genres and one DELETE.
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenSeveralIds_whenCallsDeleteByIds_shouldDeleteOnlyThoseCategories() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        categoryGateway.deleteByIds(List.of(filmes.getId(), documentarios.getId(), CategoryID.from("123")));
+
+        assertEquals(List.of(series.getId().getValue()),
+                categoryRepository.findAll().stream().map(CategoryJpaEntity::getId).toList());
+    }
+
     @Test
     public void givenAValidCategory_whenCallsFindById_ShouldReturACategory() {
         final var expectedName = "Filmes";
@@ -258,6 +363,112 @@ public class CategoryMySQLGatewayTest {
         assertEquals(series.getId(), result.items().get(0).getId());
     }
 
+    @Test
+    public void givenAPageBeyondTheLastOne_whenCallsFindAll_ShouldStillReturnTheExactTotal() {
+        final var expectedTotal = 2;
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var result = categoryGateway.findAll(new SearchQuery(5, 1, "", "name", "asc"));
+
+        assertEquals(5, result.currentPage());
+        assertEquals(expectedTotal, result.total());
+        assertEquals(0, result.items().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    public void givenAPagination_whenCallsFindAllWithNextCursor_ShouldSeekPastPreviousPage() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository
+                .saveAll(List.of(CategoryJpaEntity.from(filmes),
+                        CategoryJpaEntity.from(series),
+                        CategoryJpaEntity.from(documentarios))
+                );
+
+        var result = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+        assertEquals(expectedTotal, result.total());
+        assertEquals(documentarios.getId(), result.items().get(0).getId());
+        assertNotNull(result.nextCursor());
+
+        result = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", result.nextCursor(), CountMode.EXACT));
+        assertEquals(expectedPerPage, result.items().size());
+        assertEquals(filmes.getId(), result.items().get(0).getId());
+        assertNotNull(result.nextCursor());
+
+        result = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", result.nextCursor(), CountMode.EXACT));
+        assertEquals(expectedPerPage, result.items().size());
+        assertEquals(series.getId(), result.items().get(0).getId());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    public void givenACursorForAnotherSort_whenCallsFindAll_ShouldThrowDomainException() {
+        final var expectedErrorMessage = "'cursor' does not match sort 'description'";
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var cursor = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc")).nextCursor();
+
+        final var exception = assertThrows(DomainException.class,
+                () -> categoryGateway.findAll(new SearchQuery(0, 1, "", "description", "asc", cursor, CountMode.EXACT)));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenCountModeNone_whenCallsFindAll_ShouldSkipTotalAndReportHasNext() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", null, true))
+        ));
+
+        var result = categoryGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", null, CountMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, result.total());
+        assertEquals(2, result.items().size());
+        assertTrue(result.hasNext());
+
+        result = categoryGateway.findAll(new SearchQuery(1, 2, "", "name", "asc", null, CountMode.NONE));
+
+        assertEquals(Pagination.UNKNOWN_TOTAL, result.total());
+        assertEquals(1, result.items().size());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    public void givenCountModeEstimated_whenCallsFindAllTwice_ShouldReuseCachedTotal() {
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var query = new SearchQuery(0, 10, "estimated", "name", "asc", null, CountMode.ESTIMATED);
+        final var unfiltered = new SearchQuery(0, 10, "", "name", "asc", null, CountMode.ESTIMATED);
+
+        assertEquals(2, categoryGateway.findAll(unfiltered).total());
+
+        categoryRepository.save(CategoryJpaEntity.from(Category.newCategory("Documentários", null, true)));
+
+        assertEquals(2, categoryGateway.findAll(unfiltered).total());
+        assertEquals(3, categoryGateway.findAll(unfiltered).items().size());
+        assertEquals(0, categoryGateway.findAll(query).total());
+    }
+
     @Test
     public void givenPrepersistedCategoriesAndDocAsTerm_whenCallsFindAllSortingByName_ShouldReturPaginated() {
         final var expectedPage = 0;
@@ -320,6 +531,68 @@ public class CategoryMySQLGatewayTest {
         assertEquals(series.getId(), result.items().get(0).getId());
     }
 
+    @Test
+    public void givenPrepersistedCategories_whenCallsFindAllWithUnaccentedTerms_ShouldMatchAccentedNames() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var acao = Category.newCategory("Ação", "Filmes de AÇÃO", true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(acao),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var byName = categoryGateway.findAll(new SearchQuery(0, 10, "DOCUMENTARIOS", "name", "asc"));
+
+        assertEquals(1, byName.total());
+        assertEquals(documentarios.getId(), byName.items().get(0).getId());
+
+        final var byDescription = categoryGateway.findAll(new SearchQuery(0, 10, "acao", "name", "asc"));
+
+        assertEquals(1, byDescription.total());
+        assertEquals(acao.getId(), byDescription.items().get(0).getId());
+    }
+
+    @Test
+    public void givenASingleCharacterTerm_whenCallsFindAll_ShouldMatchAPrefixOfAnyField() {
+        final var filmes = Category.newCategory("Filmes", "Longas", true);
+        final var series = Category.newCategory("Séries", "Temporadas de ficção", true);
+        final var documentarios = Category.newCategory("Documentários", "Fatos reais", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var result = categoryGateway.findAll(new SearchQuery(0, 10, "f", "name", "asc"));
+
+        assertEquals(2, result.total());
+        assertEquals(documentarios.getId(), result.items().get(0).getId());
+        assertEquals(filmes.getId(), result.items().get(1).getId());
+    }
+
+    @Test
+    public void givenPrepersistedCategories_whenCallsSuggest_ShouldReturnNamesStartingWithThePrefix() {
+        final var acao = Category.newCategory("Ação", null, true);
+        final var animacao = Category.newCategory("Animação", null, true);
+        final var aventura = Category.newCategory("Aventura", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(aventura),
+                CategoryJpaEntity.from(animacao),
+                CategoryJpaEntity.from(acao)
+        ));
+
+        final var result = categoryGateway.suggest(new SuggestQuery("A", 2));
+
+        assertEquals(
+                List.of(new Suggestion(acao.getId().getValue(), "Ação"), new Suggestion(animacao.getId().getValue(), "Animação")),
+                result
+        );
+    }
+
     @Test
     public void givenPrepersistedCategories_whenCallsExistsByIds_ShouldReturIds() {
         final var filmes = Category.newCategory("Filmes", null, true);
@@ -346,4 +619,151 @@ public class CategoryMySQLGatewayTest {
                         && expectedIds.containsAll(result)
         );
     }
+
+    @Test
+    public void givenMoreIdsThanOneChunk_whenCallsExistsByIds_ShouldQueryThemInChunks() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        final var ids = new ArrayList<CategoryID>();
+        IntStream.range(0, 2_500).forEach(i -> ids.add(CategoryID.unique()));
+        ids.add(filmes.getId());
+        ids.add(1_500, series.getId());
+        ids.add(filmes.getId());
+
+        final var statistics = statistics();
+
+        final var result = categoryGateway.existsByIds(ids);
+
+        assertEquals(Set.of(filmes.getId(), series.getId()), Set.copyOf(result));
+        assertEquals(2, result.size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenListsOfCloseSizes_whenCallsExistsByIds_ShouldReuseTheQueryPlan() {
+        categoryGateway.existsByIds(List.of(CategoryID.unique(), CategoryID.unique(), CategoryID.unique()));
+
+        final var statistics = statistics();
+
+        categoryGateway.existsByIds(List.of(CategoryID.unique(), CategoryID.unique(), CategoryID.unique(),
+                CategoryID.unique()));
+
+        assertEquals(0, statistics.getQueryPlanCacheMissCount());
+    }
+
+    @Test
+    public void givenValidCategories_whenCallsCreateAll_ShouldInsertThemInOneJdbcBatch() {
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", "Em episódios", true),
+                Category.newCategory("Documentários", null, false)
+        );
+
+        entityManager.flush();
+        final var statistics = statistics();
+
+        final var created = categoryGateway.createAll(categories);
+
+        // Persisting skips the SELECT that save() runs for assigned IDs, so the three INSERTs share one prepared statement.
+        assertEquals(3, statistics.getEntityInsertCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        assertEquals(categories.stream().map(Category::getId).toList(), created.stream().map(Category::getId).toList());
+        assertEquals(3, categoryRepository.count());
+        assertEquals("em episodios", categoryRepository.findById(categories.get(1).getId().getValue()).get().getDescriptionSearch());
+    }
+
+    @Test
+    public void givenANewCategory_whenCallsCreate_shouldInsertWithoutSelectingFirst() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        entityManager.flush();
+        final var statistics = statistics();
+
+        categoryGateway.create(category);
+        entityManager.flush();
+
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsExportAll_shouldVisitEveryCategoryOrderedById() {
+        final var now = InstantUtils.now();
+        final var filmes = Category.with(CategoryID.unique(), "Filmes", "A categoria mais assistida", true, now, now, null);
+        final var series = Category.with(CategoryID.unique(), "Séries", null, false, now, now, now);
+        final var documentarios = Category.with(CategoryID.unique(), "Documentários", "Os menos assistidos", true, now, now, null);
+
+        categoryGateway.createAll(List.of(filmes, series, documentarios));
+
+        final var exported = new ArrayList<Category>();
+        categoryGateway.exportAll(exported::add);
+
+        final var expected = new ArrayList<>(List.of(filmes, series, documentarios));
+        expected.sort(Comparator.comparing(category -> category.getId().getValue()));
+
+        assertEquals(expected.stream().map(Category::getId).toList(), exported.stream().map(Category::getId).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getName(), exported.get(i).getName());
+            assertEquals(expected.get(i).getDescription(), exported.get(i).getDescription());
+            assertEquals(expected.get(i).isActive(), exported.get(i).isActive());
+            assertEquals(expected.get(i).getCreatedAt(), exported.get(i).getCreatedAt());
+            assertEquals(expected.get(i).getUpdatedAt(), exported.get(i).getUpdatedAt());
+            assertEquals(expected.get(i).getDeletedAt(), exported.get(i).getDeletedAt());
+        }
+    }
+
+    @Test
+    public void givenNoCategories_whenCallsExportAll_shouldVisitNothing() {
+        final var exported = new ArrayList<Category>();
+        categoryGateway.exportAll(exported::add);
+
+        assertTrue(exported.isEmpty());
+    }
+
+    @Test
+    public void givenSeveralIds_whenCallsFindByIds_ShouldReturnTheExistingOnesInOrderWithOneStatement() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentarios = Category.newCategory("Documentarios", null, true);
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        final var result = categoryGateway.findByIds(List.of(
+                series.getId(), CategoryID.unique(), filmes.getId(), series.getId()));
+
+        assertEquals(List.of(series.getId(), filmes.getId()), result.stream().map(Category::getId).toList());
+        assertEquals("Series", result.get(0).getName());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenNoIds_whenCallsFindByIds_ShouldNotQuery() {
+        final var statistics = statistics();
+
+        final var result = categoryGateway.findByIds(List.of());
+
+        assertTrue(result.isEmpty());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics statistics() {
+        final var statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
 }
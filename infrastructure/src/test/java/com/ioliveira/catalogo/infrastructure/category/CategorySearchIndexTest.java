@@ -0,0 +1,128 @@
+package com.ioliveira.catalogo.infrastructure.category;
+
+import com.ioliveira.catalogo.MySQLGatewayTest;
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.category.CategoryGateway;
+import com.ioliveira.catalogo.domain.pagination.SearchQuery;
+import com.ioliveira.catalogo.domain.pagination.SuggestQuery;
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.ioliveira.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.ioliveira.catalogo.infrastructure.search.SearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@MySQLGatewayTest
+@TestPropertySource(properties = "search.index.enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CategorySearchIndexTest {
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CategorySearchIndex categorySearchIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void cleanUp() {
+        this.categoryRepository.deleteAll();
+        this.categorySearchIndex.rebuild();
+    }
+
+    @Test
+    public void givenPrepersistedCategories_whenRebuilt_ShouldFindThemByRelevance() {
+        final var curtas = Category.newCategory("Curtas", "Filmes com menos de 40 minutos", true);
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        this.categoryRepository.saveAll(List.of(CategoryJpaEntity.from(curtas), CategoryJpaEntity.from(filmes)));
+        this.categorySearchIndex.rebuild();
+
+        final var result = this.categoryGateway.findAll(new SearchQuery(0, 10, "film", SearchIndex.RELEVANCE, "asc"));
+
+        assertEquals(2, result.total());
+        assertEquals(filmes.getId(), result.items().get(0).getId());
+        assertEquals(curtas.getId(), result.items().get(1).getId());
+    }
+
+    @Test
+    public void givenGatewayWrites_whenCallsFindAll_ShouldKeepTheIndexCurrent() {
+        final var acao = this.categoryGateway.create(Category.newCategory("Ação", null, true));
+        final var drama = this.categoryGateway.create(Category.newCategory("Drama", null, true));
+
+        assertEquals(1, this.categoryGateway.findAll(new SearchQuery(0, 10, "acao", "name", "asc")).total());
+
+        this.categoryGateway.update(acao.update("Aventura", null, true));
+        this.categoryGateway.deleteById(drama.getId());
+
+        assertTrue(this.categoryGateway.findAll(new SearchQuery(0, 10, "acao", "name", "asc")).items().isEmpty());
+        assertTrue(this.categoryGateway.findAll(new SearchQuery(0, 10, "drama", "name", "asc")).items().isEmpty());
+
+        final var result = this.categoryGateway.findAll(new SearchQuery(0, 10, "aventura", "name", "asc"));
+
+        assertEquals(1, result.total());
+        assertEquals(acao.getId(), result.items().get(0).getId());
+    }
+
+    @Test
+    public void givenGatewayWrites_whenCallsSuggest_ShouldReturnNamesFromTheIndex() {
+        final var filmes = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        this.categoryGateway.create(Category.newCategory("Séries", null, true));
+
+        final var result = this.categoryGateway.suggest(new SuggestQuery("FI", 10));
+
+        assertEquals(List.of(new Suggestion(filmes.getId().getValue(), "Filmes")), result);
+    }
+
+    @Test
+    public void givenARowWrittenByAnotherInstance_whenTheIndexHasNoHits_ShouldAskTheDatabase() {
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        this.categoryRepository.save(CategoryJpaEntity.from(documentarios));
+
+        final var result = this.categoryGateway.findAll(new SearchQuery(0, 10, "documentario", SearchIndex.RELEVANCE, "asc"));
+
+        assertEquals(1, result.total());
+        assertEquals(documentarios.getId(), result.items().get(0).getId());
+    }
+
+    @Test
+    public void givenRowsWrittenByAnotherInstance_whenRefreshed_ShouldRankThemWithTheOthers() {
+        final var filmes = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var curtas = Category.newCategory("Curtas", "Filmes com menos de 40 minutos", true);
+        this.categoryRepository.save(CategoryJpaEntity.from(curtas));
+
+        this.categorySearchIndex.refresh();
+
+        final var result = this.categoryGateway.findAll(new SearchQuery(0, 10, "film", SearchIndex.RELEVANCE, "asc"));
+
+        assertEquals(2, result.total());
+        assertEquals(filmes.getId(), result.items().get(0).getId());
+        assertEquals(curtas.getId(), result.items().get(1).getId());
+    }
+
+    @Test
+    public void givenAWriteRolledBack_whenCallsSuggest_ShouldNotReturnIt() {
+        new TransactionTemplate(this.transactionManager).executeWithoutResult(status -> {
+            this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(this.categoryGateway.suggest(new SuggestQuery("FI", 10)).isEmpty());
+    }
+}
@@ -0,0 +1,63 @@
+package com.ioliveira.catalogo.infrastructure.configuration;
+
+import com.ioliveira.catalogo.infrastructure.utils.SearchUtils;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MigrationsTest {
+
+    /**
+     * The H2 test profile never reads the vendor folder, so only resolving the MySQL locations together catches a
+     * version used in both.
+     */
+    @Test
+    public void givenTheMySQLLocations_whenResolvingMigrations_ShouldHaveOneMigrationPerVersion() {
+        final var flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:migrations;MODE=MYSQL;DATABASE_TO_LOWER=TRUE", "root", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/mysql")
+                .load();
+
+        final List<String> versions = Arrays.stream(flyway.info().all())
+                .map(MigrationInfo::getVersion)
+                .map(String::valueOf)
+                .toList();
+
+        assertEquals(versions.size(), Set.copyOf(versions).size(), () -> "Duplicate migration versions: " + versions);
+    }
+
+    @Test
+    public void givenRowsWrittenBeforeTheSearchColumns_whenMigrating_ShouldFoldThemLikeTheApplication() {
+        final var flyway = Flyway.configure()
+                .dataSource("jdbc:h2:mem:folding;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "root", "")
+                .locations("classpath:db/migration")
+                .target("3")
+                .load();
+        flyway.migrate();
+
+        final var jdbc = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+        jdbc.update("INSERT INTO category (id, name, description, active, created_at, updated_at) "
+                + "VALUES ('1', 'Ação Čeština', 'Série Ångström', TRUE, NOW(), NOW())");
+        jdbc.update("INSERT INTO genres (id, name, active, created_at, updated_at) "
+                + "VALUES ('1', 'Ficção Ŝtranĝa', TRUE, NOW(), NOW())");
+
+        Flyway.configure()
+                .configuration(flyway.getConfiguration())
+                .target("latest")
+                .load()
+                .migrate();
+
+        final var category = jdbc.queryForMap("SELECT name_search, description_search FROM category WHERE id = '1'");
+        assertEquals(SearchUtils.normalize("Ação Čeština"), category.get("name_search"));
+        assertEquals(SearchUtils.normalize("Série Ångström"), category.get("description_search"));
+        assertEquals(SearchUtils.normalize("Ficção Ŝtranĝa"),
+                jdbc.queryForObject("SELECT name_search FROM genres WHERE id = '1'", String.class));
+    }
+}
@@ -0,0 +1,56 @@
+package com.ioliveira.catalogo.infrastructure.existence;
+
+import com.ioliveira.catalogo.infrastructure.streaming.RowStreamer;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+public class ExistenceFilterTest {
+
+    @Test
+    public void givenADeleteCommittedWhileLoading_whenTheStreamStillReturnsTheRow_ShouldNotContainIt() {
+        final var rowStreamer = Mockito.mock(RowStreamer.class);
+        final var filter = new ExistenceFilter(true, rowStreamer, "category") {
+        };
+
+        doAnswer(invocation -> {
+            final RowCallbackHandler handler = invocation.getArgument(1);
+            filter.remove("deleted");
+            filter.put("created");
+            handler.processRow(row("kept"));
+            handler.processRow(row("deleted"));
+            return null;
+        }).when(rowStreamer).forEach(anyString(), any());
+
+        filter.rebuild();
+
+        assertTrue(filter.containsAll(List.of("kept", "created")));
+        assertFalse(filter.containsAll(List.of("deleted")));
+    }
+
+    @Test
+    public void givenAFilterThatIsNotLoaded_whenCallsContainsAll_ShouldNotTell() {
+        final var filter = new ExistenceFilter(true, Mockito.mock(RowStreamer.class), "category") {
+        };
+
+        filter.put("created");
+
+        assertFalse(filter.containsAll(List.of("created")));
+    }
+
+    private static ResultSet row(final String id) throws Exception {
+        final var row = Mockito.mock(ResultSet.class);
+        when(row.getString("id")).thenReturn(id);
+        return row;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ioliveira.catalogo.infrastructure.existence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IdSetTest {
+
+    @Test
+    public void givenManyIds_whenSomeAreRemoved_ShouldOnlyContainTheOthers() {
+        final var set = new IdSet();
+        final List<String> ids = IntStream.range(0, 10_000)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+
+        ids.forEach(set::add);
+        IntStream.range(0, ids.size()).filter(i -> i % 3 == 0).forEach(i -> set.remove(ids.get(i)));
+
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i % 3 != 0, set.contains(ids.get(i)));
+        }
+        assertEquals(ids.size() - (ids.size() + 2) / 3, set.size());
+        assertFalse(set.contains(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    public void givenIdsThatAreNotLowercaseUuids_whenAdded_ShouldStillBeFound() {
+        final var set = new IdSet();
+        final var uuid = UUID.randomUUID().toString();
+
+        assertTrue(set.add("123"));
+        assertFalse(set.add("123"));
+        assertTrue(set.add(uuid.toUpperCase()));
+        assertTrue(set.add(new UUID(0, 0).toString()));
+
+        assertTrue(set.contains("123"));
+        assertTrue(set.contains(uuid.toUpperCase()));
+        assertTrue(set.contains(new UUID(0, 0).toString()));
+        assertFalse(set.contains(uuid));
+        assertFalse(set.contains("1234"));
+        assertEquals(3, set.size());
+
+        assertTrue(set.remove(new UUID(0, 0).toString()));
+        assertFalse(set.contains(new UUID(0, 0).toString()));
+    }
+}
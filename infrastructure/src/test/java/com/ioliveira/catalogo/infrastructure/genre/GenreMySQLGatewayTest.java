@@ -3,22 +3,38 @@ package com.ioliveira.catalogo.infrastructure.genre;
 import com.ioliveira.catalogo.MySQLGatewayTest;
 import com.ioliveira.catalogo.domain.category.Category;
 import com.ioliveira.catalogo.domain.category.CategoryID;
+import com.ioliveira.catalogo.domain.exceptions.DomainException;
+import com.ioliveira.catalogo.domain.exceptions.VersionMismatchException;
 import com.ioliveira.catalogo.domain.genre.Genre;
 import com.ioliveira.catalogo.domain.genre.GenreID;
+import com.ioliveira.catalogo.domain.pagination.CountMode;
+import com.ioliveira.catalogo.domain.pagination.Pagination;
 import com.ioliveira.catalogo.domain.pagination.SearchQuery;
 import com.ioliveira.catalogo.infrastructure.category.CategoryMySQLGateway;
 import com.ioliveira.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.ioliveira.catalogo.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MySQLGatewayTest
@@ -33,6 +49,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @BeforeEach
     public void cleanUp() {
         this.genreRepository.deleteAll();
@@ -158,6 +177,78 @@ public class GenreMySQLGatewayTest {
         assertEquals(genre.getDeletedAt(), persistedGenre.getDeletedAt());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenAGenreNotPersisted_WhenCallsUpdate_ShouldCreateItAndEvictTheEstimatedCount() {
+        final var estimated = new SearchQuery(0, 10, "evicted", "name", "asc", null, CountMode.ESTIMATED);
+
+        assertEquals(0, genreMySQLGateway.findAll(estimated).total());
+
+        final var genre = Genre.newGenre("Evicted", true);
+        genreMySQLGateway.update(genre);
+
+        assertEquals(1, genreMySQLGateway.findAll(estimated).total());
+        assertEquals(genre.getId(), genreMySQLGateway.findById(genre.getId()).get().getId());
+
+        genreRepository.deleteAll();
+    }
+
+    @Test
+    public void givenAPersistedGenre_WhenCallsUpdate_ShouldBumpTheVersion() {
+        final var genre = genreMySQLGateway.create(Genre.newGenre("acc", true));
+        entityManager.flush();
+
+        final var loaded = genreMySQLGateway.findById(genre.getId()).get();
+        assertEquals(0L, loaded.getVersion());
+
+        final var updated = genreMySQLGateway.update(Genre.with(loaded).update("Ação", true, List.of()));
+
+        assertEquals(1L, updated.getVersion());
+    }
+
+    @Test
+    public void givenALinkedCategory_WhenCallsDeleteCategory_ShouldBumpTheGenreVersion() {
+        final var filmes = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        final var linked = genreMySQLGateway.create(Genre.newGenre("Ação", true).addCategory(filmes.getId()));
+        final var unlinked = genreMySQLGateway.create(Genre.newGenre("Drama", true));
+        entityManager.flush();
+
+        categoryMySQLGateway.deleteById(filmes.getId());
+
+        final var actualLinked = genreMySQLGateway.findById(linked.getId()).get();
+        assertEquals(1L, actualLinked.getVersion());
+        assertTrue(actualLinked.getCategories().isEmpty());
+        assertEquals(0L, genreMySQLGateway.findById(unlinked.getId()).get().getVersion());
+    }
+
+    @Test
+    public void givenAStaleVersion_WhenCallsUpdate_ShouldThrowVersionMismatchException() {
+        final var expectedErrorMessage = "Genre ID %s is not at version 5";
+
+        final var genre = genreMySQLGateway.create(Genre.newGenre("acc", true));
+        entityManager.flush();
+
+        final var stale = Genre.with(genre.getId(), "Ação", true, List.of(),
+                genre.getCreatedAt(), genre.getUpdatedAt(), null, 5L);
+
+        final var exception = assertThrows(VersionMismatchException.class, () -> genreMySQLGateway.update(stale));
+
+        assertEquals(expectedErrorMessage.formatted(genre.getId().getValue()), exception.getErrors().get(0).message());
+        assertEquals("acc", genreRepository.findById(genre.getId().getValue()).get().getName());
+    }
+
+    @Test
+    public void givenACategoryDeletedMeanwhile_WhenCallsCreate_ShouldThrowDomainException() {
+        final var expectedErrorMessage = "Some categories could not be found";
+
+        final var genre = Genre.newGenre("Ação", true);
+        genre.addCategories(List.of(CategoryID.from("deleted")));
+
+        final var exception = assertThrows(DomainException.class, () -> genreMySQLGateway.create(genre));
+
+        assertEquals(expectedErrorMessage, exception.getErrors().get(0).message());
+    }
+
     @Test
     public void givenAValidPersistedGenre_WhenCallsDeleteGenre_ShouldDeleteGenre() {
         final Genre genre = Genre.newGenre("Ação", true);
@@ -188,6 +279,43 @@ public class GenreMySQLGatewayTest {
         assertEquals(1, genreRepository.count());
     }
 
+    @Test
+    public void givenAPersistedGenreWithCategories_WhenCallsDeleteGenre_ShouldIssueASingleDelete() {
+        final var genre = Genre.newGenre("Ação", true);
+        genre.addCategories(createCategories(2));
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        genreMySQLGateway.deleteById(genre.getId());
+
+        // The links are removed by ON DELETE CASCADE, without being loaded.
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, genreRepository.count());
+    }
+
+    @Test
+    public void givenSeveralIds_WhenCallsDeleteByIds_ShouldDeleteOnlyThoseGenres() {
+        final var categories = createCategories(1);
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(categories);
+        final var drama = Genre.newGenre("Drama", true);
+        final var terror = Genre.newGenre("Terror", true);
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao),
+                GenreJpaEntity.from(drama),
+                GenreJpaEntity.from(terror)
+        ));
+
+        genreMySQLGateway.deleteByIds(List.of(acao.getId(), terror.getId(), GenreID.from("123")));
+
+        assertEquals(List.of(drama.getId().getValue()),
+                genreRepository.findAll().stream().map(GenreJpaEntity::getId).toList());
+    }
+
     @Test
     public void givenAPersistedGenre_WhenCallsFindById_ShouldReturnAGenre() {
         final var expectedName = "Ação";
@@ -278,6 +406,280 @@ public class GenreMySQLGatewayTest {
         assertEquals(expectedGenreName, result.items().get(0).getName());
     }
 
+    @Test
+    public void givenPrepersistedGenres_WhenCallsFindAllWithNextCursor_ShouldSeekPastPreviousPage() {
+        mockGenres();
+
+        var result = genreMySQLGateway.findAll(new SearchQuery(0, 2, "", "name", "desc"));
+
+        assertEquals(3, result.total());
+        assertEquals(List.of("Drama", "Comédia"), result.items().stream().map(Genre::getName).toList());
+        assertNotNull(result.nextCursor());
+
+        result = genreMySQLGateway.findAll(new SearchQuery(0, 2, "", "name", "desc", result.nextCursor(), CountMode.EXACT));
+
+        assertEquals(3, result.total());
+        assertEquals(List.of("Ação"), result.items().stream().map(Genre::getName).toList());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    public void givenGenresWithCategories_WhenCallsFindAll_ShouldRunASingleStatementWithoutCategories() {
+        final var filmes = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryMySQLGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(filmes.getId()));
+
+        genreRepository.saveAllAndFlush(List.of(GenreJpaEntity.from(acao), GenreJpaEntity.from(drama)));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        final var result = genreMySQLGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        assertEquals(2, result.total());
+        assertTrue(result.items().stream().allMatch(genre -> genre.getCategories().isEmpty()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_WhenCallsFindById_ShouldLoadItWithASingleStatement() {
+        final var filmes = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryMySQLGateway.create(Category.newCategory("Séries", null, true));
+
+        final var genre = Genre.newGenre("Ação", true);
+        genre.addCategories(List.of(filmes.getId(), series.getId()));
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        final var actualGenre = genreMySQLGateway.findById(genre.getId()).get();
+
+        assertEquals(2, actualGenre.getCategories().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_WhenCallsUpdate_ShouldWriteOnlyTheChangedLinks() {
+        final var filmes = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryMySQLGateway.create(Category.newCategory("Séries", null, true));
+
+        final var documentarios = categoryMySQLGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var genre = Genre.newGenre("acc", true);
+        genre.addCategories(List.of(filmes.getId(), series.getId()));
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        genreMySQLGateway.update(Genre.with(genre).update("Ação", true, List.of(filmes.getId(), documentarios.getId())));
+        entityManager.flush();
+
+        // The genre row select, the bulk DELETE of the removed link, the UPDATE of the genre and the INSERT of the added link.
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+
+        entityManager.clear();
+
+        assertEquals(
+                Set.of(filmes.getId(), documentarios.getId()),
+                Set.copyOf(genreRepository.findById(genre.getId().getValue()).get().getCategoryIDs())
+        );
+    }
+
+    @Test
+    public void givenAGenreWithCategories_WhenCallsFindByIdWithCategoriesIn_ShouldReturnOnlyTheLinkedOnesAsked() {
+        final var filmes = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryMySQLGateway.create(Category.newCategory("Séries", null, true));
+        final var documentarios = categoryMySQLGateway.create(Category.newCategory("Documentários", null, true));
+
+        final var genre = Genre.newGenre("Ação", true);
+        genre.addCategories(List.of(filmes.getId(), series.getId()));
+
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var actualGenre = genreMySQLGateway
+                .findByIdWithCategoriesIn(genre.getId(), List.of(series.getId(), documentarios.getId()))
+                .get();
+
+        assertEquals(genre.getId(), actualGenre.getId());
+        assertEquals(genre.getName(), actualGenre.getName());
+        assertEquals(List.of(series.getId()), actualGenre.getCategories());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_WhenCallsFindByIdWithFirstCategories_ShouldLoadOnlyTheFirstOnes() {
+        final var categories = createCategories(3);
+
+        final var genre = Genre.newGenre("Ação", true).addCategories(categories);
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var sorted = categories.stream().sorted(Comparator.comparing(CategoryID::getValue)).toList();
+
+        assertEquals(sorted.subList(0, 2),
+                genreMySQLGateway.findByIdWithFirstCategories(genre.getId(), 2).get().getCategories());
+        assertEquals(List.of(),
+                genreMySQLGateway.findByIdWithFirstCategories(genre.getId(), 0).get().getCategories());
+    }
+
+    @Test
+    public void givenAGenreWithCategories_WhenCallsFindCategoriesWithNextCursor_ShouldSeekPastPreviousPage() {
+        final var categories = createCategories(5);
+
+        final var genre = Genre.newGenre("Ação", true).addCategories(categories);
+        genreRepository.saveAndFlush(GenreJpaEntity.from(genre));
+        entityManager.clear();
+
+        final var sorted = categories.stream().sorted(Comparator.comparing(CategoryID::getValue)).toList();
+
+        final var first = genreMySQLGateway.findCategories(genre.getId(), null, 2).get();
+        final var second = genreMySQLGateway.findCategories(genre.getId(), first.nextCursor(), 2).get();
+        final var third = genreMySQLGateway.findCategories(genre.getId(), second.nextCursor(), 2).get();
+
+        assertEquals(sorted.subList(0, 2), first.items());
+        assertEquals(sorted.subList(2, 4), second.items());
+        assertEquals(sorted.subList(4, 5), third.items());
+        assertEquals(Pagination.UNKNOWN_TOTAL, first.total());
+        assertTrue(second.hasNext());
+        assertFalse(third.hasNext());
+        assertNull(third.nextCursor());
+    }
+
+    @Test
+    public void givenAnInvalidId_WhenCallsFindCategories_ShouldReturnEmpty() {
+        assertTrue(genreMySQLGateway.findCategories(GenreID.from("123"), null, 10).isEmpty());
+    }
+
+    @Test
+    public void givenGenresWithCategories_WhenCallsCreateAll_ShouldInsertGenresAndLinksInBatches() {
+        final var categories = createCategories(2);
+
+        final var genres = List.of(
+                Genre.newGenre("Ação", true).addCategories(categories),
+                Genre.newGenre("Drama", true).addCategories(categories.subList(0, 1)),
+                Genre.newGenre("Terror", false)
+        );
+
+        entityManager.flush();
+        final var statistics = statistics();
+
+        genreMySQLGateway.createAll(genres);
+
+        // One batched INSERT into genres and one into genres_categories, no SELECT before them.
+        assertEquals(6, statistics.getEntityInsertCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        assertEquals(3, genreRepository.count());
+        assertEquals(Set.copyOf(categories),
+                Set.copyOf(genreRepository.findById(genres.get(0).getId().getValue()).get().getCategoryIDs()));
+    }
+
+    @Test
+    public void givenANewGenreWithCategories_whenCallsCreate_shouldInsertWithoutSelectingFirst() {
+        final var categories = createCategories(2);
+        final var genre = Genre.newGenre("Ação", true);
+        genre.addCategories(categories);
+
+        entityManager.flush();
+        final var statistics = statistics();
+
+        genreMySQLGateway.create(genre);
+        entityManager.flush();
+
+        // One INSERT into genres and one batched INSERT for both links.
+        assertEquals(3, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, genreRepository.count());
+    }
+
+    @Test
+    public void givenGenresWithAndWithoutCategories_whenCallsExportAll_shouldGroupCategoriesPerGenreOrderedById() {
+        final var categories = createCategories(3);
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(categories.get(2), categories.get(0)));
+        final var drama = Genre.newGenre("Drama", false);
+        final var terror = Genre.newGenre("Terror", true);
+        terror.addCategories(List.of(categories.get(1)));
+
+        genreMySQLGateway.createAll(List.of(acao, drama, terror));
+
+        final var exported = new ArrayList<Genre>();
+        genreMySQLGateway.exportAll(exported::add);
+
+        final var expected = new ArrayList<>(List.of(acao, drama, terror));
+        expected.sort(Comparator.comparing(genre -> genre.getId().getValue()));
+
+        assertEquals(expected.stream().map(Genre::getId).toList(), exported.stream().map(Genre::getId).toList());
+        for (int i = 0; i < expected.size(); i++) {
+            final var expectedCategories = expected.get(i).getCategories().stream()
+                    .sorted(Comparator.comparing(CategoryID::getValue))
+                    .toList();
+
+            assertEquals(expected.get(i).getName(), exported.get(i).getName());
+            assertEquals(expected.get(i).isActive(), exported.get(i).isActive());
+            assertEquals(expectedCategories, exported.get(i).getCategories());
+            assertEquals(expected.get(i).getCreatedAt(), exported.get(i).getCreatedAt());
+            assertEquals(expected.get(i).getDeletedAt(), exported.get(i).getDeletedAt());
+        }
+    }
+
+    private List<CategoryID> createCategories(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> categoryMySQLGateway.create(Category.newCategory("Categoria " + i, null, true)).getId())
+                .toList();
+    }
+
+    @Test
+    public void givenGenresWithCategories_WhenCallsFindByIds_ShouldLoadThemInOrderWithASingleStatement() {
+        final var filmes = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        final var series = categoryMySQLGateway.create(Category.newCategory("Séries", null, true));
+
+        final var acao = Genre.newGenre("Ação", true);
+        acao.addCategories(List.of(filmes.getId(), series.getId()));
+        final var drama = Genre.newGenre("Drama", true);
+        drama.addCategories(List.of(filmes.getId()));
+        final var terror = Genre.newGenre("Terror", true);
+
+        genreRepository.saveAllAndFlush(List.of(
+                GenreJpaEntity.from(acao), GenreJpaEntity.from(drama), GenreJpaEntity.from(terror)));
+        entityManager.clear();
+
+        final var statistics = statistics();
+
+        final var result = genreMySQLGateway.findByIds(List.of(
+                terror.getId(), GenreID.unique(), acao.getId(), drama.getId()));
+
+        assertEquals(List.of(terror.getId(), acao.getId(), drama.getId()), result.stream().map(Genre::getId).toList());
+        assertEquals(Set.of(filmes.getId(), series.getId()), Set.copyOf(result.get(1).getCategories()));
+        assertEquals(List.of(filmes.getId()), result.get(2).getCategories());
+        assertTrue(result.get(0).getCategories().isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Statistics statistics() {
+        final var statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
     private void mockGenres() {
         genreRepository.saveAllAndFlush(List.of(
                 GenreJpaEntity.from(Genre.newGenre("Comédia", true)),
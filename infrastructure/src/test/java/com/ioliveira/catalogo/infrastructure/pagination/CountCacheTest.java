@@ -0,0 +1,43 @@
+package com.ioliveira.catalogo.infrastructure.pagination;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CountCacheTest {
+
+    @Test
+    public void givenAWriteNotCommittedYet_whenEvicting_ShouldKeepTheCountUntilTheCommit() {
+        final var cache = new CountCache(Duration.ofMinutes(1));
+        cache.get("category", null, () -> 1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict("category");
+
+            assertEquals(1, cache.get("category", null, () -> 2));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(3, cache.get("category", null, () -> 3));
+    }
+
+    @Test
+    public void givenAnEvictionWhileCounting_whenCallsGet_ShouldNotKeepTheCount() {
+        final var cache = new CountCache(Duration.ofMinutes(1));
+
+        assertEquals(1, cache.get("category", null, () -> {
+            cache.evict("category");
+            return 1;
+        }));
+
+        assertEquals(2, cache.get("category", null, () -> 2));
+    }
+}
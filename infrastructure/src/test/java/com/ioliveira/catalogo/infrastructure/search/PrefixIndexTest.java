@@ -0,0 +1,41 @@
+package com.ioliveira.catalogo.infrastructure.search;
+
+import com.ioliveira.catalogo.domain.pagination.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PrefixIndexTest {
+
+    @Test
+    public void givenIndexedNames_whenSuggesting_ShouldReturnTheFirstNamesForThePrefix() {
+        final var index = new PrefixIndex();
+        index.put("1", "Filmes de ação");
+        index.put("2", "Ficção");
+        index.put("3", "Filmes");
+        index.put("4", "Documentários");
+
+        assertEquals(
+                List.of(new Suggestion("3", "Filmes"), new Suggestion("1", "Filmes de ação")),
+                index.suggest("FIL", 10)
+        );
+        assertEquals(List.of(new Suggestion("2", "Ficção")), index.suggest("ficc", 10));
+        assertEquals(1, index.suggest("f", 1).size());
+    }
+
+    @Test
+    public void givenARenamedOrRemovedName_whenSuggesting_ShouldOnlyReturnTheCurrentNames() {
+        final var index = new PrefixIndex();
+        index.put("1", "Filmes");
+        index.put("1", "Séries");
+        index.put("2", "Documentários");
+        index.remove("2");
+
+        assertTrue(index.suggest("fil", 10).isEmpty());
+        assertTrue(index.suggest("doc", 10).isEmpty());
+        assertEquals(List.of(new Suggestion("1", "Séries")), index.suggest("se", 10));
+    }
+}
@@ -0,0 +1,82 @@
+package com.ioliveira.catalogo.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchIndexTest {
+
+    private static final BiFunction<Instant, Pageable, Page<Doc>> NOTHING_UPDATED = (since, page) -> Page.empty(page);
+
+    @Test
+    public void givenADeleteCommittedWhileLoading_whenTheChunkStillReturnsTheRow_ShouldNotFindIt() {
+        final var self = new AtomicReference<DocIndex>();
+        final var index = new DocIndex(page -> {
+            self.get().remove("2");
+            self.get().put(new Doc("3", "Filmes de ação"));
+            return new PageImpl<>(List.of(new Doc("1", "Filmes"), new Doc("2", "Filmes antigos")), page, 2);
+        }, NOTHING_UPDATED);
+        self.set(index);
+
+        index.rebuild();
+
+        assertEquals(List.of("1", "3"), index.search("filmes").orElseThrow());
+    }
+
+    @Test
+    public void givenARowUpdatedElsewhere_whenRefreshed_ShouldFindItByItsNewText() {
+        final var index = new DocIndex(page -> new PageImpl<>(List.of(new Doc("1", "Filmes")), page, 1),
+                (since, page) -> new PageImpl<>(List.of(new Doc("1", "Séries"), new Doc("2", "Filmes")), page, 2));
+        index.rebuild();
+
+        index.refresh();
+
+        assertEquals(List.of("2"), index.search("filmes").orElseThrow());
+        assertEquals(List.of("1"), index.search("series").orElseThrow());
+    }
+
+    @Test
+    public void givenNoHits_whenSearching_ShouldLeaveItToTheDatabase() {
+        final var index = new DocIndex(page -> new PageImpl<>(List.of(new Doc("1", "Filmes")), page, 1), NOTHING_UPDATED);
+        index.rebuild();
+
+        assertTrue(index.search("series").isEmpty());
+    }
+
+    private record Doc(String id, String name) {
+    }
+
+    private static final class DocIndex extends SearchIndex<Doc> {
+
+        private DocIndex(final Function<Pageable, Page<Doc>> loader,
+                         final BiFunction<Instant, Pageable, Page<Doc>> updatedSince) {
+            super(true, loader, updatedSince, Duration.ofHours(1));
+        }
+
+        @Override
+        protected String idOf(final Doc entity) {
+            return entity.id();
+        }
+
+        @Override
+        protected String nameOf(final Doc entity) {
+            return entity.name();
+        }
+
+        @Override
+        protected String[] textsOf(final Doc entity) {
+            return new String[]{entity.name()};
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ioliveira.catalogo.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void givenIndexedDocuments_whenSearching_ShouldRankNameMatchesFirst() {
+        final var index = new TrigramIndex();
+        index.put("1", "Filmes de ação", null);
+        index.put("2", "Documentários", "Filmes baseados em fatos");
+        index.put("3", "Filmes", "A categoria mais assistida");
+        index.put("4", "Curtas", "Filmes com menos de 40 minutos");
+        index.put("5", "Séries", null);
+
+        assertEquals(List.of("3", "1", "4", "2"), index.search("FILMES"));
+        assertEquals(List.of("1"), index.search("acao"));
+    }
+
+    @Test
+    public void givenTrigramsInDifferentPlaces_whenSearching_ShouldNotReturnFalsePositives() {
+        final var index = new TrigramIndex();
+        index.put("1", "abc bcd");
+
+        assertTrue(index.search("abcd").isEmpty());
+        assertEquals(List.of("1"), index.search("c bc"));
+    }
+
+    @Test
+    public void givenAnUpdatedDocument_whenSearching_ShouldOnlyMatchTheNewText() {
+        final var index = new TrigramIndex();
+        index.put("1", "Filmes");
+        index.put("1", "Séries");
+
+        assertEquals(1, index.size());
+        assertTrue(index.search("filmes").isEmpty());
+        assertEquals(List.of("1"), index.search("series"));
+
+        index.remove("1");
+
+        assertEquals(0, index.size());
+        assertTrue(index.search("series").isEmpty());
+    }
+
+    @Test
+    public void givenManyUpdatesAndDeletes_whenSearching_ShouldReuseDocumentNumbers() {
+        final var index = new TrigramIndex();
+        index.put("1", "Filmes de ação");
+        index.put("2", "Séries");
+
+        IntStream.range(0, 10_000).forEach(i -> {
+            index.put("3", "Documentários " + i);
+            index.put("tmp-" + i, "Curtas");
+            index.remove("tmp-" + i);
+        });
+
+        assertEquals(3, index.size());
+        assertTrue(index.slots() <= 3 + 1_024, "slots: " + index.slots());
+        assertEquals(List.of("1"), index.search("acao"));
+        assertEquals(List.of("3"), index.search("documentarios 9999"));
+        assertTrue(index.search("curtas").isEmpty());
+        assertEquals(List.of("2"), index.search("series"));
+    }
+
+    @Test
+    public void givenATermShorterThanATrigram_whenSearching_ShouldReturnEmpty() {
+        final var index = new TrigramIndex();
+        index.put("1", "Filmes");
+
+        assertTrue(index.search("fi").isEmpty());
+    }
+}
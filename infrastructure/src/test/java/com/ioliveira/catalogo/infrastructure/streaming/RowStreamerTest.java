@@ -0,0 +1,90 @@
+package com.ioliveira.catalogo.infrastructure.streaming;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RowStreamerTest {
+
+    private static final String URL = "jdbc:h2:mem:streamer;DB_CLOSE_DELAY=-1";
+
+    @Test
+    public void givenAPoolOfItsOwn_whenStreaming_ShouldReadThroughItAndCloseItWithTheStreamer() {
+        final var jdbc = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        jdbc.execute("CREATE TABLE items (id INT PRIMARY KEY)");
+        jdbc.batchUpdate("INSERT INTO items VALUES (?)", List.of(new Object[]{1}, new Object[]{2}, new Object[]{3}));
+
+        final var pool = new HikariConfig();
+        pool.setJdbcUrl(URL);
+        pool.setUsername("sa");
+        pool.setReadOnly(true);
+        pool.setMaximumPoolSize(1);
+
+        final var streamer = new RowStreamer(pool, 2);
+        final var ids = new ArrayList<Integer>();
+        streamer.forEach("SELECT id FROM items ORDER BY id", row -> ids.add(row.getInt("id")));
+        streamer.close();
+
+        assertEquals(List.of(1, 2, 3), ids);
+        assertThrows(Exception.class, () -> streamer.forEach("SELECT id FROM items", row -> ids.add(row.getInt("id"))));
+    }
+
+    @Test
+    public void givenAMySQLConnectionWithoutCursorFetch_whenStreaming_ShouldStreamRowByRow() throws Exception {
+        final var statement = mySQLStatement("jdbc:mysql://localhost:3306/catalog?rewriteBatchedStatements=true");
+
+        new RowStreamer(dataSourceOf(statement), 1_000).forEach("SELECT id FROM category", row -> {
+        });
+
+        verify(statement).setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @Test
+    public void givenAMySQLConnectionWithCursorFetch_whenStreaming_ShouldFetchInChunks() throws Exception {
+        final var statement = mySQLStatement("jdbc:mysql://localhost:3306/catalog?useCursorFetch=true");
+
+        new RowStreamer(dataSourceOf(statement), 1_000).forEach("SELECT id FROM category", row -> {
+        });
+
+        verify(statement).setFetchSize(1_000);
+    }
+
+    private static PreparedStatement mySQLStatement(final String url) throws Exception {
+        final var statement = Mockito.mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(Mockito.mock(ResultSet.class));
+
+        final var metadata = Mockito.mock(DatabaseMetaData.class);
+        when(metadata.getDatabaseProductName()).thenReturn("MySQL");
+        when(metadata.getURL()).thenReturn(url);
+
+        final var connection = Mockito.mock(Connection.class);
+        when(connection.getMetaData()).thenReturn(metadata);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.getConnection()).thenReturn(connection);
+        return statement;
+    }
+
+    private static DataSource dataSourceOf(final PreparedStatement statement) throws Exception {
+        final var dataSource = Mockito.mock(DataSource.class);
+        final Connection connection = statement.getConnection();
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ioliveira.catalogo.infrastructure.validators;
+
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ListValidatorsTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2022-05-01T10:00:00.123456Z");
+
+    @Test
+    public void givenARegisteredTable_whenCallsCurrentTwice_ShouldQueryItOnlyOnce() {
+        final var jdbcTemplate = mockedJdbc(new ListValidator(3, LAST_MODIFIED));
+        final var validators = new ListValidators(jdbcTemplate, Duration.ofMinutes(1));
+        validators.register(Category.class, "category");
+
+        final var first = validators.current(Category.class);
+        final var second = validators.current(Category.class);
+
+        assertEquals(first, second);
+        assertEquals("W/\"3-1651399200123456\"", first.etag());
+        assertNull(validators.current(Genre.class));
+        verify(jdbcTemplate, times(1)).queryForObject(eq("SELECT COUNT(*) AS total, MAX(updated_at) AS last_modified FROM category"), ArgumentMatchers.<RowMapper<ListValidator>>any());
+    }
+
+    @Test
+    public void givenAWriteOutsideATransaction_whenCallsCurrent_ShouldReturnAMovedValidatorWithoutQuerying() {
+        final var jdbcTemplate = mockedJdbc(new ListValidator(3, LAST_MODIFIED));
+        final var validators = new ListValidators(jdbcTemplate, Duration.ofMinutes(1));
+        validators.register(Category.class, "category");
+
+        final var before = validators.current(Category.class);
+        validators.changed(Category.class, -1);
+        final var after = validators.current(Category.class);
+
+        assertEquals(2, after.count());
+        assertTrue(after.lastModified().isAfter(before.lastModified()));
+        assertNotEquals(before.etag(), after.etag());
+        verify(jdbcTemplate, times(1)).queryForObject(any(String.class), ArgumentMatchers.<RowMapper<ListValidator>>any());
+    }
+
+    @Test
+    public void givenAZeroTtl_whenCallsCurrent_ShouldReturnNull() {
+        final var jdbcTemplate = mockedJdbc(new ListValidator(0, null));
+        final var validators = new ListValidators(jdbcTemplate, Duration.ZERO);
+        validators.register(Category.class, "category");
+
+        assertNull(validators.current(Category.class));
+        assertEquals("W/\"0-0\"", new ListValidator(0, null).etag());
+    }
+
+    private static JdbcTemplate mockedJdbc(final ListValidator validator) {
+        final var jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(any(String.class), ArgumentMatchers.<RowMapper<ListValidator>>any())).thenReturn(validator);
+        return jdbcTemplate;
+    }
+}
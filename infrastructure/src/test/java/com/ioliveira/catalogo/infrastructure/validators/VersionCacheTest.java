@@ -0,0 +1,38 @@
+package com.ioliveira.catalogo.infrastructure.validators;
+
+import com.ioliveira.catalogo.domain.category.Category;
+import com.ioliveira.catalogo.domain.genre.Genre;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class VersionCacheTest {
+
+    @Test
+    public void givenCachedVersions_whenCallsGet_ShouldReturnTheHighestVersionPerAggregateType() {
+        final var cache = new VersionCache(Duration.ofMinutes(1));
+        cache.put(Category.class, "123", 4L);
+        cache.put(Category.class, "123", 3L);
+        cache.put(Genre.class, "123", 1L);
+
+        assertEquals(4L, cache.get(Category.class, "123"));
+        assertEquals(1L, cache.get(Genre.class, "123"));
+        assertNull(cache.get(Category.class, "456"));
+    }
+
+    @Test
+    public void givenARemovedOrExpiredVersion_whenCallsGet_ShouldReturnNull() {
+        final var cache = new VersionCache(Duration.ofMinutes(1));
+        cache.put(Category.class, "123", 4L);
+        cache.remove(Category.class, "123");
+
+        final var disabled = new VersionCache(Duration.ZERO);
+        disabled.put(Category.class, "123", 4L);
+
+        assertNull(cache.get(Category.class, "123"));
+        assertNull(disabled.get(Category.class, "123"));
+    }
+}
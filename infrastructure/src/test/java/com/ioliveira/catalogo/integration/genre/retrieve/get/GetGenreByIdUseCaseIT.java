@@ -1,6 +1,7 @@
 package com.ioliveira.catalogo.integration.genre.retrieve.get;
 
 import com.ioliveira.catalogo.IntegrationTest;
+import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenreByIdCommand;
 import com.ioliveira.catalogo.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.ioliveira.catalogo.domain.genre.Genre;
 import com.ioliveira.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
@@ -48,7 +49,7 @@ public class GetGenreByIdUseCaseIT {
 
         assertEquals(3, genreRepository.count());
 
-        final var output = useCase.execute(expectedId.getValue());
+        final var output = useCase.execute(GetGenreByIdCommand.with(expectedId.getValue()));
 
         assertNotNull(output);
         assertEquals(expectedId.getValue(), output.id());